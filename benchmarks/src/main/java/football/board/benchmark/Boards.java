@@ -0,0 +1,77 @@
+package football.board.benchmark;
+
+import football.board.entity.Team;
+import football.board.service.ValidatedBoardService;
+import football.board.service.impl.ConcurrentFootballService;
+import football.board.service.impl.FootballWorldScoreBoardService;
+import football.board.service.impl.SnapshotFootballService;
+import football.board.service.impl.StampedLockFootballService;
+import football.board.service.impl.StripedConcurrentFootballService;
+import football.board.storage.ConcurrentScoreBoardStorage;
+import football.board.storage.FootballWorldScoreBoardStorage;
+import football.board.storage.IndexedScoreBoardStorage;
+import football.board.storage.OffHeapScoreBoardStorage;
+import football.board.storage.OrderedScoreBoardStorage;
+import football.board.storage.Storage;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Creates the services and storages measured by the benchmarks from their {@code @Param} names.
+ */
+final class Boards {
+
+    private Boards() {
+    }
+
+    static ValidatedBoardService newService(String name) {
+        switch (name) {
+            case "FootballWorldScoreBoardService":
+                return new FootballWorldScoreBoardService();
+            case "ConcurrentFootballService":
+                return new ConcurrentFootballService();
+            case "StripedConcurrentFootballService":
+                return new StripedConcurrentFootballService();
+            case "LockedConcurrentStorageService":
+                return new ConcurrentFootballService(new ConcurrentScoreBoardStorage());
+            case "SnapshotFootballService":
+                return new SnapshotFootballService();
+            case "StampedLockFootballService":
+                return new StampedLockFootballService();
+            default:
+                throw new IllegalArgumentException("Unknown service: " + name);
+        }
+    }
+
+    static Storage newStorage(String name) {
+        switch (name) {
+            case "FootballWorldScoreBoardStorage":
+                return new FootballWorldScoreBoardStorage();
+            case "IndexedScoreBoardStorage":
+                return new IndexedScoreBoardStorage();
+            case "OrderedScoreBoardStorage":
+                return new OrderedScoreBoardStorage();
+            case "ConcurrentScoreBoardStorage":
+                return new ConcurrentScoreBoardStorage();
+            case "OffHeapScoreBoardStorage":
+                return new OffHeapScoreBoardStorage();
+            default:
+                throw new IllegalArgumentException("Unknown storage: " + name);
+        }
+    }
+
+    /**
+     * Starts {@code size} matches with random scores, as on a board in the middle of a matchday.
+     *
+     * @return The UUIDs of the started matches.
+     */
+    static UUID[] fill(ValidatedBoardService service, int size, Random random) {
+        UUID[] matchUuids = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            matchUuids[i] = service.newMatch(new Team("Home " + i), new Team("Away " + i));
+            service.updateScore(matchUuids[i], random.nextInt(5), random.nextInt(5));
+        }
+        return matchUuids;
+    }
+}
@@ -0,0 +1,115 @@
+package football.board.benchmark;
+
+import football.board.codec.MatchDecoder;
+import football.board.codec.MatchEncoder;
+import football.board.entity.Match;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary {@link MatchEncoder}/{@link MatchDecoder} codec with Java serialization for pushing a whole
+ * summary. Every invocation is one stream: the codec starts with an empty team dictionary, as a new
+ * {@link ObjectOutputStream} starts with an empty handle table. The encoded sizes are printed on setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"1000"})
+    int boardSize;
+
+    List<Match> summary;
+
+    MatchEncoder encoder;
+
+    MatchDecoder decoder;
+
+    ByteBuffer buffer;
+
+    ByteBuffer encoded;
+
+    byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < boardSize * 2; i++) {
+            teams.add(new Team("Team " + i));
+        }
+        summary = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            summary.add(new Match(teams.get(2 * i), teams.get(2 * i + 1)).withScore(random.nextInt(5), random.nextInt(5)));
+        }
+        summary.sort(Match.getSortComparator());
+        encoder = new MatchEncoder();
+        decoder = new MatchDecoder();
+        buffer = ByteBuffer.allocateDirect(boardSize * 128);
+        encoder.encodeSnapshot(new SummarySnapshot(1, summary), buffer);
+        encoded = ByteBuffer.allocate(buffer.position());
+        encoded.put(buffer.flip()).flip();
+        serialized = javaSerialize(summary);
+        System.out.printf("%nbinary codec: %d bytes, java serialization: %d bytes%n", encoded.remaining(), serialized.length);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        encoder.reset();
+        buffer.clear();
+        encoder.encodeSummary(summary, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public SummarySnapshot binaryDecode() {
+        decoder.reset();
+        return decoder.decodeSnapshot(encoded.duplicate());
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        return javaSerialize(summary);
+    }
+
+    @Benchmark
+    public Object javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private static byte[] javaSerialize(List<Match> matches) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(matches.size() * 256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(matches);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.storage.Storage;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Measures the memory a storage needs for a large board: the retained heap after a full GC and the
+ * direct (off-heap) buffer memory, per storage and per match.
+ * <p>
+ * Run one storage per JVM so the measurements do not influence each other, e.g.
+ * {@code java -Xmx4g -XX:MaxDirectMemorySize=2g -cp benchmarks.jar football.board.benchmark.HeapFootprint
+ * OffHeapScoreBoardStorage 1000000}.
+ */
+public final class HeapFootprint {
+
+    private HeapFootprint() {
+    }
+
+    public static void main(String[] args) {
+        String storageName = args.length > 0 ? args[0] : "OffHeapScoreBoardStorage";
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        long heapBefore = usedHeap();
+        long directBefore = usedDirect();
+        Storage storage = Boards.newStorage(storageName);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            Match match = new Match(new Team("Home " + i), new Team("Away " + i)).withScore(random.nextInt(5), random.nextInt(5));
+            storage.addMatch(match);
+        }
+        long heap = Math.max(0, usedHeap() - heapBefore);
+        long direct = usedDirect() - directBefore;
+
+        System.out.printf("%-32s %,d matches: heap %,d MB (%d B/match), direct %,d MB (%d B/match)%n",
+                storageName, size, heap >> 20, heap / size, direct >> 20, direct / size);
+        if (storage.getAllMatches().size() != size) {
+            throw new IllegalStateException("Storage lost matches.");
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirect() {
+        long used = 0;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                used += pool.getMemoryUsed();
+            }
+        }
+        return used;
+    }
+}
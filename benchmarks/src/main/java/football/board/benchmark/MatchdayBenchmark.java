@@ -0,0 +1,119 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.service.ValidatedBoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed read/write load on the thread-safe services, shaped like a live matchday:
+ * display clients reading the summary while feed threads report goals and start and finish matches.
+ * <p>
+ * {@code readHeavy} runs 6 readers, 1 goal writer and 1 kick-off writer; {@code goalBurst} runs 1 reader and
+ * 3 goal writers. The thread distribution can be changed with the JMH {@code -tg} option, e.g. {@code -tg 30,1,1}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchdayBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"ConcurrentFootballService", "StripedConcurrentFootballService", "SnapshotFootballService"})
+        String service;
+
+        @Param({"1000", "10000"})
+        int boardSize;
+
+        ValidatedBoardService scoreBoard;
+
+        UUID[] matchUuids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scoreBoard = Boards.newService(service);
+            matchUuids = Boards.fill(scoreBoard, boardSize, new Random(42));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Feed {
+        int next;
+
+        int goals;
+
+        Team homeTeam;
+
+        Team awayTeam;
+
+        @Setup(Level.Trial)
+        public void setUp(Board board) {
+            next = ThreadLocalRandom.current().nextInt(board.boardSize);
+            homeTeam = new Team("Home");
+            awayTeam = new Team("Away");
+        }
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(6)
+    public Collection<Match> readHeavySummary(Board board) {
+        return board.scoreBoard.getSortedSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyGoal(Board board, Feed feed) {
+        goal(board, feed);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyKickOffAndFullTime(Board board, Feed feed) {
+        UUID matchUuid = board.scoreBoard.newMatch(feed.homeTeam, feed.awayTeam);
+        board.scoreBoard.finishMatchByUUID(matchUuid);
+    }
+
+    @Benchmark
+    @Group("goalBurst")
+    @GroupThreads(1)
+    public Collection<Match> goalBurstSummary(Board board) {
+        return board.scoreBoard.getSortedSummary();
+    }
+
+    @Benchmark
+    @Group("goalBurst")
+    @GroupThreads(3)
+    public void goalBurstGoal(Board board, Feed feed) {
+        goal(board, feed);
+    }
+
+    private static void goal(Board board, Feed feed) {
+        feed.next = feed.next + 1 == board.boardSize ? 0 : feed.next + 1;
+        feed.goals = feed.goals == 9 ? 0 : feed.goals + 1;
+        board.scoreBoard.updateScore(board.matchUuids[feed.next], feed.goals, feed.goals / 2);
+    }
+}
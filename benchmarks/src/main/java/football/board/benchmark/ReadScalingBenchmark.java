@@ -0,0 +1,99 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.service.ValidatedBoardService;
+import football.board.service.impl.ConcurrentFootballService;
+import football.board.service.impl.StampedLockFootballService;
+import football.board.storage.OrderedScoreBoardStorage;
+import football.board.storage.SummaryCachingStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read scaling of the exclusive {@link ConcurrentFootballService} lock against the optimistic reads of
+ * {@link StampedLockFootballService}, both on an {@link OrderedScoreBoardStorage}; the optimistic reads need its
+ * skip list variant.
+ * <p>
+ * Every thread reads the summary and reports a goal once every {@code readsPerWrite} reads. Compare the total
+ * throughput over thread counts with {@code -t 1,2,4,8}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadScalingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"ConcurrentFootballService", "StampedLockFootballService", "CachedStampedLockFootballService"})
+        String service;
+
+        @Param({"1000"})
+        int boardSize;
+
+        @Param({"100"})
+        int readsPerWrite;
+
+        ValidatedBoardService scoreBoard;
+
+        UUID[] matchUuids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            switch (service) {
+                case "StampedLockFootballService":
+                    scoreBoard = new StampedLockFootballService(new OrderedScoreBoardStorage(true));
+                    break;
+                case "CachedStampedLockFootballService":
+                    scoreBoard = new StampedLockFootballService(new SummaryCachingStorage(new OrderedScoreBoardStorage()));
+                    break;
+                default:
+                    scoreBoard = new ConcurrentFootballService(new OrderedScoreBoardStorage());
+            }
+            matchUuids = Boards.fill(scoreBoard, boardSize, new Random(42));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        int operations;
+
+        int next;
+
+        int goals;
+
+        @Setup(Level.Trial)
+        public void setUp(Board board) {
+            operations = ThreadLocalRandom.current().nextInt(board.readsPerWrite);
+            next = ThreadLocalRandom.current().nextInt(board.boardSize);
+        }
+    }
+
+    @Benchmark
+    public Collection<Match> readMostly(Board board, Client client) {
+        if (++client.operations == board.readsPerWrite) {
+            client.operations = 0;
+            client.next = client.next + 1 == board.boardSize ? 0 : client.next + 1;
+            client.goals = client.goals == 9 ? 0 : client.goals + 1;
+            board.scoreBoard.updateScore(board.matchUuids[client.next], client.goals, client.goals / 2);
+        }
+        return board.scoreBoard.getSortedSummary();
+    }
+}
@@ -0,0 +1,133 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the packed primitive score of {@link Match} with the boxed {@code Integer} scores it replaced.
+ * {@link BoxedMatch} reproduces the former representation: two boxed fields with setters and a comparator
+ * unboxing both scores on every comparison. It carries the start sequence and UUID of its packed twin and breaks
+ * ties the same way, most recently started first and then by UUID, so both sorts produce the same order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreBenchmark {
+
+    private static final Comparator<BoxedMatch> BOXED_COMPARATOR =
+            Collections.reverseOrder(Comparator.<BoxedMatch>comparingInt(match -> match.homeScore + match.awayScore)
+                    .thenComparingLong(match -> match.startSequence))
+                    .thenComparing(match -> match.matchUuid);
+
+    private static final Comparator<Match> PACKED_COMPARATOR = Match.getSortComparator();
+
+    @Param({"10000"})
+    int boardSize;
+
+    BoxedMatch[] boxedMatches;
+
+    Match[] packedMatches;
+
+    int goals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        boxedMatches = new BoxedMatch[boardSize];
+        packedMatches = new Match[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            int homeScore = random.nextInt(5);
+            int awayScore = random.nextInt(5);
+            packedMatches[i] = new Match(new Team("Home " + i), new Team("Away " + i)).withScore(homeScore, awayScore);
+            boxedMatches[i] = new BoxedMatch(packedMatches[i].getMatchUuid(), packedMatches[i].getStartSequence(),
+                    homeScore, awayScore);
+        }
+    }
+
+    @Benchmark
+    public int compareBoxed() {
+        return BOXED_COMPARATOR.compare(boxedMatches[0], boxedMatches[1]);
+    }
+
+    @Benchmark
+    public int comparePacked() {
+        return PACKED_COMPARATOR.compare(packedMatches[0], packedMatches[1]);
+    }
+
+    @Benchmark
+    public BoxedMatch[] sortBoxed() {
+        BoxedMatch[] copy = boxedMatches.clone();
+        Arrays.sort(copy, BOXED_COMPARATOR);
+        return copy;
+    }
+
+    @Benchmark
+    public Match[] sortPacked() {
+        Match[] copy = packedMatches.clone();
+        Arrays.sort(copy, PACKED_COMPARATOR);
+        return copy;
+    }
+
+    @Benchmark
+    public BoxedMatch updateBoxed() {
+        goals = goals == 200 ? 0 : goals + 1;
+        BoxedMatch match = boxedMatches[goals];
+        match.setHomeScore(goals);
+        match.setAwayScore(goals);
+        return match;
+    }
+
+    @Benchmark
+    public Match updatePacked() {
+        goals = goals == 200 ? 0 : goals + 1;
+        packedMatches[goals] = packedMatches[goals].withScore(goals, goals);
+        return packedMatches[goals];
+    }
+
+    static final class BoxedMatch {
+        private final UUID matchUuid;
+
+        private final long startSequence;
+
+        private Integer homeScore;
+
+        private Integer awayScore;
+
+        BoxedMatch(UUID matchUuid, long startSequence, Integer homeScore, Integer awayScore) {
+            this.matchUuid = matchUuid;
+            this.startSequence = startSequence;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+        }
+
+        void setHomeScore(Integer homeScore) {
+            this.homeScore = homeScore;
+        }
+
+        void setAwayScore(Integer awayScore) {
+            this.awayScore = awayScore;
+        }
+    }
+}
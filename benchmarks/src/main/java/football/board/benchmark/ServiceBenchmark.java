@@ -0,0 +1,132 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.service.ValidatedBoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every service operation on a board of {@code boardSize} live matches.
+ * <p>
+ * Thread counts are set with the JMH {@code -t} option, e.g. {@code -t 1,2,4,8,16}.
+ * {@code FootballWorldScoreBoardService} is not thread-safe and must only be run with {@code -t 1}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"FootballWorldScoreBoardService", "ConcurrentFootballService",
+                "StripedConcurrentFootballService", "SnapshotFootballService"})
+        String service;
+
+        @Param({"100", "1000", "10000"})
+        int boardSize;
+
+        ValidatedBoardService scoreBoard;
+
+        UUID[] matchUuids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scoreBoard = Boards.newService(service);
+            matchUuids = Boards.fill(scoreBoard, boardSize, new Random(42));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GoalFeed {
+        int next;
+
+        int goals;
+
+        @Setup(Level.Trial)
+        public void setUp(Board board) {
+            next = ThreadLocalRandom.current().nextInt(board.boardSize);
+        }
+
+        UUID nextMatch(Board board) {
+            next = next + 1 == board.boardSize ? 0 : next + 1;
+            return board.matchUuids[next];
+        }
+
+        int nextGoals() {
+            goals = goals == 9 ? 0 : goals + 1;
+            return goals;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class KickOff {
+        Team homeTeam;
+
+        Team awayTeam;
+
+        UUID started;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            homeTeam = new Team("Home");
+            awayTeam = new Team("Away");
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown(Board board) {
+            board.scoreBoard.finishMatchByUUID(started);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FullTime {
+        UUID toFinish;
+
+        @Setup(Level.Invocation)
+        public void setUp(Board board) {
+            toFinish = board.scoreBoard.newMatch(new Team("Home"), new Team("Away"));
+        }
+    }
+
+    @Benchmark
+    public UUID newMatch(Board board, KickOff kickOff) {
+        kickOff.started = board.scoreBoard.newMatch(kickOff.homeTeam, kickOff.awayTeam);
+        return kickOff.started;
+    }
+
+    @Benchmark
+    public void updateScore(Board board, GoalFeed feed) {
+        int goals = feed.nextGoals();
+        board.scoreBoard.updateScore(feed.nextMatch(board), goals, goals / 2);
+    }
+
+    @Benchmark
+    public void finishMatchByUUID(Board board, FullTime fullTime) {
+        board.scoreBoard.finishMatchByUUID(fullTime.toFinish);
+    }
+
+    @Benchmark
+    public Collection<Match> getSortedSummary(Board board) {
+        return board.scoreBoard.getSortedSummary();
+    }
+}
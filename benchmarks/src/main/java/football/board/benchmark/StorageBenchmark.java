@@ -0,0 +1,77 @@
+package football.board.benchmark;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.storage.Storage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the storage backends on large boards, single-threaded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StorageBenchmark {
+
+    @Param({"FootballWorldScoreBoardStorage", "IndexedScoreBoardStorage",
+            "OrderedScoreBoardStorage", "ConcurrentScoreBoardStorage", "OffHeapScoreBoardStorage"})
+    String storageName;
+
+    @Param({"10000", "100000"})
+    int boardSize;
+
+    Storage storage;
+
+    UUID[] matchUuids;
+
+    Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        storage = Boards.newStorage(storageName);
+        matchUuids = new UUID[boardSize];
+        random = new Random(42);
+        for (int i = 0; i < boardSize; i++) {
+            Match match = new Match(new Team("Home " + i), new Team("Away " + i));
+            storage.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), random.nextInt(5), random.nextInt(5));
+            matchUuids[i] = match.getMatchUuid();
+        }
+    }
+
+    @Benchmark
+    public boolean updateScore() {
+        return storage.updateScore(matchUuids[random.nextInt(boardSize)], random.nextInt(5), random.nextInt(5));
+    }
+
+    @Benchmark
+    public boolean addAndRemoveMatch() {
+        Match match = new Match(new Team("Home"), new Team("Away"));
+        storage.addMatch(match);
+        return storage.removeMatch(match.getMatchUuid());
+    }
+
+    @Benchmark
+    public Collection<Match> getAllMatches() {
+        return storage.getAllMatches();
+    }
+}
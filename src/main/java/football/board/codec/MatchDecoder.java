@@ -0,0 +1,163 @@
+package football.board.codec;
+
+import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the stream written by a {@link MatchEncoder}, rebuilding its team dictionary so every team is created once
+ * and shared by all its matches.
+ * <p>
+ * Decoding is incremental: when the buffer ends inside a record, the decode methods return {@code null} and leave
+ * the buffer position and the dictionary as they were, so the caller can read more bytes and retry. A decoder is
+ * not thread-safe.
+ */
+public class MatchDecoder {
+
+    private static final SummaryOrder[] SUMMARY_ORDERS = SummaryOrder.values();
+
+    private final List<Team> teams = new ArrayList<>();
+
+    /**
+     * Reads one match.
+     *
+     * @param source The buffer to read from, from its position.
+     * @return The match, or {@code null} if the buffer does not hold the whole record yet.
+     * @throws InvalidArgumentException If the record is malformed.
+     */
+    public Match decode(ByteBuffer source) {
+        int position = source.position();
+        int teamCount = teams.size();
+        try {
+            return readMatch(source);
+        } catch (BufferUnderflowException e) {
+            rollback(source, position, teamCount);
+            return null;
+        }
+    }
+
+    /**
+     * Reads a summary written by {@link MatchEncoder#encodeSummary}.
+     *
+     * @param source The buffer to read from, from its position.
+     * @return The matches in the order they were written, or {@code null} if the buffer does not hold the whole
+     * summary yet.
+     * @throws InvalidArgumentException If the summary is malformed.
+     */
+    public List<Match> decodeSummary(ByteBuffer source) {
+        int position = source.position();
+        int teamCount = teams.size();
+        try {
+            return readSummary(source);
+        } catch (BufferUnderflowException e) {
+            rollback(source, position, teamCount);
+            return null;
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link MatchEncoder#encodeSnapshot}.
+     *
+     * @param source The buffer to read from, from its position.
+     * @return The snapshot, or {@code null} if the buffer does not hold the whole snapshot yet.
+     * @throws InvalidArgumentException If the snapshot is malformed.
+     */
+    public SummarySnapshot decodeSnapshot(ByteBuffer source) {
+        int position = source.position();
+        int teamCount = teams.size();
+        try {
+            long version = Varint.read(source);
+            return new SummarySnapshot(version, readSummary(source));
+        } catch (BufferUnderflowException e) {
+            rollback(source, position, teamCount);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of teams read from the stream so far.
+     *
+     * @return The size of the team dictionary.
+     */
+    public int getTeamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Forgets the team dictionary, to start a new stream.
+     */
+    public void reset() {
+        teams.clear();
+    }
+
+    private List<Match> readSummary(ByteBuffer source) {
+        int count = Varint.readInt(source);
+        List<Match> matches = new ArrayList<>(Math.min(count, source.remaining() / 20 + 1));
+        for (int i = 0; i < count; i++) {
+            matches.add(readMatch(source));
+        }
+        return matches;
+    }
+
+    private Match readMatch(ByteBuffer source) {
+        UUID matchUuid = new UUID(source.getLong(), source.getLong());
+        long startSequence = Varint.read(source);
+        int order = source.get();
+        if (order < 0 || order >= SUMMARY_ORDERS.length) {
+            throw new InvalidArgumentException("Unknown summary order " + order + ".");
+        }
+        Team homeTeam = readTeam(source);
+        Team awayTeam = readTeam(source);
+        int homeScore = Varint.readInt(source);
+        int awayScore = Varint.readInt(source);
+        int version = (int) Varint.read(source);
+        return new Match(matchUuid, startSequence, homeTeam, awayTeam,
+                Score.of(homeScore, awayScore, version), SUMMARY_ORDERS[order]);
+    }
+
+    private Team readTeam(ByteBuffer source) {
+        int reference = Varint.readInt(source);
+        if (reference != 0) {
+            if (reference > teams.size()) {
+                throw new InvalidArgumentException("Unknown team reference " + reference + ".");
+            }
+            return teams.get(reference - 1);
+        }
+        UUID uuid = new UUID(source.getLong(), source.getLong());
+        Team team = new Team(uuid, readString(source));
+        teams.add(team);
+        return team;
+    }
+
+    private static String readString(ByteBuffer source) {
+        int length = Varint.readInt(source);
+        if (length > source.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (source.hasArray()) {
+            String value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+            source.position(source.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void rollback(ByteBuffer source, int position, int teamCount) {
+        source.position(position);
+        while (teams.size() > teamCount) {
+            teams.remove(teams.size() - 1);
+        }
+    }
+}
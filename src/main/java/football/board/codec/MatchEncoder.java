@@ -0,0 +1,196 @@
+package football.board.codec;
+
+import football.board.entity.Match;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes matches and summaries in a compact binary format directly into a caller-supplied {@link ByteBuffer}.
+ * <p>
+ * A match is written as its UUID (two longs), start sequence (varint), summary order (one byte), home and away team
+ * references, and home score, away score and score version (varints). Teams are kept in a dictionary per stream:
+ * the first reference to a team writes {@code 0} followed by its UUID (two longs) and its name (varint length and
+ * UTF-8 bytes), and later references write the varint {@code index + 1} of the team in the dictionary. A summary is
+ * a varint count followed by its matches; a snapshot prefixes the summary with its varint version.
+ * <p>
+ * One encoder belongs to one stream and must be read by one {@link MatchDecoder}, which rebuilds the same
+ * dictionary. An encoder is not thread-safe.
+ */
+public class MatchEncoder {
+
+    private final Map<UUID, Integer> teamIndexes = new HashMap<>();
+
+    private final List<UUID> teams = new ArrayList<>();
+
+    /**
+     * Writes one match.
+     *
+     * @param match  The match.
+     * @param target The buffer to write into, from its position.
+     * @return {@code true} if the match was written; {@code false} if the buffer is too small, in which case
+     * neither the buffer position nor the dictionary changed.
+     */
+    public boolean encode(Match match, ByteBuffer target) {
+        int position = target.position();
+        int teamCount = teams.size();
+        try {
+            writeMatch(match, target);
+            return true;
+        } catch (BufferOverflowException e) {
+            rollback(target, position, teamCount);
+            return false;
+        }
+    }
+
+    /**
+     * Writes a summary: the number of matches followed by the matches.
+     *
+     * @param matches The matches in summary order.
+     * @param target  The buffer to write into, from its position.
+     * @return {@code true} if the whole summary was written; {@code false} if the buffer is too small, in which
+     * case neither the buffer position nor the dictionary changed.
+     */
+    public boolean encodeSummary(Collection<Match> matches, ByteBuffer target) {
+        int position = target.position();
+        int teamCount = teams.size();
+        try {
+            writeSummary(matches, target);
+            return true;
+        } catch (BufferOverflowException e) {
+            rollback(target, position, teamCount);
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot: its version followed by its summary.
+     *
+     * @param snapshot The snapshot.
+     * @param target   The buffer to write into, from its position.
+     * @return {@code true} if the whole snapshot was written; {@code false} if the buffer is too small, in which
+     * case neither the buffer position nor the dictionary changed.
+     */
+    public boolean encodeSnapshot(SummarySnapshot snapshot, ByteBuffer target) {
+        int position = target.position();
+        int teamCount = teams.size();
+        try {
+            Varint.write(target, snapshot.getVersion());
+            writeSummary(snapshot.getMatches(), target);
+            return true;
+        } catch (BufferOverflowException e) {
+            rollback(target, position, teamCount);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of teams written to the stream so far.
+     *
+     * @return The size of the team dictionary.
+     */
+    public int getTeamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Forgets the team dictionary, to start a new stream.
+     */
+    public void reset() {
+        teamIndexes.clear();
+        teams.clear();
+    }
+
+    private void writeSummary(Collection<Match> matches, ByteBuffer target) {
+        Varint.write(target, matches.size());
+        for (Match match : matches) {
+            writeMatch(match, target);
+        }
+    }
+
+    private void writeMatch(Match match, ByteBuffer target) {
+        UUID matchUuid = match.getMatchUuid();
+        target.putLong(matchUuid.getMostSignificantBits());
+        target.putLong(matchUuid.getLeastSignificantBits());
+        Varint.write(target, match.getStartSequence());
+        target.put((byte) match.getSummaryOrder().ordinal());
+        writeTeam(match.getHomeTeam(), target);
+        writeTeam(match.getAwayTeam(), target);
+        Varint.write(target, match.getHomeScore());
+        Varint.write(target, match.getAwayScore());
+        Varint.write(target, match.getScoreVersion() & 0xFFFFFFFFL);
+    }
+
+    private void writeTeam(Team team, ByteBuffer target) {
+        Integer index = teamIndexes.get(team.getUuid());
+        if (index != null) {
+            Varint.write(target, index + 1L);
+            return;
+        }
+        target.put((byte) 0);
+        target.putLong(team.getUuid().getMostSignificantBits());
+        target.putLong(team.getUuid().getLeastSignificantBits());
+        writeString(team.getName(), target);
+        teamIndexes.put(team.getUuid(), teams.size());
+        teams.add(team.getUuid());
+    }
+
+    /**
+     * Writes the UTF-8 length and bytes of a string straight into the buffer, without an intermediate array.
+     */
+    private static void writeString(String value, ByteBuffer target) {
+        int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else {
+                utf8Length += 3;
+            }
+        }
+        Varint.write(target, utf8Length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | (c >> 6)));
+                target.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | (codePoint >> 18)));
+                target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                target.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                if (Character.isSurrogate(c)) {
+                    c = '\uFFFD';
+                }
+                target.put((byte) (0xE0 | (c >> 12)));
+                target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                target.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private void rollback(ByteBuffer target, int position, int teamCount) {
+        target.position(position);
+        while (teams.size() > teamCount) {
+            teamIndexes.remove(teams.remove(teams.size() - 1));
+        }
+    }
+}
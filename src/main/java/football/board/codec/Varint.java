@@ -0,0 +1,43 @@
+package football.board.codec;
+
+import football.board.exception.InvalidArgumentException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 variable-length integers: seven bits per byte, low bits first, the high bit set on all but the
+ * last byte. Values below 128 take one byte.
+ */
+final class Varint {
+
+    private Varint() {
+    }
+
+    static void write(ByteBuffer target, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    static long read(ByteBuffer source) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = source.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new InvalidArgumentException("Malformed varint.");
+    }
+
+    static int readInt(ByteBuffer source) {
+        long value = read(source);
+        if (value > Integer.MAX_VALUE) {
+            throw new InvalidArgumentException("Varint " + value + " does not fit into an int.");
+        }
+        return (int) value;
+    }
+}
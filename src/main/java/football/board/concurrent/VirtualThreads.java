@@ -0,0 +1,37 @@
+package football.board.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads (Java 21+) for a library that still runs on Java 17.
+ */
+public final class VirtualThreads {
+
+    private static final ThreadFactory FACTORY = lookUpFactory();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns the factory of virtual threads, {@code Thread.ofVirtual().factory()}.
+     *
+     * @return The virtual thread factory, or {@code null} before Java 21.
+     */
+    public static ThreadFactory factory() {
+        return FACTORY;
+    }
+
+    /**
+     * Looks up {@code Thread.ofVirtual().factory()} reflectively, since the API does not exist on Java 17.
+     */
+    private static ThreadFactory lookUpFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
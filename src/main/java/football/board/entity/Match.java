@@ -1,39 +1,168 @@
 package football.board.entity;
 
-import java.util.Collections;
+import football.board.exception.InvalidArgumentException;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.Comparator;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An immutable football match. A score change produces a new instance through {@link #withScore(int, int)},
+ * so a match that has been handed to a reader or stored never changes.
+ */
+public class Match implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final AtomicLong START_SEQUENCE = new AtomicLong();
+
+    private static final Comparator<Match> SORT_COMPARATOR =
+            Comparator.comparingLong(Match::getOrderKey).thenComparing(Match::getMatchUuid);
 
-public class Match {
     private final UUID matchUuid;
 
+    private final long startSequence;
+
     private final Team homeTeam;
 
     private final Team awayTeam;
 
-    private Integer homeScore;
+    /**
+     * The scores and the score version, packed by {@link Score}.
+     */
+    private final long score;
+
+    private final SummaryOrder summaryOrder;
 
-    private Integer awayScore;
+    /**
+     * The position of the match in the summary, precomputed by {@link SummaryOrder#orderKey(long, long)}
+     * whenever the score changes.
+     */
+    private final long orderKey;
 
     public Match(Team homeTeam, Team awayTeam) {
+        this(homeTeam, awayTeam, SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Creates a match ordered among matches with the same total score as given.
+     *
+     * @param homeTeam     The home team.
+     * @param awayTeam     The away team.
+     * @param summaryOrder The order of matches with the same total score.
+     */
+    public Match(Team homeTeam, Team awayTeam, SummaryOrder summaryOrder) {
         this.matchUuid = UUID.randomUUID();
+        this.startSequence = START_SEQUENCE.incrementAndGet();
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeScore = 0;
-        this.awayScore = 0;
+        this.score = Score.of(0, 0, 0);
+        this.summaryOrder = summaryOrder;
+        this.orderKey = summaryOrder.orderKey(score, startSequence);
     }
+
+    /**
+     * Re-creates a match with a known identity and score, e.g. when loading it from a persisted storage.
+     * Matches started afterwards get a greater start sequence than the restored one.
+     *
+     * @param matchUuid     The UUID of the match.
+     * @param startSequence The start sequence of the match.
+     * @param homeTeam      The home team.
+     * @param awayTeam      The away team.
+     * @param score         The packed score, see {@link Score}.
+     */
+    public Match(UUID matchUuid, long startSequence, Team homeTeam, Team awayTeam, long score) {
+        this(matchUuid, startSequence, homeTeam, awayTeam, score, SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Re-creates a match with a known identity, score and summary order.
+     *
+     * @param matchUuid     The UUID of the match.
+     * @param startSequence The start sequence of the match.
+     * @param homeTeam      The home team.
+     * @param awayTeam      The away team.
+     * @param score         The packed score, see {@link Score}.
+     * @param summaryOrder  The order of matches with the same total score.
+     * @throws football.board.exception.InvalidArgumentException If the start sequence does not fit into the order key.
+     */
+    public Match(UUID matchUuid, long startSequence, Team homeTeam, Team awayTeam, long score, SummaryOrder summaryOrder) {
+        SummaryOrder.validateStartSequence(startSequence);
+        if (START_SEQUENCE.get() < startSequence) {
+            START_SEQUENCE.accumulateAndGet(startSequence, Math::max);
+        }
+        this.matchUuid = matchUuid;
+        this.startSequence = startSequence;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = score;
+        this.summaryOrder = summaryOrder;
+        this.orderKey = summaryOrder.orderKey(score, startSequence);
+    }
+
     public Match(Match original) {
+        this(original, original.score);
+    }
+
+    /**
+     * Re-creates a deserialized match through the validating constructor, so its start sequence is checked, matches
+     * started afterwards get a greater one, and the order key is recomputed instead of trusted.
+     *
+     * @return A match with the same identity, score and summary order.
+     * @throws InvalidObjectException If the stream holds a match no constructor would accept.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (matchUuid == null || homeTeam == null || awayTeam == null || summaryOrder == null) {
+            throw new InvalidObjectException("Incomplete match " + matchUuid + ".");
+        }
+        try {
+            return new Match(matchUuid, startSequence, homeTeam, awayTeam, score, summaryOrder);
+        } catch (InvalidArgumentException e) {
+            InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private Match(Match original, long score) {
         this.matchUuid = original.matchUuid;
+        this.startSequence = original.startSequence;
         this.homeTeam = original.homeTeam;
         this.awayTeam = original.awayTeam;
-        this.homeScore = original.homeScore;
-        this.awayScore = original.awayScore;
+        this.score = score;
+        this.summaryOrder = original.summaryOrder;
+        this.orderKey = Score.totalScore(score) == Score.totalScore(original.score)
+                ? original.orderKey
+                : summaryOrder.orderKey(score, startSequence);
+    }
+
+    /**
+     * Returns a copy of this match with the given scores and the next score version.
+     *
+     * @param homeScore The home team score.
+     * @param awayScore The away team score.
+     * @return The updated match.
+     */
+    public Match withScore(int homeScore, int awayScore) {
+        return new Match(this, Score.of(homeScore, awayScore, Score.version(score) + 1));
     }
 
     public UUID getMatchUuid() {
         return matchUuid;
     }
 
+    /**
+     * Returns the position of this match in the order in which matches were started.
+     * Matches started later have a greater start sequence.
+     *
+     * @return The start sequence of the match.
+     */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
     public Team getHomeTeam() {
         return homeTeam;
     }
@@ -42,20 +171,47 @@ public class Match {
         return awayTeam;
     }
 
-    public Integer getHomeScore() {
-        return homeScore;
+    public int getHomeScore() {
+        return Score.homeScore(score);
+    }
+
+    public int getAwayScore() {
+        return Score.awayScore(score);
+    }
+
+    public int getTotalScore() {
+        return Score.totalScore(score);
+    }
+
+    /**
+     * Returns the number of score updates this match has received.
+     *
+     * @return The score version.
+     */
+    public int getScoreVersion() {
+        return Score.version(score);
     }
 
-    public void setHomeScore(Integer homeScore) {
-        this.homeScore = homeScore;
+    /**
+     * Returns the scores and the score version packed into a single value, see {@link Score}.
+     *
+     * @return The packed score.
+     */
+    public long getScore() {
+        return score;
     }
 
-    public Integer getAwayScore() {
-        return awayScore;
+    public SummaryOrder getSummaryOrder() {
+        return summaryOrder;
     }
 
-    public void setAwayScore(Integer awayScore) {
-        this.awayScore = awayScore;
+    /**
+     * Returns the precomputed position of this match in the summary order, see {@link SummaryOrder}.
+     *
+     * @return The order key.
+     */
+    public long getOrderKey() {
+        return orderKey;
     }
 
     @Override
@@ -64,13 +220,22 @@ public class Match {
         sb.append("matchUuid=").append(matchUuid);
         sb.append(", homeTeam=").append(homeTeam);
         sb.append(", awayTeam=").append(awayTeam);
-        sb.append(", homeScore=").append(homeScore);
-        sb.append(", awayScore=").append(awayScore);
+        sb.append(", homeScore=").append(getHomeScore());
+        sb.append(", awayScore=").append(getAwayScore());
         sb.append('}');
         return sb.toString();
     }
 
+    /**
+     * Returns the summary order: highest total score first, ties broken by the {@link SummaryOrder} of the matches
+     * (by default the most recently started first) and finally by match UUID, so the order is deterministic.
+     * Only the precomputed order keys and, for equal keys, the UUIDs are compared. The original stable sort on the
+     * total score alone left equal totals in their previous list order, which depended on the history of adds and
+     * updates; this order depends on the matches only.
+     *
+     * @return The comparator defining the summary order.
+     */
     public static Comparator<Match> getSortComparator() {
-        return Collections.reverseOrder(Comparator.comparingInt(match -> match.getHomeScore() + match.getAwayScore()));
+        return SORT_COMPARATOR;
     }
 }
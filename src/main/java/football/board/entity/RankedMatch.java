@@ -0,0 +1,37 @@
+package football.board.entity;
+
+/**
+ * A match together with its zero-based position in the summary.
+ */
+public class RankedMatch {
+    private final Match match;
+
+    private final int rank;
+
+    public RankedMatch(Match match, int rank) {
+        this.match = match;
+        this.rank = rank;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Returns the position of the match in the summary, starting at zero.
+     *
+     * @return The rank.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("RankedMatch{");
+        sb.append("rank=").append(rank);
+        sb.append(", match=").append(match);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package football.board.entity;
+
+import football.board.exception.InvalidArgumentException;
+
+/**
+ * Packs the score of a match into a single primitive {@code long}: the score version in the upper 32 bits,
+ * the home score in the next 16 bits and the away score in the lowest 16 bits.
+ * A packed score is an immutable value, so reading and passing it around needs neither boxing nor locking.
+ */
+public final class Score {
+
+    /**
+     * The highest score a team can have.
+     */
+    public static final int MAX_SCORE = 0xFFFF;
+
+    private static final int SCORE_BITS = 16;
+
+    private static final int VERSION_SHIFT = 32;
+
+    private Score() {
+    }
+
+    /**
+     * Packs a score.
+     *
+     * @param homeScore The home team score.
+     * @param awayScore The away team score.
+     * @param version   The number of score updates the match has received.
+     * @return The packed score.
+     * @throws InvalidArgumentException if a score is negative or greater than {@link #MAX_SCORE}.
+     */
+    public static long of(int homeScore, int awayScore, int version) {
+        if (homeScore < 0 || awayScore < 0 || homeScore > MAX_SCORE || awayScore > MAX_SCORE) {
+            throw new InvalidArgumentException("Score must be between 0 and " + MAX_SCORE + ".");
+        }
+        return ((long) version << VERSION_SHIFT) | ((long) homeScore << SCORE_BITS) | awayScore;
+    }
+
+    public static int homeScore(long score) {
+        return (int) (score >>> SCORE_BITS) & MAX_SCORE;
+    }
+
+    public static int awayScore(long score) {
+        return (int) score & MAX_SCORE;
+    }
+
+    public static int totalScore(long score) {
+        return homeScore(score) + awayScore(score);
+    }
+
+    public static int version(long score) {
+        return (int) (score >>> VERSION_SHIFT);
+    }
+}
@@ -0,0 +1,115 @@
+package football.board.entity;
+
+import java.util.UUID;
+
+/**
+ * The score timeline of one match, oldest entry first.
+ * <p>
+ * Every entry is a timestamp and a packed {@link Score} whose version is the position of the entry in the whole
+ * history of the match: 0 for the kick-off, then one per score update, corrections included. The entries are kept
+ * in one primitive array, two {@code long}s per entry. When older entries were evicted from the bounded history,
+ * {@link #getDroppedEntries()} tells how many.
+ */
+public class ScoreHistory {
+    private final UUID matchUuid;
+
+    /**
+     * The timestamp and the packed score of every entry, interleaved.
+     */
+    private final long[] entries;
+
+    private final long droppedEntries;
+
+    private final boolean finished;
+
+    /**
+     * Constructs a history.
+     *
+     * @param matchUuid      The UUID of the match.
+     * @param entries        The timestamp and packed score of every entry, interleaved; not copied.
+     * @param droppedEntries The number of older entries no longer kept.
+     * @param finished       Whether the match is finished.
+     */
+    public ScoreHistory(UUID matchUuid, long[] entries, long droppedEntries, boolean finished) {
+        this.matchUuid = matchUuid;
+        this.entries = entries;
+        this.droppedEntries = droppedEntries;
+        this.finished = finished;
+    }
+
+    public UUID getMatchUuid() {
+        return matchUuid;
+    }
+
+    /**
+     * Returns the number of entries kept.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return entries.length / 2;
+    }
+
+    /**
+     * Returns the time an entry was recorded.
+     *
+     * @param index The index of the entry, 0 for the oldest one kept.
+     * @return The timestamp in milliseconds since the epoch, or as given by the clock of the storage.
+     */
+    public long getTimestamp(int index) {
+        return entries[2 * index];
+    }
+
+    /**
+     * Returns the packed score of an entry, see {@link Score}.
+     *
+     * @param index The index of the entry, 0 for the oldest one kept.
+     * @return The packed score.
+     */
+    public long getScore(int index) {
+        return entries[2 * index + 1];
+    }
+
+    public int getHomeScore(int index) {
+        return Score.homeScore(getScore(index));
+    }
+
+    public int getAwayScore(int index) {
+        return Score.awayScore(getScore(index));
+    }
+
+    /**
+     * Returns the position of an entry in the whole history of the match, counting dropped entries.
+     *
+     * @param index The index of the entry, 0 for the oldest one kept.
+     * @return The sequence number, 0 for the kick-off.
+     */
+    public int getSequence(int index) {
+        return Score.version(getScore(index));
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("ScoreHistory{");
+        sb.append("matchUuid=").append(matchUuid);
+        sb.append(", finished=").append(finished);
+        sb.append(", droppedEntries=").append(droppedEntries);
+        sb.append(", entries=[");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(getTimestamp(i)).append(' ').append(getHomeScore(i)).append('-').append(getAwayScore(i));
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package football.board.entity;
+
+import java.util.UUID;
+
+/**
+ * A score event for one match, as delivered by a data feed.
+ */
+public class ScoreUpdate {
+    private final UUID matchUuid;
+
+    private final int homeScore;
+
+    private final int awayScore;
+
+    public ScoreUpdate(UUID matchUuid, int homeScore, int awayScore) {
+        this.matchUuid = matchUuid;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public UUID getMatchUuid() {
+        return matchUuid;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("ScoreUpdate{");
+        sb.append("matchUuid=").append(matchUuid);
+        sb.append(", homeScore=").append(homeScore);
+        sb.append(", awayScore=").append(awayScore);
+        sb.append('}');
+        return sb.toString();
+    }
+}
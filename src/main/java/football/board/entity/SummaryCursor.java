@@ -0,0 +1,64 @@
+package football.board.entity;
+
+import java.util.UUID;
+
+/**
+ * Position in the summary order right after a given match. A page requested with this cursor starts with the
+ * first match ordered after that match, even if the match itself has been updated or finished in the meantime.
+ */
+public class SummaryCursor {
+    private final long orderKey;
+
+    private final UUID matchUuid;
+
+    public SummaryCursor(long orderKey, UUID matchUuid) {
+        this.orderKey = orderKey;
+        this.matchUuid = matchUuid;
+    }
+
+    /**
+     * Creates the cursor pointing right after a match, as it is ordered now.
+     *
+     * @param match The last match of a page.
+     * @return The cursor for the next page.
+     */
+    public static SummaryCursor after(Match match) {
+        return new SummaryCursor(match.getOrderKey(), match.getMatchUuid());
+    }
+
+    /**
+     * Returns the order key of the match the cursor points after, see {@link Match#getOrderKey()}.
+     *
+     * @return The order key.
+     */
+    public long getOrderKey() {
+        return orderKey;
+    }
+
+    public UUID getMatchUuid() {
+        return matchUuid;
+    }
+
+    /**
+     * Compares the cursor position with a match, in the order of {@link Match#getSortComparator()}.
+     *
+     * @param match The match to compare with.
+     * @return A negative value if the match comes after the cursor, zero or a positive value otherwise.
+     */
+    public int compareTo(Match match) {
+        int result = Long.compare(orderKey, match.getOrderKey());
+        if (result != 0) {
+            return result;
+        }
+        return matchUuid.compareTo(match.getMatchUuid());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("SummaryCursor{");
+        sb.append("orderKey=").append(orderKey);
+        sb.append(", matchUuid=").append(matchUuid);
+        sb.append('}');
+        return sb.toString();
+    }
+}
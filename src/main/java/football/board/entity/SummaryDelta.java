@@ -0,0 +1,124 @@
+package football.board.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The changes of the summary between two versions.
+ * <p>
+ * A client holding the summary at {@link #getFromVersion()} gets the summary at {@link #getVersion()} by removing the
+ * {@link #getRemoved() removed} matches, replacing the {@link #getUpdated() updated} ones and inserting the
+ * {@link #getAdded() added} ones, each at its rank. If the changes are no longer known, the delta is a
+ * {@link #isFullSnapshot() full snapshot}: every match is listed as added and the client replaces its summary.
+ */
+public class SummaryDelta {
+    private final long fromVersion;
+
+    private final long version;
+
+    private final boolean fullSnapshot;
+
+    private final List<RankedMatch> added;
+
+    private final List<RankedMatch> updated;
+
+    private final List<UUID> removed;
+
+    public SummaryDelta(long fromVersion, long version, boolean fullSnapshot,
+                        List<RankedMatch> added, List<RankedMatch> updated, List<UUID> removed) {
+        this.fromVersion = fromVersion;
+        this.version = version;
+        this.fullSnapshot = fullSnapshot;
+        this.added = List.copyOf(added);
+        this.updated = List.copyOf(updated);
+        this.removed = List.copyOf(removed);
+    }
+
+    /**
+     * Creates a delta replacing the whole summary with a snapshot.
+     *
+     * @param fromVersion The version the client asked for changes since.
+     * @param snapshot    The current snapshot.
+     * @return A full snapshot delta with every match listed as added.
+     */
+    public static SummaryDelta fullSnapshot(long fromVersion, SummarySnapshot snapshot) {
+        List<Match> matches = snapshot.getMatches();
+        List<RankedMatch> ranked = new ArrayList<>(matches.size());
+        for (int rank = 0; rank < matches.size(); rank++) {
+            ranked.add(new RankedMatch(matches.get(rank), rank));
+        }
+        return new SummaryDelta(fromVersion, snapshot.getVersion(), true, ranked, List.of(), List.of());
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * Returns the version the delta leads to; pass it to the next {@code getChangesSince} call.
+     *
+     * @return The current version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns whether the delta replaces the whole summary instead of listing changes.
+     *
+     * @return {@code true} if the client must drop the summary it holds.
+     */
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
+
+    /**
+     * Returns the matches started since the old version, with their current ranks, in summary order.
+     *
+     * @return An immutable list.
+     */
+    public List<RankedMatch> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the matches whose score changed since the old version, with their current ranks, in summary order.
+     *
+     * @return An immutable list.
+     */
+    public List<RankedMatch> getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Returns the UUIDs of the matches finished since the old version.
+     *
+     * @return An immutable list.
+     */
+    public List<UUID> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns whether nothing changed since the old version.
+     *
+     * @return {@code true} if the delta has no changes and is not a full snapshot.
+     */
+    public boolean isEmpty() {
+        return !fullSnapshot && added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("SummaryDelta{");
+        sb.append("fromVersion=").append(fromVersion);
+        sb.append(", version=").append(version);
+        sb.append(", fullSnapshot=").append(fullSnapshot);
+        sb.append(", added=").append(added);
+        sb.append(", updated=").append(updated);
+        sb.append(", removed=").append(removed);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package football.board.entity;
+
+import football.board.exception.InvalidArgumentException;
+
+/**
+ * The order of matches with the same total score in the summary. Matches are always ordered by total score first
+ * and by match UUID last; this decides the start order in between.
+ * <p>
+ * The order is precomputed into one primitive key per match, see {@link #orderKey(long, long)}, so that sorting
+ * compares a single {@code long}. All matches of one board must use the same order.
+ */
+public enum SummaryOrder {
+    /**
+     * Of two matches with the same total score, the one started later comes first.
+     */
+    MOST_RECENT_FIRST,
+
+    /**
+     * Of two matches with the same total score, the one started earlier comes first.
+     */
+    OLDEST_FIRST;
+
+    /**
+     * The highest start sequence that fits into the order key.
+     */
+    public static final long MAX_START_SEQUENCE = (1L << 46) - 1;
+
+    private static final int TOTAL_SHIFT = 46;
+
+    private static final int MAX_TOTAL_SCORE = 2 * Score.MAX_SCORE;
+
+    /**
+     * Computes the key of a match: the summary order is the ascending order of the keys, ties between equal keys
+     * being broken by the match UUID. The inverted total score takes the upper 17 bits and the start sequence,
+     * inverted for {@link #MOST_RECENT_FIRST}, the lower 46 bits.
+     *
+     * @param score         The packed score of the match, see {@link Score}.
+     * @param startSequence The start sequence of the match.
+     * @return The order key.
+     */
+    public long orderKey(long score, long startSequence) {
+        long sequenceKey = this == MOST_RECENT_FIRST ? MAX_START_SEQUENCE - startSequence : startSequence;
+        return ((long) (MAX_TOTAL_SCORE - Score.totalScore(score)) << TOTAL_SHIFT) | sequenceKey;
+    }
+
+    /**
+     * Checks that a start sequence fits into the order key.
+     *
+     * @param startSequence The start sequence of a match.
+     * @throws InvalidArgumentException If the start sequence is negative or greater than {@link #MAX_START_SEQUENCE}.
+     */
+    public static void validateStartSequence(long startSequence) {
+        if (startSequence < 0 || startSequence > MAX_START_SEQUENCE) {
+            throw new InvalidArgumentException("Start sequence must be between 0 and " + MAX_START_SEQUENCE + ".");
+        }
+    }
+}
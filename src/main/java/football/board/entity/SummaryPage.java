@@ -0,0 +1,48 @@
+package football.board.entity;
+
+import java.util.List;
+
+/**
+ * One page of the summary, with the cursor to request the next one.
+ */
+public class SummaryPage {
+    private final List<Match> matches;
+
+    private final SummaryCursor nextCursor;
+
+    public SummaryPage(List<Match> matches, SummaryCursor nextCursor) {
+        this.matches = List.copyOf(matches);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the matches of the page in summary order.
+     *
+     * @return An immutable list of matches.
+     */
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the cursor of the next page.
+     *
+     * @return The cursor, or {@code null} if this is the last page.
+     */
+    public SummaryCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("SummaryPage{");
+        sb.append("matches=").append(matches);
+        sb.append(", nextCursor=").append(nextCursor);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package football.board.entity;
+
+import java.util.List;
+
+/**
+ * An immutable, sorted view of the matches in progress together with the storage version it was taken at.
+ * Clients can compare versions to skip re-rendering a summary that did not change.
+ */
+public class SummarySnapshot {
+    private final long version;
+
+    private final List<Match> matches;
+
+    public SummarySnapshot(long version, List<Match> matches) {
+        this.version = version;
+        this.matches = List.copyOf(matches);
+    }
+
+    /**
+     * Returns the storage version this snapshot was taken at. The version grows with every change of the board.
+     *
+     * @return The version of the snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the matches in summary order.
+     *
+     * @return An immutable list of matches.
+     */
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("SummarySnapshot{");
+        sb.append("version=").append(version);
+        sb.append(", matches=").append(matches);
+        sb.append('}');
+        return sb.toString();
+    }
+}
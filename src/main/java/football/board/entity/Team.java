@@ -2,16 +2,45 @@ package football.board.entity;
 
 import football.board.exception.InvalidArgumentException;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.UUID;
 
-public class Team {
+public class Team implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The handle of a team that was not created by a {@link TeamRegistry}.
+     */
+    public static final int NO_HANDLE = -1;
+
     private final UUID uuid;
     private final String name;
+    private final int handle;
 
     public Team(String name) {
         validateName(name);
         this.uuid = UUID.randomUUID();
         this.name = name;
+        this.handle = NO_HANDLE;
+    }
+
+    /**
+     * Re-creates a team with a known UUID, e.g. when loading it from a persisted storage.
+     *
+     * @param uuid The UUID of the team.
+     * @param name The name of the team.
+     */
+    public Team(UUID uuid, String name) {
+        this(uuid, name, NO_HANDLE);
+    }
+
+    Team(UUID uuid, String name, int handle) {
+        validateName(name);
+        this.uuid = uuid;
+        this.name = name;
+        this.handle = handle;
     }
 
     public UUID getUuid() {
@@ -22,16 +51,46 @@ public class Team {
         return name;
     }
 
+    /**
+     * Returns the dense handle the {@link TeamRegistry} gave this team.
+     *
+     * @return The handle, starting at zero, or {@link #NO_HANDLE} for a team created outside a registry.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    /**
+     * Re-creates a deserialized team through the validating constructor and drops its handle, since handles are
+     * only valid in the JVM that gave them out.
+     *
+     * @return A team with the same UUID and name and no handle.
+     * @throws InvalidObjectException If the stream holds a team without UUID or with an invalid name.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (uuid == null) {
+            throw new InvalidObjectException("Team without UUID.");
+        }
+        try {
+            return new Team(uuid, name);
+        } catch (InvalidArgumentException e) {
+            InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer("Team{");
         sb.append("uuid=").append(uuid);
         sb.append(", name='").append(name).append('\'');
+        sb.append(", handle=").append(handle);
         sb.append('}');
         return sb.toString();
     }
 
-    private void validateName(String name) {
+    static void validateName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new InvalidArgumentException("Team name cannot be null or empty");
         }
@@ -0,0 +1,149 @@
+package football.board.entity;
+
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.exception.ScoreBoardException;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Interns teams so that one club is one {@link Team} with one UUID across all its matches, and gives every team a
+ * dense {@code int} {@link Team#getHandle() handle}.
+ * <p>
+ * Teams are interned by name or by an external ID, such as the ID of a data feed; the two key spaces are separate.
+ * Lookups by key and by handle never lock: keys are read from concurrent maps, and handles index an array whose
+ * slots are filled once and never changed; it is replaced by a larger copy when full. Registering a new team takes a lock.
+ * <p>
+ * Handles are unique within the JVM, even across registries, so storages can index teams by handle without
+ * knowing their registry. With a single registry they are dense and start at zero.
+ */
+public class TeamRegistry {
+
+    /**
+     * The maximum number of teams registered in the JVM.
+     */
+    public static final int MAX_TEAMS = 1 << 22;
+
+    private static final AtomicInteger NEXT_HANDLE = new AtomicInteger();
+
+    private final ConcurrentMap<String, Team> teamsByName = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Team> teamsByExternalId = new ConcurrentHashMap<>();
+
+    private final ReentrantLock registrationLock = new ReentrantLock();
+
+    /**
+     * The teams by handle, indexed by the JVM-wide handle.
+     */
+    private volatile Team[] teamsByHandle = new Team[64];
+
+    private volatile int size;
+
+    /**
+     * Returns the team with the given name, registering it on first use.
+     *
+     * @param name The name of the team.
+     * @return The interned team.
+     * @throws InvalidArgumentException If the name is null or empty.
+     */
+    public Team intern(String name) {
+        Team.validateName(name);
+        Team team = teamsByName.get(name);
+        return team != null ? team : register(teamsByName, name, name);
+    }
+
+    /**
+     * Returns the team with the given external ID, registering it with the given name on first use.
+     * The name of an already registered team is not changed.
+     *
+     * @param externalId The external ID of the team.
+     * @param name       The name of the team, used when it is registered.
+     * @return The interned team.
+     * @throws InvalidArgumentException If the external ID is null or the name is null or empty.
+     */
+    public Team internByExternalId(String externalId, String name) {
+        if (externalId == null) {
+            throw new InvalidArgumentException("External ID cannot be null.");
+        }
+        Team team = teamsByExternalId.get(externalId);
+        return team != null ? team : register(teamsByExternalId, externalId, name);
+    }
+
+    /**
+     * Finds a team interned by name.
+     *
+     * @param name The name of the team.
+     * @return The team, or empty if no team with this name is interned.
+     */
+    public Optional<Team> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(teamsByName.get(name));
+    }
+
+    /**
+     * Finds a team interned by external ID.
+     *
+     * @param externalId The external ID of the team.
+     * @return The team, or empty if no team with this external ID is interned.
+     */
+    public Optional<Team> findByExternalId(String externalId) {
+        return externalId == null ? Optional.empty() : Optional.ofNullable(teamsByExternalId.get(externalId));
+    }
+
+    /**
+     * Returns the team with the given handle. Does not lock.
+     *
+     * @param handle The handle of the team.
+     * @return The team.
+     * @throws NotFoundException If this registry has no team with the handle.
+     */
+    public Team get(int handle) {
+        Team[] teams = teamsByHandle;
+        Team team = handle >= 0 && handle < teams.length ? teams[handle] : null;
+        if (team == null) {
+            throw new NotFoundException("Team with handle " + handle + " not found");
+        }
+        return team;
+    }
+
+    /**
+     * Returns the number of teams registered in this registry.
+     *
+     * @return The number of teams.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Team register(ConcurrentMap<String, Team> teamsByKey, String key, String name) {
+        try {
+            registrationLock.lock();
+            Team team = teamsByKey.get(key);
+            if (team != null) {
+                return team;
+            }
+            Team.validateName(name);
+            int handle = NEXT_HANDLE.getAndIncrement();
+            if (handle >= MAX_TEAMS) {
+                throw new ScoreBoardException("No more than " + MAX_TEAMS + " teams can be registered.");
+            }
+            team = new Team(UUID.randomUUID(), name, handle);
+            Team[] teams = teamsByHandle;
+            if (handle >= teams.length) {
+                teams = Arrays.copyOf(teams, Math.max(handle + 1, Math.min(MAX_TEAMS, teams.length * 2)));
+            }
+            teams[handle] = team;
+            teamsByHandle = teams;
+            teamsByKey.put(key, team);
+            size++;
+            return team;
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+}
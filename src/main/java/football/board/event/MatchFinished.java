@@ -0,0 +1,21 @@
+package football.board.event;
+
+import football.board.entity.Match;
+
+/**
+ * A match has been finished and removed from the scoreboard.
+ */
+public final class MatchFinished extends ScoreBoardEvent {
+
+    public MatchFinished(Match match) {
+        super(match);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("MatchFinished{");
+        sb.append("match=").append(getMatch());
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package football.board.event;
+
+import football.board.entity.Match;
+
+/**
+ * A match has been added to the scoreboard.
+ */
+public final class MatchStarted extends ScoreBoardEvent {
+
+    public MatchStarted(Match match) {
+        super(match);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("MatchStarted{");
+        sb.append("match=").append(getMatch());
+        sb.append('}');
+        return sb.toString();
+    }
+}
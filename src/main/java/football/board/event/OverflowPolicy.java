@@ -0,0 +1,18 @@
+package football.board.event;
+
+/**
+ * What a subscription does with a new event when its queue is full because the listener is slow.
+ */
+public enum OverflowPolicy {
+    /**
+     * The new event is dropped.
+     */
+    DROP,
+
+    /**
+     * A new {@link ScoreChanged} or {@link RankChanged} event replaces the pending event of the same type
+     * for the same match, even when the queue is not full, so the listener only sees the latest state.
+     * Other events are dropped when the queue is full.
+     */
+    COALESCE
+}
@@ -0,0 +1,42 @@
+package football.board.event;
+
+import football.board.entity.Match;
+
+/**
+ * A score update moved a match to another position of the summary. Ranks are zero-based positions in
+ * the summary order; the matches between the two positions shifted by one place.
+ */
+public final class RankChanged extends ScoreBoardEvent {
+    private final int previousRank;
+
+    private final int rank;
+
+    public RankChanged(Match match, int previousRank, int rank) {
+        super(match);
+        this.previousRank = previousRank;
+        this.rank = rank;
+    }
+
+    public int getPreviousRank() {
+        return previousRank;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    @Override
+    public boolean isCoalescible() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("RankChanged{");
+        sb.append("match=").append(getMatch());
+        sb.append(", previousRank=").append(previousRank);
+        sb.append(", rank=").append(rank);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package football.board.event;
+
+import football.board.entity.Match;
+
+import java.util.UUID;
+
+/**
+ * Base class of the change events pushed to {@link ScoreBoardListener}s.
+ */
+public abstract class ScoreBoardEvent {
+    private final Match match;
+
+    protected ScoreBoardEvent(Match match) {
+        this.match = match;
+    }
+
+    public UUID getMatchUuid() {
+        return match.getMatchUuid();
+    }
+
+    /**
+     * Returns the match as it is after the change.
+     *
+     * @return The match.
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Checks if a newer pending event of the same type for the same match makes this one obsolete,
+     * see {@link OverflowPolicy#COALESCE}.
+     *
+     * @return True if only the latest event of this type per match matters.
+     */
+    public boolean isCoalescible() {
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package football.board.event;
+
+import football.board.concurrent.VirtualThreads;
+import football.board.exception.InvalidArgumentException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Fans scoreboard events out to the registered subscriptions.
+ * <p>
+ * Publishing only appends to the bounded queue of each subscription, so the cost for the publishing thread does not
+ * depend on how fast the listeners are. Each subscription is drained by its own thread; on a runtime with virtual
+ * threads (Java 21+) these are virtual threads, otherwise daemon platform threads.
+ */
+public class ScoreBoardEventPublisher {
+
+    private static final ThreadFactory DEFAULT_THREAD_FACTORY = deliveryThreadFactory();
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Constructs a publisher delivering events on virtual threads when the runtime supports them.
+     */
+    public ScoreBoardEventPublisher() {
+        this(DEFAULT_THREAD_FACTORY);
+    }
+
+    /**
+     * Constructs a publisher delivering events on threads created by the given factory.
+     *
+     * @param threadFactory The factory of the delivery threads, one per subscription.
+     */
+    public ScoreBoardEventPublisher(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Registers a listener with its own bounded queue.
+     *
+     * @param listener The listener.
+     * @param capacity The maximum number of events waiting for the listener.
+     * @param policy   What to do with new events when the queue is full.
+     * @return The subscription, to be closed to unregister the listener.
+     * @throws InvalidArgumentException If an argument is null or the capacity is not positive.
+     */
+    public Subscription subscribe(ScoreBoardListener listener, int capacity, OverflowPolicy policy) {
+        if (listener == null || policy == null) {
+            throw new InvalidArgumentException("Listener and overflow policy must not be null.");
+        }
+        if (capacity <= 0) {
+            throw new InvalidArgumentException("Queue capacity must be positive.");
+        }
+        Subscription subscription = new Subscription(listener, capacity, policy, this, threadFactory);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Checks if any listener is registered, so callers can skip building events nobody receives.
+     *
+     * @return {@code true} if there is at least one subscription.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Queues an event for every subscription without waiting for the listeners.
+     *
+     * @param event The event to publish.
+     */
+    public void publish(ScoreBoardEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Uses virtual threads when the runtime has them, daemon platform threads otherwise.
+     */
+    private static ThreadFactory deliveryThreadFactory() {
+        ThreadFactory virtualThreads = VirtualThreads.factory();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-events");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
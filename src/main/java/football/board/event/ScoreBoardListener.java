@@ -0,0 +1,16 @@
+package football.board.event;
+
+/**
+ * Receives the change events of a scoreboard. Events are delivered in order, one at a time,
+ * on the delivery thread of the subscription.
+ */
+@FunctionalInterface
+public interface ScoreBoardListener {
+
+    /**
+     * Handles an event. An exception thrown here is ignored and does not stop the delivery of later events.
+     *
+     * @param event The event.
+     */
+    void onEvent(ScoreBoardEvent event);
+}
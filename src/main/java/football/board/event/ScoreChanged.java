@@ -0,0 +1,41 @@
+package football.board.event;
+
+import football.board.entity.Match;
+
+/**
+ * The score of a match has been updated.
+ */
+public final class ScoreChanged extends ScoreBoardEvent {
+    private final int previousHomeScore;
+
+    private final int previousAwayScore;
+
+    public ScoreChanged(Match previous, Match match) {
+        super(match);
+        this.previousHomeScore = previous.getHomeScore();
+        this.previousAwayScore = previous.getAwayScore();
+    }
+
+    public int getPreviousHomeScore() {
+        return previousHomeScore;
+    }
+
+    public int getPreviousAwayScore() {
+        return previousAwayScore;
+    }
+
+    @Override
+    public boolean isCoalescible() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("ScoreChanged{");
+        sb.append("match=").append(getMatch());
+        sb.append(", previousHomeScore=").append(previousHomeScore);
+        sb.append(", previousAwayScore=").append(previousAwayScore);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,276 @@
+package football.board.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A registered listener with its own bounded event queue and delivery thread.
+ * <p>
+ * {@link #offer(ScoreBoardEvent)} never blocks on the listener: when the queue is full the event is
+ * handled according to the {@link OverflowPolicy} of the subscription and counted as dropped. Exceptions thrown by
+ * the listener are counted and the last one is kept; they do not stop the delivery of later events.
+ */
+public final class Subscription implements AutoCloseable {
+
+    private final ScoreBoardListener listener;
+
+    private final int capacity;
+
+    private final OverflowPolicy policy;
+
+    private final ScoreBoardEventPublisher publisher;
+
+    /**
+     * The pending events, in publication order. Coalesced events are replaced inside their slot
+     * so they keep their position.
+     */
+    private final ArrayDeque<Slot> queue;
+
+    /**
+     * The pending coalescible events by match and event type, only used by {@link OverflowPolicy#COALESCE}.
+     */
+    private final Map<CoalesceKey, Slot> pendingByKey;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Thread deliveryThread;
+
+    private long droppedCount;
+
+    private long coalescedCount;
+
+    private long failedCount;
+
+    private RuntimeException lastFailure;
+
+    private boolean closed;
+
+    Subscription(ScoreBoardListener listener, int capacity, OverflowPolicy policy,
+                 ScoreBoardEventPublisher publisher, ThreadFactory threadFactory) {
+        this.listener = listener;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.publisher = publisher;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 1024));
+        this.pendingByKey = new HashMap<>();
+        this.deliveryThread = threadFactory.newThread(this::deliver);
+        this.deliveryThread.start();
+    }
+
+    /**
+     * Queues an event for delivery without waiting for the listener.
+     *
+     * @param event The event to queue.
+     * @return {@code true} if the event was queued or merged into a pending one, {@code false} if it was dropped.
+     */
+    boolean offer(ScoreBoardEvent event) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            CoalesceKey key = null;
+            if (policy == OverflowPolicy.COALESCE && event.isCoalescible()) {
+                key = new CoalesceKey(event.getMatchUuid(), event.getClass());
+                Slot pending = pendingByKey.get(key);
+                if (pending != null) {
+                    pending.event = event;
+                    coalescedCount++;
+                    return true;
+                }
+            }
+            if (queue.size() >= capacity) {
+                droppedCount++;
+                return false;
+            }
+            Slot slot = new Slot(event, key);
+            queue.addLast(slot);
+            if (key != null) {
+                pendingByKey.put(key, slot);
+            }
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliver() {
+        while (true) {
+            ScoreBoardEvent event;
+            lock.lock();
+            try {
+                while (queue.isEmpty() && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                Slot slot = queue.pollFirst();
+                if (slot.key != null) {
+                    pendingByKey.remove(slot.key);
+                }
+                event = slot.event;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    failedCount++;
+                    lastFailure = e;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     *
+     * @return The dropped event count.
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events merged into a pending event of the same type and match.
+     *
+     * @return The coalesced event count.
+     */
+    public long getCoalescedCount() {
+        lock.lock();
+        try {
+            return coalescedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events whose delivery threw an exception in the listener.
+     *
+     * @return The failed delivery count.
+     */
+    public long getFailedCount() {
+        lock.lock();
+        try {
+            return failedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the last exception thrown by the listener.
+     *
+     * @return The last listener failure, or empty if the listener never failed.
+     */
+    public Optional<RuntimeException> getLastFailure() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(lastFailure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events waiting for delivery.
+     *
+     * @return The queue depth.
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Unregisters the listener and stops the delivery thread. Pending events are discarded;
+     * an event being delivered completes.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            pendingByKey.clear();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        publisher.remove(this);
+    }
+
+    /**
+     * A queue entry whose event can be replaced while it is pending.
+     */
+    private static final class Slot {
+        private ScoreBoardEvent event;
+
+        private final CoalesceKey key;
+
+        private Slot(ScoreBoardEvent event, CoalesceKey key) {
+            this.event = event;
+            this.key = key;
+        }
+    }
+
+    private static final class CoalesceKey {
+        private final UUID matchUuid;
+
+        private final Class<?> eventType;
+
+        private CoalesceKey(UUID matchUuid, Class<?> eventType) {
+            this.matchUuid = matchUuid;
+            this.eventType = eventType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CoalesceKey)) return false;
+            CoalesceKey that = (CoalesceKey) o;
+            return matchUuid.equals(that.matchUuid) && eventType == that.eventType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(matchUuid, eventType);
+        }
+    }
+}
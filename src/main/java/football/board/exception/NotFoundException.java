@@ -6,6 +6,9 @@ import java.util.UUID;
  * Exception thrown when an entity is not found in the Score Board.
  */
 public class NotFoundException extends ScoreBoardException {
+
+    private final UUID matchUuid;
+
     /**
      * Constructs a new NotFoundException with the specified detail message.
      *
@@ -13,15 +16,32 @@ public class NotFoundException extends ScoreBoardException {
      */
     public NotFoundException(String message) {
         super(message);
+        this.matchUuid = null;
     }
 
     /**
      * Constructs a new NotFoundException for a specific entity with its UUID.
+     * The message is only built when it is read.
      *
      * @param matchUuid The UUID of the entity not found.
      */
     public NotFoundException(UUID matchUuid) {
-        this("Match with UUID: " + matchUuid + " not found");
+        super(null);
+        this.matchUuid = matchUuid;
+    }
+
+    /**
+     * Returns the UUID of the match that was not found.
+     *
+     * @return The match UUID, or {@code null} if the exception was created with a message.
+     */
+    public UUID getMatchUuid() {
+        return matchUuid;
     }
 
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : "Match with UUID: " + matchUuid + " not found";
+    }
 }
@@ -2,8 +2,21 @@ package football.board.exception;
 
 /**
  * Base exception for the Score Board project.
+ * <p>
+ * Capturing the stack trace is the most expensive part of throwing. Boards rejecting many inputs, such as stale feed
+ * events for finished matches, can switch it off with {@link #setStackTraceCapture(boolean)} or with the system
+ * property {@value #STACK_TRACE_PROPERTY}{@code =false}.
  */
 public class ScoreBoardException extends RuntimeException{
+
+    /**
+     * The system property giving the initial value of {@link #isStackTraceCapture()}.
+     */
+    public static final String STACK_TRACE_PROPERTY = "football.board.exception.stackTrace";
+
+    private static volatile boolean stackTraceCapture =
+            Boolean.parseBoolean(System.getProperty(STACK_TRACE_PROPERTY, "true"));
+
     /**
      * Constructs a new Score Board exception with the specified detail message.
      *
@@ -12,4 +25,27 @@ public class ScoreBoardException extends RuntimeException{
     public ScoreBoardException(String message) {
         super(message);
     }
+
+    /**
+     * Returns whether new exceptions capture their stack trace.
+     *
+     * @return {@code true} unless switched off.
+     */
+    public static boolean isStackTraceCapture() {
+        return stackTraceCapture;
+    }
+
+    /**
+     * Switches stack trace capture of new Score Board exceptions on or off, for all exception types.
+     *
+     * @param capture {@code false} to create exceptions with an empty stack trace.
+     */
+    public static void setStackTraceCapture(boolean capture) {
+        stackTraceCapture = capture;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return stackTraceCapture ? super.fillInStackTrace() : this;
+    }
 }
@@ -0,0 +1,26 @@
+package football.board.exception;
+
+/**
+ * Exception thrown when a storage cannot read or write its persisted data.
+ */
+public class StorageException extends ScoreBoardException {
+    /**
+     * Constructs a new StorageException with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public StorageException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new StorageException with the specified detail message and cause.
+     *
+     * @param message The detail message.
+     * @param cause   The underlying I/O failure.
+     */
+    public StorageException(String message, Throwable cause) {
+        super(message);
+        initCause(cause);
+    }
+}
@@ -0,0 +1,20 @@
+package football.board.feed;
+
+/**
+ * A connection to a score feed, run by {@link FeedGateway#connect(String, Feed)} on its own thread.
+ * <p>
+ * The feed reads events from its source and hands them to the gateway. Submitting blocks while the gateway is full,
+ * which on a virtual thread costs no platform thread, so a feed can simply read and submit in a loop until its
+ * source ends or the thread is interrupted.
+ */
+@FunctionalInterface
+public interface Feed {
+
+    /**
+     * Reads the events of the feed and submits them to the gateway.
+     *
+     * @param gateway The gateway to submit the events to.
+     * @throws Exception If the feed fails; the failure is counted by the gateway and ends the connection.
+     */
+    void run(FeedGateway gateway) throws Exception;
+}
@@ -0,0 +1,468 @@
+package football.board.feed;
+
+import football.board.concurrent.VirtualThreads;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.ScoreBoardException;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.service.MatchService;
+import football.board.service.ScoreService;
+import football.board.service.UpdateStatus;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ingests score feeds into a board, one thread per feed connection and one serial queue per match.
+ * <p>
+ * Every {@link Feed} runs on its own thread, a virtual thread on Java 21+. Its events are routed to the queue of
+ * their match: the events of one match are applied in the order they were submitted, one at a time, while the queues
+ * of different matches are drained in parallel by the workers. A queue is drained in turns of a few events so a busy
+ * match cannot hold a worker, and it is dropped once it is empty.
+ * <p>
+ * At most {@code capacity} events are queued over all matches. When the board falls behind, submitting waits for
+ * room, which blocks only the feed that submitted. The time every event waited in its queue is recorded into the
+ * metrics as {@link Operation#FEED_QUEUE_LAG}. Events are applied through {@link ScoreService#tryUpdateScore} and
+ * {@link MatchService#tryFinishMatchByUUID}, and the ones the board rejects are counted instead of thrown.
+ */
+public class FeedGateway implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    /**
+     * The number of events a worker applies from one match queue before it gives the other matches a turn.
+     */
+    private static final int EVENTS_PER_TURN = 64;
+
+    private final ScoreService scores;
+
+    private final MatchService matches;
+
+    private final BoardMetrics metrics;
+
+    private final int capacity;
+
+    /**
+     * One permit per event that can still be queued.
+     */
+    private final Semaphore room;
+
+    private final ConcurrentMap<UUID, MatchQueue> queues = new ConcurrentHashMap<>();
+
+    private final ThreadFactory feedThreadFactory;
+
+    private final Executor workers;
+
+    /**
+     * The worker pool created by this gateway, shut down on {@link #close()}, or {@code null}.
+     */
+    private final ExecutorService ownedWorkers;
+
+    private final Set<Thread> feedThreads = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder appliedEvents = new LongAdder();
+
+    private final LongAdder failedEvents = new LongAdder();
+
+    private final LongAdder rejectedEvents = new LongAdder();
+
+    private final LongAdder failedFeeds = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a gateway with the default capacity, recording the queue lag into enabled metrics.
+     *
+     * @param board The board to apply the events to.
+     * @param <B>   The type of the board.
+     */
+    public <B extends ScoreService & MatchService> FeedGateway(B board) {
+        this(board, DEFAULT_CAPACITY, new BoardMetrics());
+    }
+
+    /**
+     * Constructs a gateway running feeds and workers on virtual threads, or on Java 17 the feeds on daemon platform
+     * threads and the workers on a pool with one thread per processor.
+     *
+     * @param board    The board to apply the events to.
+     * @param capacity The maximum number of queued events.
+     * @param metrics  The metrics to record the queue lag into.
+     * @param <B>      The type of the board.
+     * @throws InvalidArgumentException If the capacity is not positive.
+     */
+    public <B extends ScoreService & MatchService> FeedGateway(B board, int capacity, BoardMetrics metrics) {
+        this(board, board, capacity, metrics, null, null);
+    }
+
+    /**
+     * Constructs a gateway running feeds and workers on the given threads.
+     *
+     * @param board             The board to apply the events to.
+     * @param capacity          The maximum number of queued events.
+     * @param metrics           The metrics to record the queue lag into.
+     * @param feedThreadFactory The factory of the feed threads, one per connection.
+     * @param workers           The executor draining the match queues; it is not shut down by the gateway.
+     * @param <B>               The type of the board.
+     * @throws InvalidArgumentException If the capacity is not positive.
+     */
+    public <B extends ScoreService & MatchService> FeedGateway(B board, int capacity, BoardMetrics metrics,
+                                                               ThreadFactory feedThreadFactory, Executor workers) {
+        this(board, board, capacity, metrics, feedThreadFactory, workers);
+    }
+
+    private FeedGateway(ScoreService scores, MatchService matches, int capacity, BoardMetrics metrics,
+                        ThreadFactory feedThreadFactory, Executor workers) {
+        if (capacity <= 0) {
+            throw new InvalidArgumentException("Capacity must be positive.");
+        }
+        this.scores = scores;
+        this.matches = matches;
+        this.metrics = metrics;
+        this.capacity = capacity;
+        this.room = new Semaphore(capacity);
+        if (feedThreadFactory != null) {
+            this.feedThreadFactory = feedThreadFactory;
+        } else if (VirtualThreads.factory() != null) {
+            this.feedThreadFactory = VirtualThreads.factory();
+        } else {
+            this.feedThreadFactory = daemonThreadFactory("score-feed");
+        }
+        if (workers != null) {
+            this.workers = workers;
+            this.ownedWorkers = null;
+        } else if (VirtualThreads.factory() != null) {
+            this.workers = task -> VirtualThreads.factory().newThread(task).start();
+            this.ownedWorkers = null;
+        } else {
+            this.ownedWorkers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    daemonThreadFactory("score-feed-worker"));
+            this.workers = ownedWorkers;
+        }
+    }
+
+    public BoardMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Runs a feed on a new feed thread until its source ends, it fails or the gateway is closed.
+     *
+     * @param name The name of the feed thread.
+     * @param feed The feed.
+     * @return The started feed thread.
+     * @throws InvalidArgumentException If the feed is null.
+     * @throws ScoreBoardException      If the gateway is closed.
+     */
+    public Thread connect(String name, Feed feed) {
+        if (feed == null) {
+            throw new InvalidArgumentException("Feed cannot be null.");
+        }
+        checkOpen();
+        Thread thread = feedThreadFactory.newThread(() -> runFeed(feed));
+        thread.setName(name);
+        feedThreads.add(thread);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Queues a score update of a match, waiting while the gateway is full.
+     *
+     * @param matchUuid The UUID of the match.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @throws InterruptedException     If the thread was interrupted while waiting for room.
+     * @throws InvalidArgumentException If the match UUID is null.
+     * @throws ScoreBoardException      If the gateway is closed.
+     */
+    public void submitScore(UUID matchUuid, int homeScore, int awayScore) throws InterruptedException {
+        submit(new FeedEvent(matchUuid, homeScore, awayScore, false));
+    }
+
+    /**
+     * Queues the end of a match, waiting while the gateway is full.
+     *
+     * @param matchUuid The UUID of the match.
+     * @throws InterruptedException     If the thread was interrupted while waiting for room.
+     * @throws InvalidArgumentException If the match UUID is null.
+     * @throws ScoreBoardException      If the gateway is closed.
+     */
+    public void submitFinish(UUID matchUuid) throws InterruptedException {
+        submit(new FeedEvent(matchUuid, 0, 0, true));
+    }
+
+    /**
+     * Queues a score update of a match if there is room, without waiting.
+     *
+     * @param matchUuid The UUID of the match.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the update was queued, {@code false} if the gateway is full.
+     * @throws InvalidArgumentException If the match UUID is null.
+     * @throws ScoreBoardException      If the gateway is closed.
+     */
+    public boolean trySubmitScore(UUID matchUuid, int homeScore, int awayScore) {
+        FeedEvent event = new FeedEvent(matchUuid, homeScore, awayScore, false);
+        checkOpen();
+        if (!room.tryAcquire()) {
+            rejectedEvents.increment();
+            return false;
+        }
+        enqueue(event);
+        return true;
+    }
+
+    /**
+     * Waits until every queued event has been applied.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit    The unit of the timeout.
+     * @return {@code true} if the queues are empty, {@code false} if the timeout elapsed first.
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!room.tryAcquire(capacity, timeout, unit)) {
+            return false;
+        }
+        room.release(capacity);
+        return true;
+    }
+
+    /**
+     * Returns the number of events queued and not applied yet, over all matches.
+     *
+     * @return The queue depth.
+     */
+    public int getQueueDepth() {
+        return capacity - room.availablePermits();
+    }
+
+    /**
+     * Returns the number of matches with queued events.
+     *
+     * @return The number of match queues.
+     */
+    public int getMatchQueueCount() {
+        return queues.size();
+    }
+
+    /**
+     * Returns the number of feeds currently connected.
+     *
+     * @return The number of running feed threads.
+     */
+    public int getConnectedFeeds() {
+        return feedThreads.size();
+    }
+
+    public long getAppliedEvents() {
+        return appliedEvents.sum();
+    }
+
+    /**
+     * Returns the number of events the board did not apply, for unknown matches or invalid scores.
+     *
+     * @return The number of failed events.
+     */
+    public long getFailedEvents() {
+        return failedEvents.sum();
+    }
+
+    /**
+     * Returns the number of events {@link #trySubmitScore(UUID, int, int)} turned away because the gateway was full.
+     *
+     * @return The number of rejected events.
+     */
+    public long getRejectedEvents() {
+        return rejectedEvents.sum();
+    }
+
+    /**
+     * Returns the number of feeds that ended with an exception.
+     *
+     * @return The number of failed feeds.
+     */
+    public long getFailedFeeds() {
+        return failedFeeds.sum();
+    }
+
+    /**
+     * Stops accepting events, interrupts the feed threads and waits until the queued events have been applied.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread thread : feedThreads) {
+            thread.interrupt();
+        }
+        room.acquireUninterruptibly(capacity);
+        room.release(capacity);
+        if (ownedWorkers != null) {
+            ownedWorkers.shutdown();
+        }
+    }
+
+    private void submit(FeedEvent event) throws InterruptedException {
+        checkOpen();
+        room.acquire();
+        enqueue(event);
+    }
+
+    /**
+     * Appends an event to the queue of its match and schedules the queue if it is idle. The caller holds a permit.
+     */
+    private void enqueue(FeedEvent event) {
+        if (closed) {
+            room.release();
+            checkOpen();
+        }
+        event.enqueuedAt = metrics.start();
+        while (true) {
+            MatchQueue queue = queues.computeIfAbsent(event.matchUuid, MatchQueue::new);
+            if (queue.append(event)) {
+                return;
+            }
+        }
+    }
+
+    private void apply(FeedEvent event) {
+        metrics.record(Operation.FEED_QUEUE_LAG, event.enqueuedAt);
+        try {
+            UpdateStatus status = event.finish
+                    ? matches.tryFinishMatchByUUID(event.matchUuid)
+                    : scores.tryUpdateScore(event.matchUuid, event.homeScore, event.awayScore);
+            (status == UpdateStatus.APPLIED ? appliedEvents : failedEvents).increment();
+        } catch (RuntimeException e) {
+            failedEvents.increment();
+        } finally {
+            room.release();
+        }
+    }
+
+    private void runFeed(Feed feed) {
+        try {
+            feed.run(this);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (!closed) {
+                failedFeeds.increment();
+            }
+        } finally {
+            feedThreads.remove(Thread.currentThread());
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new ScoreBoardException("The feed gateway is closed.");
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A score update or the end of a match, waiting in the queue of its match.
+     */
+    private static final class FeedEvent {
+        private final UUID matchUuid;
+        private final int homeScore;
+        private final int awayScore;
+        private final boolean finish;
+        private long enqueuedAt;
+
+        private FeedEvent(UUID matchUuid, int homeScore, int awayScore, boolean finish) {
+            if (matchUuid == null) {
+                throw new InvalidArgumentException("Match UUID cannot be null.");
+            }
+            this.matchUuid = matchUuid;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+            this.finish = finish;
+        }
+    }
+
+    /**
+     * The serial queue of one match. At most one worker drains it at a time; once it is found empty it is retired
+     * and removed, and the next event of the match creates a new queue.
+     */
+    private final class MatchQueue implements Runnable {
+        private final UUID matchUuid;
+        private final ArrayDeque<FeedEvent> events = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean scheduled;
+        private boolean retired;
+
+        private MatchQueue(UUID matchUuid) {
+            this.matchUuid = matchUuid;
+        }
+
+        /**
+         * Appends an event and schedules the queue if no worker is draining it.
+         *
+         * @return {@code false} if the queue was retired and the event must go to a new queue.
+         */
+        private boolean append(FeedEvent event) {
+            boolean schedule;
+            try {
+                lock.lock();
+                if (retired) {
+                    return false;
+                }
+                events.add(event);
+                schedule = !scheduled;
+                scheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                workers.execute(this);
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            for (int applied = 0; applied < EVENTS_PER_TURN; applied++) {
+                FeedEvent event = pollOrRetire();
+                if (event == null) {
+                    return;
+                }
+                apply(event);
+            }
+            workers.execute(this);
+        }
+
+        private FeedEvent pollOrRetire() {
+            try {
+                lock.lock();
+                FeedEvent event = events.poll();
+                if (event == null) {
+                    scheduled = false;
+                    retired = true;
+                    queues.remove(matchUuid, this);
+                }
+                return event;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
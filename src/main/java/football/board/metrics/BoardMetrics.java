@@ -0,0 +1,318 @@
+package football.board.metrics;
+
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.ScoreBoardException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Operation counts, latency histograms, lock wait and hold times, board size and exception counts of one board.
+ * <p>
+ * Callers time an operation with {@link #start()} and {@link #record(Operation, long)}. While the metrics are
+ * disabled, {@code start()} only reads a volatile flag and {@code record} returns at once; while enabled, recording
+ * updates preallocated counters and does not allocate. The metrics can be switched on and off at runtime, also
+ * through JMX after {@link #registerMBeans(MBeanServer, String)}.
+ */
+public final class BoardMetrics implements BoardMetricsMXBean {
+
+    /**
+     * The start time returned by {@link #start()} while the metrics are disabled.
+     */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private static final String DOMAIN = "football.board";
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+
+    private final ConcurrentMap<Class<?>, LongAdder> exceptionCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    private volatile LongSupplier boardSize = () -> -1;
+
+    private volatile DoubleSupplier summaryCacheHitRatio = () -> -1.0;
+
+    /**
+     * Constructs enabled metrics.
+     */
+    public BoardMetrics() {
+        this(true);
+    }
+
+    /**
+     * Constructs metrics.
+     *
+     * @param enabled Whether operations are recorded from the start.
+     */
+    public BoardMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return The current {@link System#nanoTime()}, or {@link #NOT_TIMED} if the metrics are disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Records the latency of an operation started with {@link #start()}.
+     *
+     * @param operation The operation.
+     * @param start     The value returned by {@link #start()}.
+     * @return The end time of the operation, which can start timing the next one, or {@link #NOT_TIMED}.
+     */
+    public long record(Operation operation, long start) {
+        if (start == NOT_TIMED) {
+            return NOT_TIMED;
+        }
+        long end = System.nanoTime();
+        histograms[operation.ordinal()].record(end - start);
+        return end;
+    }
+
+    /**
+     * Counts an exception thrown to a caller, by its class.
+     *
+     * @param exception The exception.
+     */
+    public void recordException(ScoreBoardException exception) {
+        if (enabled) {
+            exceptionCounts.computeIfAbsent(exception.getClass(), type -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Sets the source of the board size reported by {@link #getBoardSize()}.
+     *
+     * @param boardSize Returns the number of matches in progress.
+     */
+    public void setBoardSizeGauge(LongSupplier boardSize) {
+        this.boardSize = boardSize;
+    }
+
+    /**
+     * Sets the source of the summary cache hit ratio reported by {@link #getSummaryCacheHitRatio()}.
+     *
+     * @param hitRatio Returns the share of summary reads answered from the cache.
+     */
+    public void setSummaryCacheHitRatioGauge(DoubleSupplier hitRatio) {
+        this.summaryCacheHitRatio = hitRatio;
+    }
+
+    /**
+     * Returns the latency histogram of an operation.
+     *
+     * @param operation The operation.
+     * @return The histogram.
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return histograms[operation.ordinal()];
+    }
+
+    /**
+     * Returns the number of matches in progress.
+     *
+     * @return The board size, or -1 if no gauge is set.
+     */
+    @Override
+    public long getBoardSize() {
+        return boardSize.getAsLong();
+    }
+
+    /**
+     * Returns the share of summary reads answered from the summary cache.
+     *
+     * @return The hit ratio between 0 and 1, or -1 if no gauge is set.
+     */
+    @Override
+    public double getSummaryCacheHitRatio() {
+        return summaryCacheHitRatio.getAsDouble();
+    }
+
+    /**
+     * Returns how often every exception type was thrown.
+     *
+     * @return The counts by simple class name.
+     */
+    @Override
+    public Map<String, Long> getExceptionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        exceptionCounts.forEach((type, count) -> counts.put(type.getSimpleName(), count.sum()));
+        return counts;
+    }
+
+    /**
+     * Formats all non-empty histograms, the board size, the summary cache hit ratio and the exception counts as a plain-text table.
+     * Latencies are in microseconds.
+     *
+     * @return The text snapshot.
+     */
+    @Override
+    public String getTextSnapshot() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %10s %10s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            if (histogram.getCount() > 0) {
+                sb.append(String.format("%-22s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                        operation, histogram.getCount(),
+                        micros(histogram.getMean()),
+                        micros(histogram.getPercentile(50)),
+                        micros(histogram.getPercentile(90)),
+                        micros(histogram.getPercentile(99)),
+                        micros(histogram.getPercentile(99.9)),
+                        micros(histogram.getMax())));
+            }
+        }
+        sb.append("boardSize=").append(getBoardSize()).append(System.lineSeparator());
+        sb.append("summaryCacheHitRatio=").append(String.format("%.3f", getSummaryCacheHitRatio())).append(System.lineSeparator());
+        sb.append("exceptions=").append(getExceptionCounts()).append(System.lineSeparator());
+        return sb.toString();
+    }
+
+    /**
+     * Clears all histograms and exception counts.
+     */
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        exceptionCounts.clear();
+    }
+
+    /**
+     * Registers these metrics and one MXBean per operation with an MBean server, under the {@code football.board}
+     * domain with the given board name.
+     *
+     * @param server    The MBean server, usually the platform MBean server.
+     * @param boardName The name telling the boards of one JVM apart.
+     * @throws InvalidArgumentException If the name is invalid or already registered.
+     */
+    public void registerMBeans(MBeanServer server, String boardName) {
+        try {
+            server.registerMBean(this, boardObjectName(boardName));
+            for (Operation operation : OPERATIONS) {
+                server.registerMBean(new OperationStats(histograms[operation.ordinal()]),
+                        operationObjectName(boardName, operation));
+            }
+        } catch (JMException e) {
+            throw new InvalidArgumentException("Cannot register metrics of board " + boardName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the MBeans registered by {@link #registerMBeans(MBeanServer, String)}.
+     *
+     * @param server    The MBean server.
+     * @param boardName The board name used for registering.
+     */
+    public void unregisterMBeans(MBeanServer server, String boardName) {
+        try {
+            for (Operation operation : OPERATIONS) {
+                ObjectName name = operationObjectName(boardName, operation);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            }
+            ObjectName name = boardObjectName(boardName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new InvalidArgumentException("Cannot unregister metrics of board " + boardName + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getTextSnapshot();
+    }
+
+    private static ObjectName boardObjectName(String boardName) throws JMException {
+        return new ObjectName(DOMAIN + ":type=BoardMetrics,board=" + ObjectName.quote(boardName));
+    }
+
+    private static ObjectName operationObjectName(String boardName, Operation operation) throws JMException {
+        return new ObjectName(DOMAIN + ":type=OperationStats,board=" + ObjectName.quote(boardName)
+                + ",operation=" + operation);
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * The MXBean of one operation histogram.
+     */
+    private static final class OperationStats implements OperationStatsMXBean {
+        private final LatencyHistogram histogram;
+
+        private OperationStats(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        @Override
+        public long getMeanNanos() {
+            return histogram.getMean();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return histogram.getPercentile(50);
+        }
+
+        @Override
+        public long getP90Nanos() {
+            return histogram.getPercentile(90);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return histogram.getPercentile(99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return histogram.getPercentile(99.9);
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return histogram.getMax();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package football.board.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the board-wide {@link BoardMetrics}.
+ */
+public interface BoardMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getBoardSize();
+
+    double getSummaryCacheHitRatio();
+
+    Map<String, Long> getExceptionCounts();
+
+    String getTextSnapshot();
+
+    void reset();
+}
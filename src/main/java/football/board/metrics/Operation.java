@@ -0,0 +1,43 @@
+package football.board.metrics;
+
+/**
+ * The operations timed by {@link BoardMetrics}.
+ */
+public enum Operation {
+    NEW_MATCH,
+    UPDATE_SCORE,
+    UPDATE_SCORES,
+    FINISH_MATCH,
+    SORTED_SUMMARY,
+    SUMMARY_SNAPSHOT,
+    TOP_MATCHES,
+    SUMMARY_PAGE,
+    SUMMARY_CHANGES,
+
+    STORAGE_ADD_MATCH,
+    STORAGE_UPDATE_SCORE,
+    STORAGE_UPDATE_SCORES,
+    STORAGE_REMOVE_MATCH,
+    STORAGE_FIND_MATCH,
+    STORAGE_TEAM_IN_MATCH,
+    STORAGE_ALL_MATCHES,
+    STORAGE_TOP_MATCHES,
+    STORAGE_SUMMARY_PAGE,
+    STORAGE_SNAPSHOT,
+    STORAGE_CHANGES,
+
+    /**
+     * Time spent waiting for the board lock.
+     */
+    LOCK_WAIT,
+
+    /**
+     * Time the board lock was held.
+     */
+    LOCK_HOLD,
+
+    /**
+     * Time a feed event waited in its match queue of the {@link football.board.feed.FeedGateway} before it was applied.
+     */
+    FEED_QUEUE_LAG
+}
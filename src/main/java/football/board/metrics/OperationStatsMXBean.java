@@ -0,0 +1,20 @@
+package football.board.metrics;
+
+/**
+ * JMX view of the latency histogram of one {@link Operation}. Latencies are in nanoseconds.
+ */
+public interface OperationStatsMXBean {
+    long getCount();
+
+    long getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP90Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+}
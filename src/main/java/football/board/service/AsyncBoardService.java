@@ -0,0 +1,14 @@
+package football.board.service;
+
+import football.board.entity.Team;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncBoardService {
+    CompletableFuture<UUID> newMatch(Team homeTeam, Team awayTeam);
+
+    CompletableFuture<Void> updateScore(UUID matchUuid, int homeScore, int awayScore);
+
+    CompletableFuture<Void> finishMatchByUUID(UUID matchUuid);
+}
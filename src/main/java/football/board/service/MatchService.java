@@ -1,6 +1,8 @@
 package football.board.service;
 
 import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
 
 import java.util.UUID;
 
@@ -9,4 +11,21 @@ public interface MatchService {
 
     void finishMatchByUUID(UUID matchUuid);
 
+    /**
+     * Finishes a match, reporting unknown matches instead of throwing.
+     * Implementations should override this default, which falls back to catching the exceptions.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The outcome of finishing the match.
+     */
+    default UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        try {
+            finishMatchByUUID(matchUuid);
+            return UpdateStatus.APPLIED;
+        } catch (NotFoundException e) {
+            return UpdateStatus.NOT_FOUND;
+        } catch (InvalidArgumentException e) {
+            return UpdateStatus.INVALID_ARGUMENT;
+        }
+    }
 }
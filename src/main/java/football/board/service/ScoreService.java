@@ -1,7 +1,37 @@
 package football.board.service;
 
+import football.board.entity.ScoreUpdate;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ScoreService {
     void updateScore(UUID matchUuid, Integer homeScore, Integer awayScore);
+
+    void updateScore(UUID matchUuid, int homeScore, int awayScore);
+
+    List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates);
+
+    /**
+     * Updates the score of a match, reporting unknown matches and invalid input instead of throwing.
+     * Implementations should override this default, which falls back to catching the exceptions.
+     *
+     * @param matchUuid The UUID of the match.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     * @return The outcome of the update.
+     */
+    default UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        try {
+            updateScore(matchUuid, homeScore, awayScore);
+            return UpdateStatus.APPLIED;
+        } catch (NotFoundException e) {
+            return UpdateStatus.NOT_FOUND;
+        } catch (InvalidArgumentException e) {
+            return UpdateStatus.INVALID_ARGUMENT;
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package football.board.service;
+
+import football.board.event.OverflowPolicy;
+import football.board.event.ScoreBoardListener;
+import football.board.event.Subscription;
+
+public interface SubscriptionService {
+    Subscription subscribe(ScoreBoardListener listener, int queueCapacity, OverflowPolicy policy);
+}
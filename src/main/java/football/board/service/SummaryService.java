@@ -1,9 +1,31 @@
 package football.board.service;
 
 import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface SummaryService {
     Collection<Match> getSortedSummary();
+
+    SummarySnapshot getSummarySnapshot();
+
+    List<Match> getTopMatches(int n);
+
+    SummaryPage getSummaryPage(SummaryCursor cursor, int limit);
+
+    /**
+     * Retrieves the matches added, updated and removed since a version of the summary, with their current ranks.
+     * This default always returns the full snapshot.
+     *
+     * @param version The {@link SummarySnapshot#getVersion() version} of the summary the caller holds.
+     * @return The changes since the version, or a full snapshot if they are no longer known.
+     */
+    default SummaryDelta getChangesSince(long version) {
+        return SummaryDelta.fullSnapshot(version, getSummarySnapshot());
+    }
 }
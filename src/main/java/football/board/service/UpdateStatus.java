@@ -0,0 +1,21 @@
+package football.board.service;
+
+/**
+ * Outcome of an operation that reports its result instead of throwing a {@link football.board.exception.ScoreBoardException}.
+ */
+public enum UpdateStatus {
+    /**
+     * The operation was applied.
+     */
+    APPLIED,
+
+    /**
+     * No match with the given UUID is in progress.
+     */
+    NOT_FOUND,
+
+    /**
+     * The input was rejected by validation.
+     */
+    INVALID_ARGUMENT
+}
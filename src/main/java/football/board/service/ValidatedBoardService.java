@@ -1,13 +1,13 @@
 package football.board.service;
 
 
-import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.ScoreUpdate;
 import football.board.entity.Team;
 import football.board.exception.AlreadyExistsException;
 import football.board.exception.InvalidArgumentException;
 import football.board.storage.Storage;
 
-import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -16,6 +16,8 @@ import java.util.UUID;
  */
 public abstract class ValidatedBoardService implements SummaryService, ScoreService, MatchService {
 
+    protected static final String TEAM_BUSY_MESSAGE = "One of the teams is already participating in another match.";
+
     protected final Storage storage;
 
     protected ValidatedBoardService(Storage storage) {
@@ -33,9 +35,8 @@ public abstract class ValidatedBoardService implements SummaryService, ScoreServ
         validateNotNullOrEmpty(homeTeam, "Home team");
         validateNotNullOrEmpty(awayTeam, "Away team");
 
-        Collection<Match> collection = storage.getAllMatches();
-        if (collection.stream().anyMatch(match -> teamsInMatch(match, homeTeam, awayTeam))) {
-            throw new AlreadyExistsException("One of the teams is already participating in another match.");
+        if (storage.isTeamInMatch(homeTeam) || storage.isTeamInMatch(awayTeam)) {
+            throw new AlreadyExistsException(TEAM_BUSY_MESSAGE);
         }
     }
 
@@ -51,50 +52,78 @@ public abstract class ValidatedBoardService implements SummaryService, ScoreServ
         validateNotNullOrEmpty(matchUuid, "Match UUID");
         validateNotNullOrEmpty(homeScore, "Home score");
         validateNotNullOrEmpty(awayScore, "Away score");
+        validateUpdateScoreInput(matchUuid, homeScore.intValue(), awayScore.intValue());
+    }
+
+    /**
+     * Validate primitive input for updating the score of a match.
+     *
+     * @param matchUuid The UUID of the match.
+     * @param homeScore The home team score.
+     * @param awayScore The away team score.
+     * @throws InvalidArgumentException if any input is invalid.
+     */
+    protected void validateUpdateScoreInput(UUID matchUuid, int homeScore, int awayScore) {
+        validateNotNullOrEmpty(matchUuid, "Match UUID");
 
         if (homeScore < 0 || awayScore < 0) {
             throw new InvalidArgumentException("Negative score is not allowed.");
         }
+        if (homeScore > Score.MAX_SCORE || awayScore > Score.MAX_SCORE) {
+            throw new InvalidArgumentException("Score cannot be greater than " + Score.MAX_SCORE + ".");
+        }
     }
 
     /**
-     * Validate that a value is not null or empty.
+     * Validate the number of matches requested from the summary.
      *
-     * @param value     The value to validate.
+     * @param limit     The number of matches.
      * @param fieldName The name of the field.
-     * @throws InvalidArgumentException if the value is null or empty.
+     * @throws InvalidArgumentException if the number is not positive.
      */
-    private void validateNotNullOrEmpty(Object value, String fieldName) {
-        if (Objects.isNull(value)) {
-            throw new InvalidArgumentException(fieldName + " cannot be null.");
+    protected void validateLimit(int limit, String fieldName) {
+        if (limit <= 0) {
+            throw new InvalidArgumentException(fieldName + " must be positive.");
         }
     }
 
     /**
-     * Check if the provided teams are involved in the match.
+     * Check a score update from a batch without throwing, so that one bad entry does not reject the whole batch.
      *
-     * @param match     The match.
-     * @param homeTeam  The home team.
-     * @param awayTeam  The away team.
-     * @return True if teams are in the match, false otherwise.
+     * @param update The score update.
+     * @return True if the update passes the same checks as {@link #validateUpdateScoreInput(UUID, int, int)}.
      */
-    private boolean teamsInMatch(Match match, Team homeTeam, Team awayTeam) {
-        UUID homeTeamUuid = homeTeam.getUuid();
-        UUID awayTeamUuid = awayTeam.getUuid();
-        return getTeamUuid(match.getHomeTeam()).equals(homeTeamUuid)
-                || getTeamUuid(match.getAwayTeam()).equals(homeTeamUuid)
-                || getTeamUuid(match.getHomeTeam()).equals(awayTeamUuid)
-                || getTeamUuid(match.getAwayTeam()).equals(awayTeamUuid);
+    protected boolean isValidScoreUpdate(ScoreUpdate update) {
+        return update != null && isValidScoreUpdate(update.getMatchUuid(), update.getHomeScore(), update.getAwayScore());
     }
 
     /**
-     * Get the UUID of a team.
+     * Check the input of a score update without throwing or allocating.
      *
-     * @param team The team.
-     * @return The UUID of the team.
+     * @param matchUuid The UUID of the match.
+     * @param homeScore The home team score.
+     * @param awayScore The away team score.
+     * @return True if the input passes the same checks as {@link #validateUpdateScoreInput(UUID, int, int)}.
+     */
+    protected boolean isValidScoreUpdate(UUID matchUuid, int homeScore, int awayScore) {
+        return matchUuid != null && isValidScore(homeScore) && isValidScore(awayScore);
+    }
+
+    private boolean isValidScore(int score) {
+        return score >= 0 && score <= Score.MAX_SCORE;
+    }
+
+    /**
+     * Validate that a value is not null or empty.
+     *
+     * @param value     The value to validate.
+     * @param fieldName The name of the field.
+     * @throws InvalidArgumentException if the value is null or empty.
      */
-    private UUID getTeamUuid(Team team) {
-        return team.getUuid();
+    private void validateNotNullOrEmpty(Object value, String fieldName) {
+        if (Objects.isNull(value)) {
+            throw new InvalidArgumentException(fieldName + " cannot be null.");
+        }
     }
 }
 
@@ -2,24 +2,85 @@ package football.board.service.impl;
 
 
 import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
 import football.board.entity.Team;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.service.UpdateStatus;
+import football.board.storage.Storage;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A concurrent version of the FootballWorldScoreBoardService with synchronized methods using ReentrantLock.
+ * The time spent waiting for and holding the lock is recorded into {@link #getMetrics()} while they are enabled.
  */
 public class ConcurrentFootballService extends FootballWorldScoreBoardService {
-    private final Lock lock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final BoardMetrics metrics;
+
+    /**
+     * The time the lock was acquired, or {@link BoardMetrics#NOT_TIMED}. Only accessed by the lock holder.
+     */
+    private long lockedAt = BoardMetrics.NOT_TIMED;
 
     /**
      * Default constructor initializing the service.
      */
     public ConcurrentFootballService() {
         super();
+        this.metrics = new BoardMetrics(false);
+    }
+
+    /**
+     * Constructs the service backed by the given storage.
+     *
+     * @param storage The storage to keep the matches in.
+     */
+    public ConcurrentFootballService(Storage storage) {
+        super(storage);
+        this.metrics = new BoardMetrics(false);
+    }
+
+    /**
+     * Constructs the service backed by the given storage, ordering matches with the same total score as given.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     */
+    public ConcurrentFootballService(Storage storage, SummaryOrder summaryOrder) {
+        this(storage, summaryOrder, new BoardMetrics(false));
+    }
+
+    /**
+     * Constructs the service backed by the given storage, recording lock wait and hold times into the given metrics.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     * @param metrics      The metrics to record the {@link Operation#LOCK_WAIT} and {@link Operation#LOCK_HOLD} times into.
+     */
+    public ConcurrentFootballService(Storage storage, SummaryOrder summaryOrder, BoardMetrics metrics) {
+        super(storage, summaryOrder);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics receiving the lock wait and hold times, disabled unless given to the constructor.
+     *
+     * @return The lock metrics.
+     */
+    public BoardMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -32,10 +93,10 @@ public class ConcurrentFootballService extends FootballWorldScoreBoardService {
     @Override
     public UUID newMatch(Team homeTeam, Team awayTeam) {
         try {
-            lock.lock();
+            acquire();
             return super.newMatch(homeTeam, awayTeam);
         } finally {
-            lock.unlock();
+            release();
         }
     }
 
@@ -47,12 +108,47 @@ public class ConcurrentFootballService extends FootballWorldScoreBoardService {
      * @param awayScore The updated away team score.
      */
     @Override
-    public void updateScore(UUID matchUuid, Integer homeScore, Integer awayScore) {
+    public void updateScore(UUID matchUuid, int homeScore, int awayScore) {
         try {
-            lock.lock();
+            acquire();
             super.updateScore(matchUuid, homeScore, awayScore);
         } finally {
-            lock.unlock();
+            release();
+        }
+    }
+
+    /**
+     * Applies a batch of score updates atomically. Uses a lock to ensure thread safety,
+     * so readers observe either none or all of the batch.
+     *
+     * @param updates The score updates to apply.
+     * @return The status of every update.
+     */
+    @Override
+    public List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates) {
+        try {
+            acquire();
+            return super.updateScores(updates);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Updates the score of a match without throwing for unknown matches. Uses a lock to ensure thread safety.
+     *
+     * @param matchUuid The UUID of the match to update.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     * @return The outcome of the update.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        try {
+            acquire();
+            return super.tryUpdateScore(matchUuid, homeScore, awayScore);
+        } finally {
+            release();
         }
     }
 
@@ -64,10 +160,26 @@ public class ConcurrentFootballService extends FootballWorldScoreBoardService {
     @Override
     public void finishMatchByUUID(UUID matchUuid) {
         try {
-            lock.lock();
+            acquire();
             super.finishMatchByUUID(matchUuid);
         } finally {
-            lock.unlock();
+            release();
+        }
+    }
+
+    /**
+     * Finishes a match without throwing for unknown matches. Uses a lock to ensure thread safety.
+     *
+     * @param matchUuid The UUID of the match to finish.
+     * @return The outcome of finishing the match.
+     */
+    @Override
+    public UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        try {
+            acquire();
+            return super.tryFinishMatchByUUID(matchUuid);
+        } finally {
+            release();
         }
     }
 
@@ -79,10 +191,106 @@ public class ConcurrentFootballService extends FootballWorldScoreBoardService {
     @Override
     public Collection<Match> getSortedSummary() {
         try {
-            lock.lock();
+            acquire();
             return super.getSortedSummary();
         } finally {
-            lock.unlock();
+            release();
+        }
+    }
+
+    /**
+     * Gets the summary of matches in progress together with its version. Uses a lock to ensure thread safety.
+     *
+     * @return The snapshot of the matches sorted by total score.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        try {
+            acquire();
+            return super.getSummarySnapshot();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Gets the first matches of the summary. Uses a lock to ensure thread safety.
+     *
+     * @param n The maximum number of matches to return.
+     * @return The top {@code n} matches sorted by total score.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        try {
+            acquire();
+            return super.getTopMatches(n);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Gets a page of the summary. Uses a lock to ensure thread safety.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches sorted by total score.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        try {
+            acquire();
+            return super.getSummaryPage(cursor, limit);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Gets the changes of the summary since a version. Uses a lock to ensure thread safety.
+     *
+     * @param version The version of the summary the caller holds.
+     * @return The changes since the version, or a full snapshot.
+     */
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        try {
+            acquire();
+            return super.getChangesSince(version);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Gets the score timeline of a match. Uses a lock to ensure thread safety.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The score history of the match.
+     */
+    @Override
+    public ScoreHistory getScoreHistory(UUID matchUuid) {
+        try {
+            acquire();
+            return super.getScoreHistory(matchUuid);
+        } finally {
+            release();
+        }
+    }
+
+    private void acquire() {
+        long waitStart = metrics.start();
+        lock.lock();
+        if (lock.getHoldCount() == 1) {
+            lockedAt = metrics.record(Operation.LOCK_WAIT, waitStart);
+        }
+    }
+
+    private void release() {
+        if (lock.getHoldCount() == 1) {
+            metrics.record(Operation.LOCK_HOLD, lockedAt);
+            lockedAt = BoardMetrics.NOT_TIMED;
         }
+        lock.unlock();
     }
 }
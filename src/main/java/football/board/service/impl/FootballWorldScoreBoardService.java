@@ -1,24 +1,84 @@
 package football.board.service.impl;
 
 import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummarySnapshot;
 import football.board.entity.Team;
+import football.board.event.MatchFinished;
+import football.board.event.MatchStarted;
+import football.board.event.OverflowPolicy;
+import football.board.event.RankChanged;
+import football.board.event.ScoreBoardEventPublisher;
+import football.board.event.ScoreBoardListener;
+import football.board.event.ScoreChanged;
+import football.board.event.Subscription;
+import football.board.exception.AlreadyExistsException;
+import football.board.exception.InvalidArgumentException;
 import football.board.exception.NotFoundException;
+import football.board.service.SubscriptionService;
+import football.board.service.UpdateStatus;
 import football.board.service.ValidatedBoardService;
 import football.board.storage.FootballWorldScoreBoardStorage;
+import football.board.storage.Storage;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Implementation of the {@link ValidatedBoardService} for managing football match scores and summaries.
+ * <p>
+ * Successful changes are published to the {@link SubscriptionService} listeners. Events are only built when
+ * someone is subscribed, and publishing never waits for a listener.
  */
-public class FootballWorldScoreBoardService extends ValidatedBoardService {
+public class FootballWorldScoreBoardService extends ValidatedBoardService implements SubscriptionService {
+
+    /**
+     * The publisher of the change events to the subscribed listeners.
+     */
+    protected final ScoreBoardEventPublisher events = new ScoreBoardEventPublisher();
+
+    /**
+     * The order of matches with the same total score, given to every new match.
+     */
+    private final SummaryOrder summaryOrder;
 
     /**
      * Constructs a new instance of FootballWorldScoreBoardService with the default storage.
      */
     public FootballWorldScoreBoardService() {
-        super(new FootballWorldScoreBoardStorage());
+        this(new FootballWorldScoreBoardStorage());
+    }
+
+    /**
+     * Constructs a new instance of FootballWorldScoreBoardService backed by the given storage.
+     *
+     * @param storage The storage to keep the matches in.
+     */
+    public FootballWorldScoreBoardService(Storage storage) {
+        this(storage, SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Constructs a new instance of FootballWorldScoreBoardService backed by the given storage,
+     * ordering matches with the same total score as given.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     */
+    public FootballWorldScoreBoardService(Storage storage, SummaryOrder summaryOrder) {
+        super(storage);
+        this.summaryOrder = summaryOrder;
     }
 
     /**
@@ -27,12 +87,18 @@ public class FootballWorldScoreBoardService extends ValidatedBoardService {
      * @param homeTeam The home team.
      * @param awayTeam The away team.
      * @return The UUID of the newly created match.
+     * @throws AlreadyExistsException If one of the teams is already participating in another match.
      */
     @Override
     public UUID newMatch(Team homeTeam, Team awayTeam) {
         validateNewMatchInput(homeTeam, awayTeam);
-        final Match newMatch = new Match(homeTeam, awayTeam);
-        storage.addMatch(newMatch);
+        final Match newMatch = new Match(homeTeam, awayTeam, summaryOrder);
+        if (!storage.addMatch(newMatch)) {
+            throw new AlreadyExistsException(TEAM_BUSY_MESSAGE);
+        }
+        if (events.hasSubscribers()) {
+            events.publish(new MatchStarted(newMatch));
+        }
         return newMatch.getMatchUuid();
     }
 
@@ -47,12 +113,77 @@ public class FootballWorldScoreBoardService extends ValidatedBoardService {
     @Override
     public void updateScore(UUID matchUuid, Integer homeScore, Integer awayScore) {
         validateUpdateScoreInput(matchUuid, homeScore, awayScore);
-        Match matchToUpdate = storage.getAllMatches().stream()
-                .filter(match -> match.getMatchUuid().equals(matchUuid))
-                .findFirst().orElseThrow(() -> new NotFoundException(matchUuid));
-        matchToUpdate.setHomeScore(homeScore);
-        matchToUpdate.setAwayScore(awayScore);
-        storage.updateAndSort(matchToUpdate);
+        updateScore(matchUuid, homeScore.intValue(), awayScore.intValue());
+    }
+
+    /**
+     * Updates the scores of a football match and sorts the storage, without boxing the scores.
+     *
+     * @param matchUuid The UUID of the match to update.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     * @throws NotFoundException If the match with the specified UUID is not found.
+     */
+    @Override
+    public void updateScore(UUID matchUuid, int homeScore, int awayScore) {
+        validateUpdateScoreInput(matchUuid, homeScore, awayScore);
+        if (!applyScore(matchUuid, homeScore, awayScore)) {
+            throw new NotFoundException(matchUuid);
+        }
+    }
+
+    /**
+     * Updates the scores of a football match without throwing for unknown matches or invalid scores,
+     * for feeds where stale events are expected.
+     *
+     * @param matchUuid The UUID of the match to update.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     * @return {@link UpdateStatus#APPLIED}, {@link UpdateStatus#NOT_FOUND} or {@link UpdateStatus#INVALID_ARGUMENT}.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        if (!isValidScoreUpdate(matchUuid, homeScore, awayScore)) {
+            return UpdateStatus.INVALID_ARGUMENT;
+        }
+        return applyScore(matchUuid, homeScore, awayScore) ? UpdateStatus.APPLIED : UpdateStatus.NOT_FOUND;
+    }
+
+    /**
+     * Validates and applies a batch of score updates with a single ordering pass over the storage.
+     * Invalid entries and entries for unknown matches are skipped and reported instead of thrown.
+     *
+     * @param updates The score updates, in the order they should be applied.
+     * @return The status of every update, in the iteration order of {@code updates}.
+     * @throws InvalidArgumentException If the collection of updates is null.
+     */
+    @Override
+    public List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates) {
+        if (updates == null) {
+            throw new InvalidArgumentException("Score updates cannot be null.");
+        }
+        UpdateStatus[] statuses = new UpdateStatus[updates.size()];
+        List<ScoreUpdate> validUpdates = new ArrayList<>(statuses.length);
+        int[] positions = new int[statuses.length];
+        int position = 0;
+        for (ScoreUpdate update : updates) {
+            if (isValidScoreUpdate(update)) {
+                positions[validUpdates.size()] = position;
+                validUpdates.add(update);
+            } else {
+                statuses[position] = UpdateStatus.INVALID_ARGUMENT;
+            }
+            position++;
+        }
+        Map<UUID, Match> previous = events.hasSubscribers() ? findMatches(validUpdates) : null;
+        boolean[] applied = storage.updateScores(validUpdates);
+        if (previous != null && !previous.isEmpty()) {
+            publishScoresChanged(previous);
+        }
+        for (int i = 0; i < applied.length; i++) {
+            statuses[positions[i]] = applied[i] ? UpdateStatus.APPLIED : UpdateStatus.NOT_FOUND;
+        }
+        return List.of(statuses);
     }
 
     /**
@@ -63,11 +194,48 @@ public class FootballWorldScoreBoardService extends ValidatedBoardService {
      */
     @Override
     public void finishMatchByUUID(UUID matchUuid) {
-        if (!storage.removeMatch(matchUuid)) {
+        if (!removeMatch(matchUuid)) {
             throw new NotFoundException(matchUuid);
         }
     }
 
+    /**
+     * Finishes a football match without throwing for unknown matches.
+     *
+     * @param matchUuid The UUID of the match to finish.
+     * @return {@link UpdateStatus#APPLIED}, {@link UpdateStatus#NOT_FOUND} or, for a null UUID,
+     * {@link UpdateStatus#INVALID_ARGUMENT}.
+     */
+    @Override
+    public UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        if (matchUuid == null) {
+            return UpdateStatus.INVALID_ARGUMENT;
+        }
+        return removeMatch(matchUuid) ? UpdateStatus.APPLIED : UpdateStatus.NOT_FOUND;
+    }
+
+    private boolean applyScore(UUID matchUuid, int homeScore, int awayScore) {
+        Match previous = events.hasSubscribers() ? storage.findMatch(matchUuid).orElse(null) : null;
+        if (!storage.updateScore(matchUuid, homeScore, awayScore)) {
+            return false;
+        }
+        if (previous != null) {
+            publishScoreChanged(previous);
+        }
+        return true;
+    }
+
+    private boolean removeMatch(UUID matchUuid) {
+        Match finished = events.hasSubscribers() ? storage.findMatch(matchUuid).orElse(null) : null;
+        if (!storage.removeMatch(matchUuid)) {
+            return false;
+        }
+        if (finished != null) {
+            events.publish(new MatchFinished(finished));
+        }
+        return true;
+    }
+
     /**
      * Retrieves a sorted summary of all football matches from the storage.
      *
@@ -77,4 +245,175 @@ public class FootballWorldScoreBoardService extends ValidatedBoardService {
     public Collection<Match> getSortedSummary() {
         return storage.getAllMatches();
     }
+
+    /**
+     * Retrieves the sorted summary of all football matches together with the storage version it belongs to.
+     *
+     * @return The snapshot of the football matches sorted by score.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return storage.getSnapshot();
+    }
+
+    /**
+     * Retrieves the first matches of the summary, reading only those from the storage where it supports it.
+     *
+     * @param n The maximum number of matches to return.
+     * @return The top {@code n} football matches sorted by score.
+     * @throws InvalidArgumentException If {@code n} is not positive.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        validateLimit(n, "Number of matches");
+        return storage.getTopMatches(n);
+    }
+
+    /**
+     * Retrieves a page of the summary. Pass the cursor of the previous page to get the next one.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of football matches sorted by score.
+     * @throws InvalidArgumentException If {@code limit} is not positive.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        validateLimit(limit, "Page limit");
+        return storage.getSummaryPage(cursor, limit);
+    }
+
+    /**
+     * Retrieves the changes of the summary since a version from the storage. Wrap the storage in a
+     * {@link football.board.storage.ChangeTrackingStorage} to get deltas instead of full snapshots.
+     *
+     * @param version The version of the summary the caller holds.
+     * @return The changes since the version, or a full snapshot.
+     */
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        return storage.getChangesSince(version);
+    }
+
+    /**
+     * Retrieves the score timeline of a match in progress or of a recently finished one. Wrap the storage in a
+     * {@link football.board.storage.ScoreHistoryStorage} to record it.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The score history of the match.
+     * @throws InvalidArgumentException If the match UUID is null.
+     * @throws NotFoundException        If the storage keeps no history for the match.
+     */
+    public ScoreHistory getScoreHistory(UUID matchUuid) {
+        if (matchUuid == null) {
+            throw new InvalidArgumentException("Match UUID cannot be null.");
+        }
+        return storage.getScoreHistory(matchUuid).orElseThrow(() -> new NotFoundException(matchUuid));
+    }
+
+    /**
+     * Retrieves the final result of a finished match. Wrap the storage in a
+     * {@link football.board.storage.ArchivingStorage} to keep them. Does not take the board lock of the concurrent
+     * services, since the archive serializes its own reads.
+     *
+     * @param matchUuid The UUID of the finished match.
+     * @return The match as it was when it finished.
+     * @throws InvalidArgumentException If the match UUID is null.
+     * @throws NotFoundException        If the storage keeps no finished match with the UUID.
+     */
+    public Match getFinishedMatch(UUID matchUuid) {
+        if (matchUuid == null) {
+            throw new InvalidArgumentException("Match UUID cannot be null.");
+        }
+        return storage.findFinishedMatch(matchUuid).orElseThrow(() -> new NotFoundException(matchUuid));
+    }
+
+    /**
+     * Registers a listener for the MatchStarted, ScoreChanged, MatchFinished and RankChanged events of this board.
+     * Each listener gets its own bounded queue and delivery thread, so a slow listener never delays the board.
+     *
+     * @param listener      The listener.
+     * @param queueCapacity The maximum number of events waiting for the listener.
+     * @param policy        What to do with new events when the queue of the listener is full.
+     * @return The subscription, to be closed to unregister the listener.
+     * @throws InvalidArgumentException If an argument is null or the capacity is not positive.
+     */
+    @Override
+    public Subscription subscribe(ScoreBoardListener listener, int queueCapacity, OverflowPolicy policy) {
+        return events.subscribe(listener, queueCapacity, policy);
+    }
+
+    /**
+     * Publishes the score change of one match, and its move in the summary if it moved. Both ranks are counted by
+     * the storage against the other matches, which the update did not change.
+     *
+     * @param previous The match before the update.
+     */
+    private void publishScoreChanged(Match previous) {
+        Match current = storage.findMatch(previous.getMatchUuid()).orElse(null);
+        if (current == null) {
+            return;
+        }
+        events.publish(new ScoreChanged(previous, current));
+        int previousRank = storage.countBefore(previous);
+        int rank = storage.countBefore(current);
+        if (rank != previousRank) {
+            events.publish(new RankChanged(current, previousRank, rank));
+        }
+    }
+
+    /**
+     * Publishes the score changes of a batch. Ranks are taken before and after the whole batch: the storage counts
+     * the matches before the previous state of a match among the updated board, and the count is corrected for the
+     * other matches of the batch, which were in their previous state before the batch. The correction counts the
+     * batch by binary search in sorted copies of its previous and current states, so a batch of k matches costs
+     * O(k log k) on top of the ranks of the storage.
+     *
+     * @param previous The updated matches before the batch, by UUID.
+     */
+    private void publishScoresChanged(Map<UUID, Match> previous) {
+        Comparator<Match> order = Match.getSortComparator();
+        List<Match> before = new ArrayList<>(previous.size());
+        List<Match> after = new ArrayList<>(previous.size());
+        for (Match old : previous.values()) {
+            Match current = storage.findMatch(old.getMatchUuid()).orElse(null);
+            if (current != null && current.getScoreVersion() != old.getScoreVersion()) {
+                before.add(old);
+                after.add(current);
+            }
+        }
+        List<Match> sortedBefore = new ArrayList<>(before);
+        sortedBefore.sort(order);
+        List<Match> sortedAfter = new ArrayList<>(after);
+        sortedAfter.sort(order);
+        for (int i = 0; i < after.size(); i++) {
+            Match old = before.get(i);
+            Match current = after.get(i);
+            events.publish(new ScoreChanged(old, current));
+            int previousRank = storage.countBefore(old) + countBefore(sortedBefore, old, order)
+                    - countBefore(sortedAfter, old, order) + (order.compare(current, old) < 0 ? 1 : 0);
+            int rank = storage.countBefore(current);
+            if (previousRank != rank) {
+                events.publish(new RankChanged(current, previousRank, rank));
+            }
+        }
+    }
+
+    /**
+     * Counts the matches of a sorted list that sort before a match.
+     */
+    private static int countBefore(List<Match> sorted, Match match, Comparator<Match> order) {
+        int index = Collections.binarySearch(sorted, match, order);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private Map<UUID, Match> findMatches(List<ScoreUpdate> updates) {
+        Map<UUID, Match> found = new LinkedHashMap<>();
+        for (ScoreUpdate update : updates) {
+            if (!found.containsKey(update.getMatchUuid())) {
+                storage.findMatch(update.getMatchUuid()).ifPresent(match -> found.put(match.getMatchUuid(), match));
+            }
+        }
+        return found;
+    }
 }
@@ -0,0 +1,192 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.ScoreBoardException;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.service.MatchService;
+import football.board.service.ScoreService;
+import football.board.service.SummaryService;
+import football.board.service.UpdateStatus;
+import football.board.service.ValidatedBoardService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A decorator timing every operation of a {@link ValidatedBoardService} into {@link BoardMetrics} and counting the
+ * {@link ScoreBoardException}s it throws by type. The latency of a failed operation is recorded as well.
+ * <p>
+ * Combine it with {@link football.board.storage.InstrumentedStorage} to split the time spent in the storage from
+ * the time spent in the service, and with {@link ConcurrentFootballService#ConcurrentFootballService(
+ * football.board.storage.Storage, football.board.entity.SummaryOrder, BoardMetrics)} for lock wait and hold times.
+ */
+public class InstrumentedBoardService implements SummaryService, ScoreService, MatchService {
+
+    private final ValidatedBoardService delegate;
+
+    private final BoardMetrics metrics;
+
+    /**
+     * Constructs the decorator.
+     *
+     * @param delegate The service to time.
+     * @param metrics  The metrics to record into.
+     */
+    public InstrumentedBoardService(ValidatedBoardService delegate, BoardMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public BoardMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public UUID newMatch(Team homeTeam, Team awayTeam) {
+        long start = metrics.start();
+        try {
+            return delegate.newMatch(homeTeam, awayTeam);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.NEW_MATCH, start);
+        }
+    }
+
+    @Override
+    public void updateScore(UUID matchUuid, Integer homeScore, Integer awayScore) {
+        long start = metrics.start();
+        try {
+            delegate.updateScore(matchUuid, homeScore, awayScore);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public void updateScore(UUID matchUuid, int homeScore, int awayScore) {
+        long start = metrics.start();
+        try {
+            delegate.updateScore(matchUuid, homeScore, awayScore);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        long start = metrics.start();
+        try {
+            return delegate.tryUpdateScore(matchUuid, homeScore, awayScore);
+        } finally {
+            metrics.record(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates) {
+        long start = metrics.start();
+        try {
+            return delegate.updateScores(updates);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.UPDATE_SCORES, start);
+        }
+    }
+
+    @Override
+    public void finishMatchByUUID(UUID matchUuid) {
+        long start = metrics.start();
+        try {
+            delegate.finishMatchByUUID(matchUuid);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.FINISH_MATCH, start);
+        }
+    }
+
+    @Override
+    public UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        long start = metrics.start();
+        try {
+            return delegate.tryFinishMatchByUUID(matchUuid);
+        } finally {
+            metrics.record(Operation.FINISH_MATCH, start);
+        }
+    }
+
+    @Override
+    public Collection<Match> getSortedSummary() {
+        long start = metrics.start();
+        try {
+            return delegate.getSortedSummary();
+        } finally {
+            metrics.record(Operation.SORTED_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        long start = metrics.start();
+        try {
+            return delegate.getSummarySnapshot();
+        } finally {
+            metrics.record(Operation.SUMMARY_SNAPSHOT, start);
+        }
+    }
+
+    @Override
+    public List<Match> getTopMatches(int n) {
+        long start = metrics.start();
+        try {
+            return delegate.getTopMatches(n);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.TOP_MATCHES, start);
+        }
+    }
+
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        long start = metrics.start();
+        try {
+            return delegate.getSummaryPage(cursor, limit);
+        } catch (ScoreBoardException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.record(Operation.SUMMARY_PAGE, start);
+        }
+    }
+
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        long start = metrics.start();
+        try {
+            return delegate.getChangesSince(version);
+        } finally {
+            metrics.record(Operation.SUMMARY_CHANGES, start);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package football.board.service.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded multi-producer, single-consumer ring buffer.
+ * <p>
+ * Producers claim a sequence with a CAS on the tail and then publish the element into its slot; the single consumer
+ * reads slots in sequence order and frees them by advancing the head. Neither side takes a lock.
+ *
+ * @param <E> The type of the elements.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+
+    private final int mask;
+
+    /**
+     * The next sequence to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next sequence to be read by the consumer. Written by the consumer only.
+     */
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer holding at least {@code capacity} elements; the capacity is rounded up to a power of two.
+     *
+     * @param capacity The minimum capacity.
+     */
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     *
+     * @param element The element, not null.
+     * @return {@code true} if the element was added, {@code false} if the buffer is full.
+     */
+    boolean offer(E element) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head > mask) {
+                return false;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) sequence & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code limit} published elements into {@code target}. Consumer thread only.
+     *
+     * @param target The list to add the elements to.
+     * @param limit  The maximum number of elements to move.
+     * @return The number of elements moved.
+     */
+    int drainTo(List<E> target, int limit) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            sequence++;
+            drained++;
+        }
+        head = sequence;
+        return drained;
+    }
+
+    /**
+     * Returns the number of claimed sequences not yet consumed, including elements still being published.
+     *
+     * @return The queue depth.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,402 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.exception.ScoreBoardException;
+import football.board.service.AsyncBoardService;
+import football.board.service.SummaryService;
+import football.board.service.UpdateStatus;
+import football.board.storage.OrderedScoreBoardStorage;
+import football.board.storage.Storage;
+import football.board.storage.SummaryPages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A scoreboard engine with a single writer thread.
+ * <p>
+ * Callers submit commands into a bounded {@link MpscRingBuffer} and get a {@link CompletableFuture} completed with the
+ * result or with the {@link ScoreBoardException} of the command. One writer thread drains the buffer in batches and
+ * applies the commands to the storage without any lock; consecutive score updates of a batch go to the storage as one
+ * {@link Storage#updateScores(List) batch}. After each batch the writer publishes an immutable snapshot, which the
+ * {@link SummaryService} methods read without locking. When the buffer is full, submitting waits for room.
+ * <p>
+ * The futures are completed on the writer thread, so dependent actions should use the {@code *Async} methods of
+ * {@link CompletableFuture} if they may block.
+ */
+public class ScoreBoardEngine implements AsyncBoardService, SummaryService, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private final Storage storage;
+
+    private final Board board;
+
+    private final MpscRingBuffer<Command<?>> commands;
+
+    private final int maxBatchSize;
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    private volatile boolean writerParked;
+
+    private volatile SummarySnapshot snapshot;
+
+    /**
+     * Metrics, written by the writer thread only.
+     */
+    private volatile long processedCommands;
+
+    private volatile long processedBatches;
+
+    private volatile long totalLatencyNanos;
+
+    private volatile long maxLatencyNanos;
+
+    /**
+     * Constructs an engine on an ordered storage with the default buffer capacity and batch size.
+     */
+    public ScoreBoardEngine() {
+        this(new OrderedScoreBoardStorage(), SummaryOrder.MOST_RECENT_FIRST, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs an engine.
+     *
+     * @param storage      The storage to keep the matches in; it is only accessed by the writer thread.
+     * @param summaryOrder The order of matches with the same total score.
+     * @param capacity     The number of commands the buffer holds, rounded up to a power of two.
+     * @param maxBatchSize The maximum number of commands applied before a snapshot is published.
+     */
+    public ScoreBoardEngine(Storage storage, SummaryOrder summaryOrder, int capacity, int maxBatchSize) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new InvalidArgumentException("Capacity and batch size must be positive.");
+        }
+        this.storage = storage;
+        this.board = new Board(storage, summaryOrder);
+        this.commands = new MpscRingBuffer<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.snapshot = storage.getSnapshot();
+        this.writer = new Thread(this::runWriter, "score-board-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<UUID> newMatch(Team homeTeam, Team awayTeam) {
+        return submit(new Action<UUID>() {
+            @Override
+            UUID apply() {
+                return board.newMatch(homeTeam, awayTeam);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateScore(UUID matchUuid, int homeScore, int awayScore) {
+        return submit(new UpdateScore(matchUuid, homeScore, awayScore));
+    }
+
+    @Override
+    public CompletableFuture<Void> finishMatchByUUID(UUID matchUuid) {
+        return submit(new Action<Void>() {
+            @Override
+            Void apply() {
+                board.finishMatchByUUID(matchUuid);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Gets the matches of the snapshot published after the last applied batch. Does not wait for the writer.
+     *
+     * @return An immutable list of matches in summary order.
+     */
+    @Override
+    public Collection<Match> getSortedSummary() {
+        return snapshot.getMatches();
+    }
+
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public List<Match> getTopMatches(int n) {
+        if (n <= 0) {
+            throw new InvalidArgumentException("Number of matches must be positive.");
+        }
+        return SummaryPages.top(snapshot.getMatches(), n);
+    }
+
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        if (limit <= 0) {
+            throw new InvalidArgumentException("Page limit must be positive.");
+        }
+        return SummaryPages.page(snapshot.getMatches(), cursor, limit);
+    }
+
+    /**
+     * Returns the number of submitted commands the writer has not applied yet.
+     *
+     * @return The queue depth.
+     */
+    public int getQueueDepth() {
+        return commands.size();
+    }
+
+    public long getProcessedCommands() {
+        return processedCommands;
+    }
+
+    public long getProcessedBatches() {
+        return processedBatches;
+    }
+
+    /**
+     * Returns the mean time from submitting a command to completing its future.
+     *
+     * @return The mean command latency in nanoseconds.
+     */
+    public long getMeanLatencyNanos() {
+        long processed = processedCommands;
+        return processed == 0 ? 0 : totalLatencyNanos / processed;
+    }
+
+    /**
+     * Returns the longest time from submitting a command to completing its future.
+     *
+     * @return The maximum command latency in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Stops accepting commands, applies the commands already submitted and waits for the writer thread to stop.
+     * Commands that raced with closing and arrived after the writer stopped fail with a {@link ScoreBoardException}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        rejectLeftovers();
+    }
+
+    private <T> CompletableFuture<T> submit(Command<T> command) {
+        while (running) {
+            if (commands.offer(command)) {
+                if (!running && Thread.currentThread() != writer) {
+                    // the writer may have seen an empty buffer and stopped before this command was added
+                    rejectLeftovers();
+                } else if (writerParked) {
+                    LockSupport.unpark(writer);
+                }
+                return command.future;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        command.future.completeExceptionally(closedException());
+        return command.future;
+    }
+
+    /**
+     * Waits for the writer thread to stop and then fails the commands left in the buffer. Once the writer has
+     * stopped, the buffer is drained under the monitor of this engine, so it keeps a single consumer.
+     */
+    private void rejectLeftovers() {
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        List<Command<?>> leftovers = new ArrayList<>();
+        synchronized (this) {
+            commands.drainTo(leftovers, Integer.MAX_VALUE);
+        }
+        for (Command<?> command : leftovers) {
+            command.future.completeExceptionally(closedException());
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ScoreBoardException closedException() {
+        return new ScoreBoardException("The score board engine is closed.");
+    }
+
+    private void runWriter() {
+        List<Command<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !commands.isEmpty()) {
+            if (commands.drainTo(batch, maxBatchSize) == 0) {
+                idle();
+                continue;
+            }
+            applyBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void idle() {
+        writerParked = true;
+        if (commands.isEmpty() && running) {
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        writerParked = false;
+    }
+
+    private void applyBatch(List<Command<?>> batch) {
+        int i = 0;
+        while (i < batch.size()) {
+            if (batch.get(i) instanceof UpdateScore) {
+                int end = i;
+                while (end < batch.size() && batch.get(end) instanceof UpdateScore) {
+                    end++;
+                }
+                List<Command<?>> run = batch.subList(i, end);
+                try {
+                    applyUpdates(run);
+                } catch (RuntimeException e) {
+                    run.forEach(command -> command.failure = e);
+                }
+                i = end;
+            } else {
+                ((Action<?>) batch.get(i)).run();
+                i++;
+            }
+        }
+        if (storage.getVersion() != snapshot.getVersion()) {
+            snapshot = storage.getSnapshot();
+        }
+        long now = System.nanoTime();
+        long total = totalLatencyNanos;
+        long max = maxLatencyNanos;
+        for (Command<?> command : batch) {
+            long latency = now - command.submittedAt;
+            total += latency;
+            max = Math.max(max, latency);
+        }
+        totalLatencyNanos = total;
+        maxLatencyNanos = max;
+        processedCommands += batch.size();
+        processedBatches++;
+        for (Command<?> command : batch) {
+            command.complete();
+        }
+    }
+
+    /**
+     * Applies a run of score updates with one ordering pass. Updates rejected by validation keep their exception.
+     */
+    private void applyUpdates(List<Command<?>> run) {
+        List<ScoreUpdate> updates = new ArrayList<>(run.size());
+        List<UpdateScore> valid = new ArrayList<>(run.size());
+        for (Command<?> command : run) {
+            UpdateScore update = (UpdateScore) command;
+            try {
+                board.validate(update.matchUuid, update.homeScore, update.awayScore);
+                updates.add(new ScoreUpdate(update.matchUuid, update.homeScore, update.awayScore));
+                valid.add(update);
+            } catch (ScoreBoardException e) {
+                update.failure = e;
+            }
+        }
+        List<UpdateStatus> statuses = board.updateScores(updates);
+        for (int i = 0; i < statuses.size(); i++) {
+            if (statuses.get(i) == UpdateStatus.NOT_FOUND) {
+                valid.get(i).failure = new NotFoundException(valid.get(i).matchUuid);
+            }
+        }
+    }
+
+    /**
+     * The unsynchronized board owned by the writer thread, exposing the score validation to the batch path.
+     */
+    private static final class Board extends FootballWorldScoreBoardService {
+        Board(Storage storage, SummaryOrder summaryOrder) {
+            super(storage, summaryOrder);
+        }
+
+        void validate(UUID matchUuid, int homeScore, int awayScore) {
+            validateUpdateScoreInput(matchUuid, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * A command applied by the writer thread. Its result or failure is kept until the snapshot of its batch has been
+     * published, so a caller reading the summary after its future completed sees its change.
+     */
+    private abstract static class Command<T> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        final long submittedAt = System.nanoTime();
+
+        T result;
+
+        RuntimeException failure;
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+
+    /**
+     * A command applied on its own against the board.
+     */
+    private abstract static class Action<T> extends Command<T> {
+        abstract T apply();
+
+        void run() {
+            try {
+                result = apply();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * A score update, applied together with the consecutive updates of its batch by {@link #applyUpdates(List)}.
+     */
+    private static final class UpdateScore extends Command<Void> {
+        final UUID matchUuid;
+
+        final int homeScore;
+
+        final int awayScore;
+
+        UpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+            this.matchUuid = matchUuid;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+        }
+    }
+}
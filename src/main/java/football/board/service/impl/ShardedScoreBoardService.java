@@ -0,0 +1,303 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.service.MatchService;
+import football.board.service.ScoreService;
+import football.board.service.SummaryService;
+import football.board.service.UpdateStatus;
+import football.board.storage.OrderedScoreBoardStorage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A scoreboard running many competitions at once, each on its own board (shard).
+ * <p>
+ * Every competition key gets a {@link ConcurrentFootballService} with its own lock and {@link OrderedScoreBoardStorage},
+ * created on the first match of the competition. Matches are routed to their shard through a concurrent index from
+ * match UUID to shard, so writes to different competitions never take the same lock. A team can only play one match
+ * at a time within a competition.
+ * <p>
+ * The global summary is a k-way merge of the sorted summaries of all shards. Each shard summary is consistent, but
+ * the shards are read one after another, so the global summary is not an atomic view across competitions.
+ */
+public class ShardedScoreBoardService implements SummaryService, ScoreService, MatchService {
+
+    /**
+     * The competition of matches started without a competition key.
+     */
+    public static final String DEFAULT_COMPETITION = "default";
+
+    private final ConcurrentMap<String, FootballWorldScoreBoardService> shards = new ConcurrentHashMap<>();
+
+    /**
+     * The shard of every match in progress, by match UUID.
+     */
+    private final ConcurrentMap<UUID, FootballWorldScoreBoardService> matchShards = new ConcurrentHashMap<>();
+
+    private final Supplier<? extends FootballWorldScoreBoardService> shardFactory;
+
+    /**
+     * Constructs a sharded service with a {@link ConcurrentFootballService} on an ordered storage per competition.
+     */
+    public ShardedScoreBoardService() {
+        this(SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Constructs a sharded service with a {@link ConcurrentFootballService} on an ordered storage per competition,
+     * ordering matches with the same total score as given.
+     *
+     * @param summaryOrder The order of matches with the same total score, used by every shard.
+     */
+    public ShardedScoreBoardService(SummaryOrder summaryOrder) {
+        this(() -> new ConcurrentFootballService(new OrderedScoreBoardStorage(), summaryOrder));
+    }
+
+    /**
+     * Constructs a sharded service creating the board of each competition with the given factory.
+     * The boards must be thread-safe and use the same summary order.
+     *
+     * @param shardFactory Creates the board of a new competition.
+     */
+    public ShardedScoreBoardService(Supplier<? extends FootballWorldScoreBoardService> shardFactory) {
+        this.shardFactory = shardFactory;
+    }
+
+    /**
+     * Starts a new match in the default competition.
+     *
+     * @param homeTeam The home team.
+     * @param awayTeam The away team.
+     * @return The UUID of the newly created match.
+     */
+    @Override
+    public UUID newMatch(Team homeTeam, Team awayTeam) {
+        return newMatch(DEFAULT_COMPETITION, homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match on the board of a competition, creating the board if needed.
+     *
+     * @param competition The key of the competition.
+     * @param homeTeam    The home team.
+     * @param awayTeam    The away team.
+     * @return The UUID of the newly created match.
+     * @throws InvalidArgumentException If the competition key is null.
+     * @throws football.board.exception.AlreadyExistsException If one of the teams is playing in the competition.
+     */
+    public UUID newMatch(String competition, Team homeTeam, Team awayTeam) {
+        if (competition == null) {
+            throw new InvalidArgumentException("Competition cannot be null.");
+        }
+        FootballWorldScoreBoardService shard = shards.computeIfAbsent(competition, key -> shardFactory.get());
+        UUID matchUuid = shard.newMatch(homeTeam, awayTeam);
+        matchShards.put(matchUuid, shard);
+        return matchUuid;
+    }
+
+    @Override
+    public void updateScore(UUID matchUuid, Integer homeScore, Integer awayScore) {
+        shardOf(matchUuid).updateScore(matchUuid, homeScore, awayScore);
+    }
+
+    @Override
+    public void updateScore(UUID matchUuid, int homeScore, int awayScore) {
+        shardOf(matchUuid).updateScore(matchUuid, homeScore, awayScore);
+    }
+
+    @Override
+    public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        FootballWorldScoreBoardService shard = matchUuid == null ? null : matchShards.get(matchUuid);
+        if (shard == null) {
+            return matchUuid == null ? UpdateStatus.INVALID_ARGUMENT : UpdateStatus.NOT_FOUND;
+        }
+        return shard.tryUpdateScore(matchUuid, homeScore, awayScore);
+    }
+
+    /**
+     * Applies a batch of score updates, as one batch per shard.
+     *
+     * @param updates The score updates, in the order they should be applied.
+     * @return The status of every update, in the iteration order of {@code updates}.
+     * @throws InvalidArgumentException If the collection of updates is null.
+     */
+    @Override
+    public List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates) {
+        if (updates == null) {
+            throw new InvalidArgumentException("Score updates cannot be null.");
+        }
+        UpdateStatus[] statuses = new UpdateStatus[updates.size()];
+        Map<FootballWorldScoreBoardService, List<Integer>> positionsByShard = new IdentityHashMap<>();
+        Map<FootballWorldScoreBoardService, List<ScoreUpdate>> updatesByShard = new IdentityHashMap<>();
+        int position = 0;
+        for (ScoreUpdate update : updates) {
+            FootballWorldScoreBoardService shard = update == null || update.getMatchUuid() == null
+                    ? null
+                    : matchShards.get(update.getMatchUuid());
+            if (shard == null) {
+                statuses[position] = update == null || update.getMatchUuid() == null
+                        ? UpdateStatus.INVALID_ARGUMENT
+                        : UpdateStatus.NOT_FOUND;
+            } else {
+                positionsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(position);
+                updatesByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(update);
+            }
+            position++;
+        }
+        for (Map.Entry<FootballWorldScoreBoardService, List<ScoreUpdate>> entry : updatesByShard.entrySet()) {
+            List<UpdateStatus> shardStatuses = entry.getKey().updateScores(entry.getValue());
+            List<Integer> positions = positionsByShard.get(entry.getKey());
+            for (int i = 0; i < positions.size(); i++) {
+                statuses[positions.get(i)] = shardStatuses.get(i);
+            }
+        }
+        return List.of(statuses);
+    }
+
+    @Override
+    public void finishMatchByUUID(UUID matchUuid) {
+        shardOf(matchUuid).finishMatchByUUID(matchUuid);
+        matchShards.remove(matchUuid);
+    }
+
+    @Override
+    public UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        FootballWorldScoreBoardService shard = matchUuid == null ? null : matchShards.get(matchUuid);
+        if (shard == null) {
+            return matchUuid == null ? UpdateStatus.INVALID_ARGUMENT : UpdateStatus.NOT_FOUND;
+        }
+        UpdateStatus status = shard.tryFinishMatchByUUID(matchUuid);
+        if (status == UpdateStatus.APPLIED) {
+            matchShards.remove(matchUuid);
+        }
+        return status;
+    }
+
+    /**
+     * Merges the summaries of all competitions.
+     *
+     * @return An immutable list of all matches in summary order.
+     */
+    @Override
+    public Collection<Match> getSortedSummary() {
+        List<Collection<Match>> summaries = new ArrayList<>(shards.size());
+        for (FootballWorldScoreBoardService shard : shards.values()) {
+            summaries.add(shard.getSortedSummary());
+        }
+        return SummaryMerge.merge(summaries, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merges the summaries of all competitions. The version is the sum of the shard versions, so it grows with
+     * every change in any competition.
+     *
+     * @return The snapshot of all matches in summary order.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        List<Collection<Match>> summaries = new ArrayList<>(shards.size());
+        long version = 0;
+        for (FootballWorldScoreBoardService shard : shards.values()) {
+            SummarySnapshot snapshot = shard.getSummarySnapshot();
+            summaries.add(snapshot.getMatches());
+            version += snapshot.getVersion();
+        }
+        return new SummarySnapshot(version, SummaryMerge.merge(summaries, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Merges the top matches of all competitions.
+     *
+     * @param n The maximum number of matches to return.
+     * @return The top {@code n} matches across all competitions.
+     * @throws InvalidArgumentException If {@code n} is not positive.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        validateLimit(n, "Number of matches");
+        List<Collection<Match>> tops = new ArrayList<>(shards.size());
+        for (FootballWorldScoreBoardService shard : shards.values()) {
+            tops.add(shard.getTopMatches(n));
+        }
+        return SummaryMerge.merge(tops, n);
+    }
+
+    /**
+     * Merges the pages following the cursor from all competitions.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches across all competitions.
+     * @throws InvalidArgumentException If {@code limit} is not positive.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        validateLimit(limit, "Page limit");
+        List<Collection<Match>> pages = new ArrayList<>(shards.size());
+        int available = 0;
+        boolean more = false;
+        for (FootballWorldScoreBoardService shard : shards.values()) {
+            SummaryPage page = shard.getSummaryPage(cursor, limit);
+            pages.add(page.getMatches());
+            available += page.getMatches().size();
+            more |= page.hasNext();
+        }
+        List<Match> matches = SummaryMerge.merge(pages, limit);
+        boolean hasNext = more || available > matches.size();
+        return new SummaryPage(matches, hasNext ? SummaryCursor.after(matches.get(matches.size() - 1)) : null);
+    }
+
+    /**
+     * Retrieves the summary of one competition.
+     *
+     * @param competition The key of the competition.
+     * @return The matches of the competition in summary order, empty if it has no board.
+     */
+    public Collection<Match> getSortedSummary(String competition) {
+        FootballWorldScoreBoardService shard = competition == null ? null : shards.get(competition);
+        return shard == null ? List.of() : shard.getSortedSummary();
+    }
+
+    /**
+     * Returns the keys of the competitions that have a board.
+     *
+     * @return An immutable set of competition keys.
+     */
+    public Set<String> getCompetitions() {
+        return Set.copyOf(shards.keySet());
+    }
+
+    private FootballWorldScoreBoardService shardOf(UUID matchUuid) {
+        if (matchUuid == null) {
+            throw new InvalidArgumentException("Match UUID cannot be null.");
+        }
+        FootballWorldScoreBoardService shard = matchShards.get(matchUuid);
+        if (shard == null) {
+            throw new NotFoundException(matchUuid);
+        }
+        return shard;
+    }
+
+    private void validateLimit(int limit, String fieldName) {
+        if (limit <= 0) {
+            throw new InvalidArgumentException(fieldName + " must be positive.");
+        }
+    }
+}
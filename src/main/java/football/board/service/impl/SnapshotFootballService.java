@@ -0,0 +1,83 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.storage.OrderedScoreBoardStorage;
+import football.board.storage.SnapshotPublishingStorage;
+import football.board.storage.Storage;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A concurrent version of the FootballWorldScoreBoardService for read-heavy boards.
+ * <p>
+ * Writers are serialized by the lock of {@link ConcurrentFootballService} and publish an immutable, sorted
+ * snapshot after each change through a {@link SnapshotPublishingStorage}. Readers get the current snapshot
+ * without taking the lock and without any allocation.
+ */
+public class SnapshotFootballService extends ConcurrentFootballService {
+
+    /**
+     * Default constructor initializing the service with an ordered storage.
+     */
+    public SnapshotFootballService() {
+        this(new OrderedScoreBoardStorage());
+    }
+
+    /**
+     * Constructs the service publishing snapshots of the given storage.
+     *
+     * @param storage The storage to keep the matches in.
+     */
+    public SnapshotFootballService(Storage storage) {
+        super(new SnapshotPublishingStorage(storage));
+    }
+
+    /**
+     * Gets the matches of the last published snapshot. Does not take the lock.
+     *
+     * @return An immutable collection of matches sorted by total score.
+     */
+    @Override
+    public Collection<Match> getSortedSummary() {
+        return storage.getAllMatches();
+    }
+
+    /**
+     * Gets the last published snapshot. Does not take the lock.
+     *
+     * @return The snapshot of the matches sorted by total score.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return storage.getSnapshot();
+    }
+
+    /**
+     * Gets the first matches of the last published snapshot. Does not take the lock.
+     *
+     * @param n The maximum number of matches to return.
+     * @return The top {@code n} matches sorted by total score.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        validateLimit(n, "Number of matches");
+        return storage.getTopMatches(n);
+    }
+
+    /**
+     * Gets a page of the last published snapshot. Does not take the lock.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches sorted by total score.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        validateLimit(limit, "Page limit");
+        return storage.getSummaryPage(cursor, limit);
+    }
+}
@@ -0,0 +1,323 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.service.UpdateStatus;
+import football.board.storage.OrderedScoreBoardStorage;
+import football.board.storage.Storage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A concurrent version of the FootballWorldScoreBoardService for read-heavy boards, built on a {@link StampedLock}.
+ * <p>
+ * Writers take the write lock. Summary reads first run without any lock under an optimistic stamp and keep the
+ * result if no writer got in meanwhile; otherwise they run again under the shared read lock, so readers never
+ * serialize each other. Optimistic reads are only tried when the storage {@link Storage#supportsOptimisticReads()
+ * tolerates} a concurrent writer, as an {@link OrderedScoreBoardStorage#OrderedScoreBoardStorage(boolean)
+ * OrderedScoreBoardStorage built for optimistic reads} does; other storages are read under the read lock.
+ * The lock is not reentrant.
+ */
+public class StampedLockFootballService extends FootballWorldScoreBoardService {
+    private final StampedLock lock = new StampedLock();
+
+    private final BoardMetrics metrics;
+
+    private final boolean optimisticReads;
+
+    private final LongAdder optimisticReadFailures = new LongAdder();
+
+    /**
+     * The time the write lock was acquired, or {@link BoardMetrics#NOT_TIMED}. Only accessed by the writer.
+     */
+    private long lockedAt = BoardMetrics.NOT_TIMED;
+
+    /**
+     * Default constructor initializing the service with an ordered storage built for optimistic reads.
+     */
+    public StampedLockFootballService() {
+        this(new OrderedScoreBoardStorage(true));
+    }
+
+    /**
+     * Constructs the service backed by the given storage.
+     *
+     * @param storage The storage to keep the matches in.
+     */
+    public StampedLockFootballService(Storage storage) {
+        this(storage, SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Constructs the service backed by the given storage, ordering matches with the same total score as given.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     */
+    public StampedLockFootballService(Storage storage, SummaryOrder summaryOrder) {
+        this(storage, summaryOrder, new BoardMetrics(false));
+    }
+
+    /**
+     * Constructs the service backed by the given storage, recording write lock wait and hold times into the given
+     * metrics.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     * @param metrics      The metrics to record the {@link Operation#LOCK_WAIT} and {@link Operation#LOCK_HOLD} times into.
+     */
+    public StampedLockFootballService(Storage storage, SummaryOrder summaryOrder, BoardMetrics metrics) {
+        super(storage, summaryOrder);
+        this.metrics = metrics;
+        this.optimisticReads = storage.supportsOptimisticReads();
+    }
+
+    /**
+     * Returns the metrics receiving the write lock wait and hold times, disabled unless given to the constructor.
+     *
+     * @return The lock metrics.
+     */
+    public BoardMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns how often an optimistic summary read was invalidated by a writer and repeated under the read lock.
+     *
+     * @return The number of failed optimistic reads.
+     */
+    public long getOptimisticReadFailures() {
+        return optimisticReadFailures.sum();
+    }
+
+    /**
+     * Starts a new match and adds it to the scoreboard under the write lock.
+     *
+     * @param homeTeam The home team for the new match.
+     * @param awayTeam The away team for the new match.
+     * @return The UUID of the newly created match.
+     */
+    @Override
+    public UUID newMatch(Team homeTeam, Team awayTeam) {
+        long stamp = acquireWrite();
+        try {
+            return super.newMatch(homeTeam, awayTeam);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Updates the score of an existing match under the write lock.
+     *
+     * @param matchUuid The UUID of the match to update.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     */
+    @Override
+    public void updateScore(UUID matchUuid, int homeScore, int awayScore) {
+        long stamp = acquireWrite();
+        try {
+            super.updateScore(matchUuid, homeScore, awayScore);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies a batch of score updates under the write lock, so readers observe either none or all of the batch.
+     *
+     * @param updates The score updates to apply.
+     * @return The status of every update.
+     */
+    @Override
+    public List<UpdateStatus> updateScores(Collection<ScoreUpdate> updates) {
+        long stamp = acquireWrite();
+        try {
+            return super.updateScores(updates);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Updates the score of a match without throwing for unknown matches, under the write lock.
+     *
+     * @param matchUuid The UUID of the match to update.
+     * @param homeScore The updated home team score.
+     * @param awayScore The updated away team score.
+     * @return The outcome of the update.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+        long stamp = acquireWrite();
+        try {
+            return super.tryUpdateScore(matchUuid, homeScore, awayScore);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Finishes a match currently in progress under the write lock.
+     *
+     * @param matchUuid The UUID of the match to finish.
+     */
+    @Override
+    public void finishMatchByUUID(UUID matchUuid) {
+        long stamp = acquireWrite();
+        try {
+            super.finishMatchByUUID(matchUuid);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Finishes a match without throwing for unknown matches, under the write lock.
+     *
+     * @param matchUuid The UUID of the match to finish.
+     * @return The outcome of finishing the match.
+     */
+    @Override
+    public UpdateStatus tryFinishMatchByUUID(UUID matchUuid) {
+        long stamp = acquireWrite();
+        try {
+            return super.tryFinishMatchByUUID(matchUuid);
+        } finally {
+            releaseWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets a summary of matches in progress ordered by their total score, optimistically if possible.
+     *
+     * @return A collection of matches sorted by total score.
+     */
+    @Override
+    public Collection<Match> getSortedSummary() {
+        return read(super::getSortedSummary);
+    }
+
+    /**
+     * Gets the summary of matches in progress together with its version, optimistically if possible.
+     *
+     * @return The snapshot of the matches sorted by total score.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return read(super::getSummarySnapshot);
+    }
+
+    /**
+     * Gets the first matches of the summary, optimistically if possible.
+     *
+     * @param n The maximum number of matches to return.
+     * @return The top {@code n} matches sorted by total score.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return read(() -> super.getTopMatches(n));
+    }
+
+    /**
+     * Gets a page of the summary, optimistically if possible.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches sorted by total score.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        return read(() -> super.getSummaryPage(cursor, limit));
+    }
+
+    /**
+     * Gets the changes of the summary since a version under the read lock, since building them looks up matches
+     * by UUID.
+     *
+     * @param version The version of the summary the caller holds.
+     * @return The changes since the version, or a full snapshot.
+     */
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        long stamp = lock.readLock();
+        try {
+            return super.getChangesSince(version);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gets the score timeline of a match under the read lock.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The score history of the match.
+     */
+    @Override
+    public ScoreHistory getScoreHistory(UUID matchUuid) {
+        long stamp = lock.readLock();
+        try {
+            return super.getScoreHistory(matchUuid);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a summary read under an optimistic stamp and returns its result if the stamp is still valid afterwards.
+     * A read that failed while a writer was active is not trusted either; both cases retry under the read lock.
+     */
+    private <T> T read(Supplier<T> summaryRead) {
+        if (optimisticReads) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    T result = summaryRead.get();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                }
+                optimisticReadFailures.increment();
+            }
+        }
+        long stamp = lock.readLock();
+        try {
+            return summaryRead.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long acquireWrite() {
+        long waitStart = metrics.start();
+        long stamp = lock.writeLock();
+        lockedAt = metrics.record(Operation.LOCK_WAIT, waitStart);
+        return stamp;
+    }
+
+    private void releaseWrite(long stamp) {
+        metrics.record(Operation.LOCK_HOLD, lockedAt);
+        lockedAt = BoardMetrics.NOT_TIMED;
+        lock.unlockWrite(stamp);
+    }
+}
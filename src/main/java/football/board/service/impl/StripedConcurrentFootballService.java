@@ -0,0 +1,88 @@
+package football.board.service.impl;
+
+import football.board.entity.SummaryOrder;
+import football.board.exception.InvalidArgumentException;
+import football.board.metrics.BoardMetrics;
+import football.board.storage.ConcurrentScoreBoardStorage;
+import football.board.storage.InstrumentedStorage;
+import football.board.storage.Storage;
+
+/**
+ * A concurrent version of the FootballWorldScoreBoardService without a global lock.
+ * <p>
+ * Matches are kept in a {@link ConcurrentScoreBoardStorage} by default: score updates replace an immutable copy of
+ * the match under the lock of its hash bin only, so updates to different matches run in parallel, and
+ * {@link #getSortedSummary()} never blocks or is blocked by writers. Creating a match reserves both teams
+ * all-or-nothing, so two concurrent matches can never share a team. Any other storage must be safe under
+ * concurrent writes on its own, as told by {@link Storage#supportsConcurrentWrites()}.
+ * <p>
+ * Batches passed to {@link #updateScores(java.util.Collection)} are applied match by match, so a concurrent
+ * reader may observe part of a batch.
+ */
+public class StripedConcurrentFootballService extends FootballWorldScoreBoardService {
+
+    private final BoardMetrics metrics;
+
+    /**
+     * Default constructor initializing the service with a concurrent storage.
+     */
+    public StripedConcurrentFootballService() {
+        this(new ConcurrentScoreBoardStorage());
+    }
+
+    /**
+     * Constructs the service backed by the given storage.
+     *
+     * @param storage The storage to keep the matches in.
+     * @throws InvalidArgumentException If the storage is null or not safe under concurrent writes.
+     */
+    public StripedConcurrentFootballService(Storage storage) {
+        this(storage, SummaryOrder.MOST_RECENT_FIRST);
+    }
+
+    /**
+     * Constructs the service backed by the given storage, ordering matches with the same total score as given.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     * @throws InvalidArgumentException If the storage is null or not safe under concurrent writes.
+     */
+    public StripedConcurrentFootballService(Storage storage, SummaryOrder summaryOrder) {
+        super(requireConcurrentWrites(storage), summaryOrder);
+        this.metrics = new BoardMetrics(false);
+    }
+
+    /**
+     * Constructs the service backed by the given storage, timing its operations into the given metrics. The service
+     * takes no lock of its own, so the storage is wrapped in an {@link InstrumentedStorage} recording the
+     * {@code STORAGE_*} operations and the board size.
+     *
+     * @param storage      The storage to keep the matches in.
+     * @param summaryOrder The order of matches with the same total score.
+     * @param metrics      The metrics to record the storage operations into.
+     * @throws InvalidArgumentException If the storage is null or not safe under concurrent writes.
+     */
+    public StripedConcurrentFootballService(Storage storage, SummaryOrder summaryOrder, BoardMetrics metrics) {
+        super(new InstrumentedStorage(requireConcurrentWrites(storage), metrics), summaryOrder);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics receiving the storage operation times, disabled unless given to the constructor.
+     *
+     * @return The storage metrics.
+     */
+    public BoardMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static Storage requireConcurrentWrites(Storage storage) {
+        if (storage == null) {
+            throw new InvalidArgumentException("Storage cannot be null.");
+        }
+        if (!storage.supportsConcurrentWrites()) {
+            throw new InvalidArgumentException("Storage must be safe under concurrent writes.");
+        }
+        return storage;
+    }
+}
@@ -0,0 +1,65 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of summaries that are each already in summary order.
+ */
+final class SummaryMerge {
+
+    private SummaryMerge() {
+    }
+
+    /**
+     * Merges sorted summaries into one sorted summary, reading each input only as far as needed.
+     * Costs O(m log k) for m returned matches from k inputs.
+     *
+     * @param sortedRuns The summaries, each in the order of {@link Match#getSortComparator()}.
+     * @param limit      The maximum number of matches to return.
+     * @return An immutable list of at most {@code limit} matches in summary order.
+     */
+    static List<Match> merge(List<? extends Collection<Match>> sortedRuns, int limit) {
+        Comparator<Match> order = Match.getSortComparator();
+        PriorityQueue<Run> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()), (a, b) -> order.compare(a.head, b.head));
+        int total = 0;
+        for (Collection<Match> sortedRun : sortedRuns) {
+            total += sortedRun.size();
+            Iterator<Match> iterator = sortedRun.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Run(iterator));
+            }
+        }
+        List<Match> merged = new ArrayList<>(Math.min(total, limit));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Run run = heads.poll();
+            merged.add(run.head);
+            if (run.iterator.hasNext()) {
+                run.head = run.iterator.next();
+                heads.add(run);
+            }
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * The unread rest of one input summary.
+     */
+    private static final class Run {
+        private final Iterator<Match> iterator;
+
+        private Match head;
+
+        private Run(Iterator<Match> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package football.board.storage;
+
+import football.board.codec.MatchDecoder;
+import football.board.codec.MatchEncoder;
+import football.board.entity.Match;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.StorageException;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * A storage decorator keeping the final result of every finished match, so it can still be looked up after the
+ * match left the board.
+ * <p>
+ * A match removed from the wrapped storage is appended to an archive file as a checksummed record, encoded by a
+ * {@link MatchEncoder} with a fresh team dictionary so every record stands alone, and put into an in-memory cache of
+ * at most {@code cacheCapacity} matches, evicting the least recently read one. Because every match is already on
+ * disk, evicting needs no I/O. An index in memory maps the UUID of every archived match to the position and length
+ * of its record: a lookup is a hash lookup in the cache, and on a miss a single positioned read of the file, after
+ * which the match is cached again. On construction the index is rebuilt from the file; a record torn by a crash
+ * ends the file and is cut off.
+ * <p>
+ * Records are written without {@code fsync}; {@link #close()} syncs them. Removals and archive reads are serialized
+ * by this decorator, except the read of the file itself; other changes go to the wrapped storage directly.
+ */
+public class ArchivingStorage extends ForwardingStorage implements Closeable {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 10_000;
+
+    /**
+     * The length and the CRC32 checksum of the payload precede every record.
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int MAX_PAYLOAD_SIZE = 0xFFFF;
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    private final MatchEncoder encoder = new MatchEncoder();
+
+    private final CRC32 crc = new CRC32();
+
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + MAX_PAYLOAD_SIZE);
+
+    /**
+     * The recently finished or read matches, least recently read first.
+     */
+    private final LinkedHashMap<UUID, Match> cache;
+
+    /**
+     * The record of every archived match: its file position shifted left by 16 bits, or-ed with its payload length.
+     */
+    private final Map<UUID, Long> index = new HashMap<>();
+
+    private long fileLength;
+
+    private long cacheHits;
+
+    private long diskReads;
+
+    /**
+     * Constructs the decorator with the default cache capacity.
+     *
+     * @param delegate The storage holding the matches in progress.
+     * @param file     The archive file, created if missing.
+     * @throws StorageException If the archive file cannot be read.
+     */
+    public ArchivingStorage(Storage delegate, Path file) {
+        this(delegate, file, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Constructs the decorator.
+     *
+     * @param delegate      The storage holding the matches in progress.
+     * @param file          The archive file, created if missing.
+     * @param cacheCapacity The number of finished matches kept in memory.
+     * @throws InvalidArgumentException If the cache capacity is not positive.
+     * @throws StorageException         If the archive file cannot be read.
+     */
+    public ArchivingStorage(Storage delegate, Path file, int cacheCapacity) {
+        super(delegate);
+        if (cacheCapacity <= 0) {
+            throw new InvalidArgumentException("Archive cache capacity must be positive.");
+        }
+        this.file = file;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Match> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            rebuildIndex();
+        } catch (IOException e) {
+            throw new StorageException("Cannot open the match archive " + file + ".", e);
+        }
+    }
+
+    /**
+     * Removes a match from the wrapped storage and archives its final state.
+     *
+     * @param matchUUID The UUID of the match to remove.
+     * @return {@code true} if the match was removed.
+     * @throws StorageException If the match cannot be written to the archive file; it is removed nevertheless.
+     */
+    @Override
+    public synchronized boolean removeMatch(UUID matchUUID) {
+        Optional<Match> finished = delegate.findMatch(matchUUID);
+        boolean removed = delegate.removeMatch(matchUUID);
+        if (removed && finished.isPresent()) {
+            Match match = finished.get();
+            cache.put(matchUUID, match);
+            append(match);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the final state of a finished match, from the cache or else with one read of the archive file.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The match, or empty if it was never archived.
+     * @throws StorageException If the archive file cannot be read.
+     */
+    @Override
+    public Optional<Match> findFinishedMatch(UUID matchUuid) {
+        Long location;
+        synchronized (this) {
+            Match match = cache.get(matchUuid);
+            if (match != null) {
+                cacheHits++;
+                return Optional.of(match);
+            }
+            location = index.get(matchUuid);
+            if (location == null) {
+                return Optional.empty();
+            }
+            diskReads++;
+        }
+        Match match = read(location >>> 16, (int) (location & MAX_PAYLOAD_SIZE));
+        synchronized (this) {
+            cache.put(matchUuid, match);
+        }
+        return Optional.of(match);
+    }
+
+    /**
+     * Returns the number of archived matches, in memory or on disk only.
+     *
+     * @return The archive size.
+     */
+    public synchronized int getArchivedCount() {
+        return index.size();
+    }
+
+    /**
+     * Returns the number of finished matches currently held in memory.
+     *
+     * @return The cache size.
+     */
+    public synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Returns how many finished match lookups were answered from memory.
+     *
+     * @return The number of cache hits.
+     */
+    public synchronized long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Returns how many finished match lookups read the archive file.
+     *
+     * @return The number of disk reads.
+     */
+    public synchronized long getDiskReads() {
+        return diskReads;
+    }
+
+    /**
+     * Syncs and closes the archive file. Later removals and disk lookups fail.
+     *
+     * @throws StorageException If the archive file cannot be synced.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if (channel.isOpen()) {
+                channel.force(true);
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot close the match archive " + file + ".", e);
+        }
+    }
+
+    private void append(Match match) {
+        encoder.reset();
+        record.clear();
+        record.position(RECORD_HEADER_SIZE);
+        record.limit(RECORD_HEADER_SIZE + MAX_PAYLOAD_SIZE);
+        if (!encoder.encode(match, record)) {
+            throw new StorageException("Match is too large to be archived: " + match.getMatchUuid());
+        }
+        int length = record.position() - RECORD_HEADER_SIZE;
+        crc.reset();
+        crc.update(record.array(), RECORD_HEADER_SIZE, length);
+        record.putInt(0, length);
+        record.putInt(4, (int) crc.getValue());
+        record.flip();
+        try {
+            long position = fileLength;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot write to the match archive " + file + ".", e);
+        }
+        index.put(match.getMatchUuid(), fileLength << 16 | length);
+        fileLength += RECORD_HEADER_SIZE + length;
+    }
+
+    private Match read(long position, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new StorageException("The match archive " + file + " ends inside a record.");
+                }
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot read the match archive " + file + ".", e);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), RECORD_HEADER_SIZE, length);
+        if (buffer.getInt(0) != length || buffer.getInt(4) != (int) checksum.getValue()) {
+            throw new StorageException("Corrupted record in the match archive " + file + " at " + position + ".");
+        }
+        buffer.position(RECORD_HEADER_SIZE);
+        return new MatchDecoder().decode(buffer);
+    }
+
+    /**
+     * Indexes the records of the archive file and cuts off a torn or corrupted tail. A match archived twice keeps
+     * its last record.
+     */
+    private void rebuildIndex() throws IOException {
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] payload = new byte[256];
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length < 16 || length > MAX_PAYLOAD_SIZE) {
+                        break;
+                    }
+                    if (payload.length < length) {
+                        payload = new byte[length];
+                    }
+                    in.readFully(payload, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                ByteBuffer uuid = ByteBuffer.wrap(payload, 0, 16);
+                index.put(new UUID(uuid.getLong(), uuid.getLong()), validLength << 16 | length);
+                validLength += RECORD_HEADER_SIZE + length;
+            }
+        }
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        fileLength = validLength;
+    }
+}
@@ -0,0 +1,184 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.RankedMatch;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryDelta;
+import football.board.exception.InvalidArgumentException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A storage decorator keeping a bounded history of changes, so {@link #getChangesSince(long)} returns only the
+ * matches added, updated or removed since a version instead of the whole summary.
+ * <p>
+ * Every successful change is recorded with the {@link Storage#getVersion() version} of the wrapped storage after
+ * it, in a ring of {@code historyCapacity} entries. Once older changes are overwritten, versions from before them
+ * get a full snapshot. Changes and delta reads are serialized on this decorator.
+ */
+public class ChangeTrackingStorage extends ForwardingStorage {
+
+    public static final int DEFAULT_HISTORY_CAPACITY = 4096;
+
+    private static final byte ADDED = 0;
+
+    private static final byte UPDATED = 1;
+
+    private static final byte REMOVED = 2;
+
+    private final long[] versions;
+
+    private final UUID[] matchUuids;
+
+    private final byte[] kinds;
+
+    /**
+     * The number of changes recorded so far; the newest change is at {@code (count - 1) % capacity}.
+     */
+    private long count;
+
+    /**
+     * The version of the newest change no longer in the history. Deltas can be built for later versions only.
+     */
+    private long horizon;
+
+    /**
+     * Constructs the decorator with the default history capacity.
+     *
+     * @param delegate The storage holding the matches.
+     */
+    public ChangeTrackingStorage(Storage delegate) {
+        this(delegate, DEFAULT_HISTORY_CAPACITY);
+    }
+
+    /**
+     * Constructs the decorator.
+     *
+     * @param delegate        The storage holding the matches.
+     * @param historyCapacity The number of changes kept.
+     * @throws InvalidArgumentException If the capacity is not positive.
+     */
+    public ChangeTrackingStorage(Storage delegate, int historyCapacity) {
+        super(delegate);
+        if (historyCapacity <= 0) {
+            throw new InvalidArgumentException("History capacity must be positive.");
+        }
+        this.versions = new long[historyCapacity];
+        this.matchUuids = new UUID[historyCapacity];
+        this.kinds = new byte[historyCapacity];
+        this.horizon = delegate.getVersion();
+    }
+
+    @Override
+    public synchronized boolean addMatch(Match matchToAdd) {
+        boolean added = delegate.addMatch(matchToAdd);
+        if (added) {
+            record(matchToAdd.getMatchUuid(), ADDED);
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        boolean updated = delegate.updateScore(matchUUID, homeScore, awayScore);
+        if (updated) {
+            record(matchUUID, UPDATED);
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized boolean[] updateScores(List<ScoreUpdate> updates) {
+        boolean[] applied = delegate.updateScores(updates);
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                record(updates.get(i).getMatchUuid(), UPDATED);
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public synchronized boolean removeMatch(UUID matchUUID) {
+        boolean removed = delegate.removeMatch(matchUUID);
+        if (removed) {
+            record(matchUUID, REMOVED);
+        }
+        return removed;
+    }
+
+    /**
+     * Builds the changes since a version from the history. Every changed match is listed once: as added if it
+     * started after the version, as updated if it was already in progress, as removed if it finished. Matches that
+     * started and finished after the version are left out. The current version is answered without reading the
+     * wrapped storage, and every changed match still on the board is ranked with {@link Storage#countBefore(Match)},
+     * so a delta never copies the summary.
+     *
+     * @param version The version of the summary the caller holds.
+     * @return The changes with the current ranks, or a full snapshot if the version is older than the history or
+     * newer than the storage.
+     */
+    @Override
+    public synchronized SummaryDelta getChangesSince(long version) {
+        long current = delegate.getVersion();
+        if (version < horizon || version > current) {
+            return SummaryDelta.fullSnapshot(version, delegate.getSnapshot());
+        }
+        List<RankedMatch> added = new ArrayList<>();
+        List<RankedMatch> updated = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        if (version == current) {
+            return new SummaryDelta(version, current, false, added, updated, removed);
+        }
+        for (Map.Entry<UUID, Boolean> change : changedSince(version).entrySet()) {
+            Match match = delegate.findMatch(change.getKey()).orElse(null);
+            if (match == null) {
+                if (!change.getValue()) {
+                    removed.add(change.getKey());
+                }
+            } else {
+                RankedMatch ranked = new RankedMatch(match, delegate.countBefore(match));
+                (change.getValue() ? added : updated).add(ranked);
+            }
+        }
+        Comparator<RankedMatch> byRank = Comparator.comparingInt(RankedMatch::getRank);
+        added.sort(byRank);
+        updated.sort(byRank);
+        return new SummaryDelta(version, current, false, added, updated, removed);
+    }
+
+    /**
+     * Collects the matches changed after a version, oldest change first.
+     *
+     * @return For every changed match, whether its first change after the version was its start.
+     */
+    private Map<UUID, Boolean> changedSince(long version) {
+        int capacity = versions.length;
+        long first = count;
+        while (first > 0 && count - first < capacity && versions[(int) ((first - 1) % capacity)] > version) {
+            first--;
+        }
+        Map<UUID, Boolean> changed = new LinkedHashMap<>();
+        for (long i = first; i < count; i++) {
+            int slot = (int) (i % capacity);
+            changed.putIfAbsent(matchUuids[slot], kinds[slot] == ADDED);
+        }
+        return changed;
+    }
+
+    private void record(UUID matchUuid, byte kind) {
+        int slot = (int) (count % versions.length);
+        if (count >= versions.length) {
+            horizon = versions[slot];
+        }
+        versions[slot] = delegate.getVersion();
+        matchUuids[slot] = matchUuid;
+        kinds[slot] = kind;
+        count++;
+    }
+}
@@ -0,0 +1,272 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe storage class built on a {@link ConcurrentHashMap}.
+ * <p>
+ * Matches are immutable: a score update replaces the stored match with an updated copy
+ * inside {@link ConcurrentMap#computeIfPresent}, which only locks the hash bin of that match. Updates to
+ * different matches therefore run in parallel, and readers never take a lock.
+ * <p>
+ * Once {@link #countBefore(Match)} is first called, a {@link RankIndex} answers it in O(log n), and from then on
+ * every change also re-indexes its match under the monitor of the index.
+ */
+public class ConcurrentScoreBoardStorage implements Storage {
+
+    /**
+     * The published matches, indexed by their UUID.
+     */
+    private final ConcurrentMap<UUID, Match> matches;
+
+    /**
+     * The teams currently playing in one of the stored matches.
+     */
+    private final TeamOccupancyIndex teamOccupancy;
+
+    /**
+     * The version of the storage, incremented on every change.
+     */
+    private final AtomicLong version;
+
+    /**
+     * The order-statistic index of the matches, or {@code null} until a rank is first asked for. Guarded by its own
+     * monitor.
+     */
+    private volatile RankIndex ranks;
+
+    /**
+     * Constructs a new ConcurrentScoreBoardStorage with no matches.
+     */
+    public ConcurrentScoreBoardStorage() {
+        this.matches = new ConcurrentHashMap<>();
+        this.teamOccupancy = new TeamOccupancyIndex();
+        this.version = new AtomicLong();
+    }
+
+    /**
+     * Adds a new match to the storage if neither of its teams is already playing.
+     *
+     * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        if (!teamOccupancy.reserve(matchToAdd)) {
+            return false;
+        }
+        matches.put(matchToAdd.getMatchUuid(), matchToAdd);
+        indexRank(matchToAdd.getMatchUuid());
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Replaces the stored match with a copy carrying the new scores.
+     * The order is computed when the matches are read, so no sorting happens here.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
+     */
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        if (matchUUID == null) {
+            return false;
+        }
+        Match updated = matches.computeIfPresent(matchUUID, (uuid, current) -> current.withScore(homeScore, awayScore));
+        if (updated == null) {
+            return false;
+        }
+        indexRank(matchUUID);
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes a match from the storage based on its UUID and releases its teams.
+     *
+     * @param uuidToRemove The UUID of the match to be removed.
+     * @return {@code true} if the match was found and removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeMatch(UUID uuidToRemove) {
+        if (uuidToRemove == null) {
+            return false;
+        }
+        Match removed = matches.remove(uuidToRemove);
+        if (removed == null) {
+            return false;
+        }
+        indexRank(uuidToRemove);
+        teamOccupancy.release(removed);
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Finds a match by its UUID.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if it is not found.
+     */
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        if (matchUUID == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(matches.get(matchUUID));
+    }
+
+    /**
+     * Checks if a team is participating in one of the stored matches using the occupancy index.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return teamOccupancy.isOccupied(teamUuid);
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        return teamOccupancy.isPlaying(team);
+    }
+
+    /**
+     * Retrieves an immutable, sorted copy of the matches without taking any lock.
+     * The copy is weakly consistent: it reflects each match as it was published at some point during the call.
+     *
+     * @return An immutable copy of the collection of matches in summary order.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        List<Match> sorted = new ArrayList<>(matches.values());
+        sorted.sort(Match.getSortComparator());
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Selects the first matches in summary order with a bounded heap, without sorting the whole board.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        if (n <= 0) {
+            return List.of();
+        }
+        Comparator<Match> order = Match.getSortComparator();
+        PriorityQueue<Match> lowest = new PriorityQueue<>(Math.min(n, 1024), order.reversed());
+        for (Match match : matches.values()) {
+            if (lowest.size() < n) {
+                lowest.add(match);
+            } else if (order.compare(match, lowest.peek()) < 0) {
+                lowest.poll();
+                lowest.add(match);
+            }
+        }
+        List<Match> top = new ArrayList<>(lowest);
+        top.sort(order);
+        return Collections.unmodifiableList(top);
+    }
+
+    /**
+     * The summary reads iterate the concurrent map, which never fails while it changes.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsOptimisticReads() {
+        return true;
+    }
+
+    /**
+     * Writers lock the hash bin of their match only, and the team index reserves teams with atomic updates.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsConcurrentWrites() {
+        return true;
+    }
+
+    /**
+     * Counts the other matches sorting before a match state in the rank index, building the index on the first call.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    @Override
+    public int countBefore(Match state) {
+        RankIndex index = ranks;
+        if (index == null) {
+            index = startRanking();
+        }
+        synchronized (index) {
+            return index.countBefore(state);
+        }
+    }
+
+    /**
+     * Builds the rank index. It is published before the matches are indexed, so a change racing with the build
+     * re-indexes its match once the build is done.
+     */
+    private synchronized RankIndex startRanking() {
+        RankIndex index = ranks;
+        if (index == null) {
+            index = new RankIndex();
+            synchronized (index) {
+                ranks = index;
+                for (Match match : matches.values()) {
+                    index.put(match);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Brings the rank index in line with the current state of a match after a change, if ranks are indexed.
+     */
+    private void indexRank(UUID matchUuid) {
+        RankIndex index = ranks;
+        if (index == null) {
+            return;
+        }
+        synchronized (index) {
+            Match current = matches.get(matchUuid);
+            if (current != null) {
+                index.put(current);
+            } else {
+                index.remove(matchUuid);
+            }
+        }
+    }
+
+    /**
+     * Returns the version of the storage, incremented on every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+}
@@ -0,0 +1,775 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryOrder;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.StorageException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A storage decorator that makes the wrapped storage survive a restart.
+ * <p>
+ * Every successful change is appended to a binary log ({@code wal-<generation>.log}) as a checksummed record.
+ * Records are collected in memory and written by whichever thread fills a batch of {@code syncBatchSize} records
+ * (group commit): one {@code write} and one {@code fsync} cover the whole batch, and a background task syncs
+ * incomplete batches every {@code syncIntervalMillis}. A change is therefore durable once the batch it belongs to is
+ * synced, or after {@link #sync()}.
+ * <p>
+ * After {@code snapshotInterval} records the background thread writes the full board to {@code snapshot.bin} and
+ * starts a new log generation, so recovery reads one snapshot plus a short log; the writer that crossed the
+ * interval does not wait for it. On construction the wrapped storage, which must be
+ * empty, is loaded from the snapshot and the logs; a record torn by a crash ends the log and is cut off.
+ * <p>
+ * The snapshot and every log start with a magic number and the {@link #FORMAT_VERSION} of their record layout.
+ * Files of another version, or written before the version was recorded, are rejected on recovery rather than
+ * misread.
+ * <p>
+ * Changes are serialized by this decorator so the log order is the order in which they were applied; reads go to
+ * the wrapped storage directly.
+ */
+public class DurableStorage extends ForwardingStorage implements Closeable {
+
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 64;
+
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 10;
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private static final String LOG_PREFIX = "wal-";
+
+    private static final String LOG_SUFFIX = ".log";
+
+    /**
+     * The version of the layout of the snapshot and log records. Version 2 added the summary order to every match,
+     * version 3 the record of a batch of score updates.
+     */
+    public static final int FORMAT_VERSION = 3;
+
+    /**
+     * The magic number of the snapshots written before the format version was recorded.
+     */
+    private static final int LEGACY_SNAPSHOT_MAGIC = 0x53425331;
+
+    private static final int SNAPSHOT_MAGIC = 0x53425346;
+
+    private static final int LOG_MAGIC = 0x5342574C;
+
+    /**
+     * The magic number and the format version precede the records of every log.
+     */
+    private static final int LOG_HEADER_SIZE = 8;
+
+    private static final byte ADD = 1;
+
+    private static final byte UPDATE = 2;
+
+    private static final byte REMOVE = 3;
+
+    private static final byte UPDATES = 4;
+
+    /**
+     * The largest record payload; a batch record holds up to about three million score updates.
+     */
+    private static final int MAX_PAYLOAD_SIZE = 1 << 26;
+
+    private static final SummaryOrder[] SUMMARY_ORDERS = SummaryOrder.values();
+
+    /**
+     * The length and the CRC32 checksum of the payload precede every record.
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final Path directory;
+
+    private final int syncBatchSize;
+
+    private final int snapshotInterval;
+
+    /**
+     * Serializes writing to the log file. Taken before the monitor of this storage, never after it.
+     */
+    private final ReentrantLock ioLock = new ReentrantLock();
+
+    private final ScheduledExecutorService syncer;
+
+    /**
+     * The records not yet written to the log. Guarded by this.
+     */
+    private ByteBuffer pending;
+
+    private int pendingRecords;
+
+    private int recordsSinceSnapshot;
+
+    private boolean snapshotScheduled;
+
+    private long generation;
+
+    private boolean closed;
+
+    private volatile StorageException failure;
+
+    /**
+     * The buffer swapped with {@link #pending} when a batch is written. Guarded by {@link #ioLock}.
+     */
+    private ByteBuffer spare;
+
+    /**
+     * The log of the current generation. Guarded by {@link #ioLock}.
+     */
+    private FileChannel log;
+
+    /**
+     * Constructs a durable storage with the default group commit and snapshot settings.
+     *
+     * @param delegate  The empty storage to load the persisted matches into and to keep them in.
+     * @param directory The directory of the log and snapshot files.
+     * @throws StorageException If the persisted data cannot be read.
+     */
+    public DurableStorage(Storage delegate, Path directory) {
+        this(delegate, directory, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Constructs a durable storage.
+     *
+     * @param delegate           The empty storage to load the persisted matches into and to keep them in.
+     * @param directory          The directory of the log and snapshot files.
+     * @param syncBatchSize      The number of records written and synced together; 1 syncs every change.
+     * @param syncIntervalMillis The maximum time an incomplete batch waits for its sync; 0 disables the background sync.
+     * @param snapshotInterval   The number of records after which a snapshot is taken.
+     * @throws StorageException If the persisted data cannot be read.
+     */
+    public DurableStorage(Storage delegate, Path directory, int syncBatchSize, long syncIntervalMillis, int snapshotInterval) {
+        super(delegate);
+        if (syncBatchSize <= 0 || snapshotInterval <= 0 || syncIntervalMillis < 0) {
+            throw new InvalidArgumentException("Sync batch size and snapshot interval must be positive.");
+        }
+        this.directory = directory;
+        this.syncBatchSize = syncBatchSize;
+        this.snapshotInterval = snapshotInterval;
+        this.pending = ByteBuffer.allocate(64 * 1024);
+        this.spare = ByteBuffer.allocate(64 * 1024);
+        try {
+            Files.createDirectories(directory);
+            recover();
+            this.log = openLog(generation);
+        } catch (IOException e) {
+            throw new StorageException("Cannot recover the storage from " + directory + ".", e);
+        }
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-log-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (syncIntervalMillis > 0) {
+            this.syncer.scheduleWithFixedDelay(this::backgroundSync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        byte[] homeName = teamName(matchToAdd.getHomeTeam());
+        byte[] awayName = teamName(matchToAdd.getAwayTeam());
+        synchronized (this) {
+            ensureWritable();
+            if (!delegate.addMatch(matchToAdd)) {
+                return false;
+            }
+            int start = beginRecord(1 + 33 + 2 * 18 + homeName.length + awayName.length);
+            pending.put(ADD);
+            putMatch(pending, matchToAdd, homeName, awayName);
+            endRecord(start);
+        }
+        afterAppend();
+        return true;
+    }
+
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        synchronized (this) {
+            ensureWritable();
+            if (!delegate.updateScore(matchUUID, homeScore, awayScore)) {
+                return false;
+            }
+            appendUpdate(matchUUID, homeScore, awayScore);
+        }
+        afterAppend();
+        return true;
+    }
+
+    /**
+     * Applies a batch of score updates and logs the final score of every updated match as one record.
+     *
+     * @param updates The score updates to apply.
+     * @return For every update, at the same position, {@code true} if its match was found and updated.
+     * @throws InvalidArgumentException If the batch holds more updates than one record can.
+     */
+    @Override
+    public boolean[] updateScores(List<ScoreUpdate> updates) {
+        boolean[] applied;
+        if (updatesPayloadSize(updates.size()) > MAX_PAYLOAD_SIZE) {
+            throw new InvalidArgumentException("A batch of " + updates.size() + " score updates is too large to be logged.");
+        }
+        synchronized (this) {
+            ensureWritable();
+            applied = delegate.updateScores(updates);
+            Map<UUID, ScoreUpdate> finalScores = new LinkedHashMap<>();
+            for (int i = 0; i < applied.length; i++) {
+                if (applied[i]) {
+                    finalScores.put(updates.get(i).getMatchUuid(), updates.get(i));
+                }
+            }
+            if (!finalScores.isEmpty()) {
+                appendUpdates(finalScores.values());
+            }
+        }
+        afterAppend();
+        return applied;
+    }
+
+    @Override
+    public boolean removeMatch(UUID uuidToRemove) {
+        synchronized (this) {
+            ensureWritable();
+            if (!delegate.removeMatch(uuidToRemove)) {
+                return false;
+            }
+            int start = beginRecord(17);
+            pending.put(REMOVE);
+            putUuid(pending, uuidToRemove);
+            endRecord(start);
+        }
+        afterAppend();
+        return true;
+    }
+
+    /**
+     * Writes and syncs all pending records, so every change made before the call is durable.
+     *
+     * @throws StorageException If the log cannot be written.
+     */
+    public void sync() {
+        ioLock.lock();
+        try {
+            ByteBuffer batch;
+            synchronized (this) {
+                if (pendingRecords == 0) {
+                    return;
+                }
+                batch = swapPending();
+            }
+            writeBatch(batch);
+        } catch (IOException e) {
+            throw fail("Cannot write the storage log.", e);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the whole board and starts a new log generation. The logs of older generations
+     * are deleted once the snapshot is durable.
+     *
+     * @throws StorageException If the snapshot or the log cannot be written.
+     */
+    public void snapshot() {
+        ioLock.lock();
+        try {
+            ByteBuffer batch;
+            List<Match> matches;
+            long snapshotGeneration;
+            synchronized (this) {
+                ensureWritable();
+                batch = swapPending();
+                matches = List.copyOf(delegate.getAllMatches());
+                recordsSinceSnapshot = 0;
+                snapshotGeneration = ++generation;
+            }
+            writeBatch(batch);
+            log.close();
+            log = openLog(snapshotGeneration);
+            writeSnapshot(matches, snapshotGeneration);
+            for (long olderGeneration : logGenerations()) {
+                if (olderGeneration < snapshotGeneration) {
+                    Files.deleteIfExists(logPath(olderGeneration));
+                }
+            }
+        } catch (IOException e) {
+            throw fail("Cannot write the storage snapshot.", e);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a running background sync or snapshot, syncs the pending records and closes the log. Later changes
+     * are rejected.
+     *
+     * @throws StorageException If the log cannot be written.
+     */
+    @Override
+    public void close() {
+        syncer.shutdown();
+        boolean interrupted = false;
+        while (!syncer.isTerminated()) {
+            try {
+                syncer.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        ioLock.lock();
+        try {
+            ByteBuffer batch;
+            synchronized (this) {
+                closed = true;
+                batch = swapPending();
+            }
+            writeBatch(batch);
+            log.close();
+        } catch (IOException e) {
+            throw fail("Cannot close the storage log.", e);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    private void afterAppend() {
+        boolean snapshotDue;
+        boolean syncDue;
+        synchronized (this) {
+            snapshotDue = recordsSinceSnapshot >= snapshotInterval && !snapshotScheduled;
+            snapshotScheduled |= snapshotDue;
+            syncDue = pendingRecords >= syncBatchSize;
+        }
+        if (snapshotDue) {
+            try {
+                syncer.execute(this::backgroundSnapshot);
+            } catch (RejectedExecutionException e) {
+                // closing; close() syncs the pending records and the next recovery replays them
+            }
+        }
+        if (syncDue) {
+            sync();
+        }
+    }
+
+    private void backgroundSnapshot() {
+        try {
+            snapshot();
+        } catch (StorageException e) {
+            // remembered in failure and rethrown to the next writer
+        } finally {
+            synchronized (this) {
+                snapshotScheduled = false;
+            }
+        }
+    }
+
+    private void backgroundSync() {
+        try {
+            sync();
+        } catch (StorageException e) {
+            // remembered in failure and rethrown to the next writer
+        }
+    }
+
+    private void ensureWritable() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new StorageException("The storage in " + directory + " is closed.");
+        }
+    }
+
+    private StorageException fail(String message, IOException cause) {
+        StorageException exception = new StorageException(message, cause);
+        failure = exception;
+        return exception;
+    }
+
+    private void appendUpdate(UUID matchUuid, int homeScore, int awayScore) {
+        int start = beginRecord(21);
+        pending.put(UPDATE);
+        putUuid(pending, matchUuid);
+        pending.putShort((short) homeScore);
+        pending.putShort((short) awayScore);
+        endRecord(start);
+    }
+
+    /**
+     * Logs a batch as one record holding the final score of every updated match, so replaying it bumps the storage
+     * version and the score versions once, as the batch did.
+     */
+    private void appendUpdates(Collection<ScoreUpdate> finalScores) {
+        int start = beginRecord((int) updatesPayloadSize(finalScores.size()));
+        pending.put(UPDATES);
+        pending.putInt(finalScores.size());
+        for (ScoreUpdate update : finalScores) {
+            putUuid(pending, update.getMatchUuid());
+            pending.putShort((short) update.getHomeScore());
+            pending.putShort((short) update.getAwayScore());
+        }
+        endRecord(start);
+    }
+
+    private static long updatesPayloadSize(int count) {
+        return 1 + 4 + 20L * count;
+    }
+
+    /**
+     * Reserves room for a record header and a payload of at most {@code maxPayloadSize} bytes.
+     */
+    private int beginRecord(int maxPayloadSize) {
+        int needed = RECORD_HEADER_SIZE + maxPayloadSize;
+        if (pending.remaining() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + needed));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        int start = pending.position();
+        pending.position(start + RECORD_HEADER_SIZE);
+        return start;
+    }
+
+    private void endRecord(int start) {
+        int end = pending.position();
+        int payloadStart = start + RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(pending.array(), payloadStart, end - payloadStart);
+        pending.putInt(start, end - payloadStart);
+        pending.putInt(start + 4, (int) crc.getValue());
+        pendingRecords++;
+        recordsSinceSnapshot++;
+    }
+
+    /**
+     * Hands the pending records over for writing. Called with both {@link #ioLock} and the monitor held.
+     */
+    private ByteBuffer swapPending() {
+        ByteBuffer batch = pending;
+        pending = spare;
+        pendingRecords = 0;
+        return batch;
+    }
+
+    /**
+     * Writes and syncs a batch of records, then keeps its buffer for the next swap. Called with {@link #ioLock} held.
+     */
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        batch.flip();
+        if (batch.hasRemaining()) {
+            while (batch.hasRemaining()) {
+                log.write(batch);
+            }
+            log.force(false);
+        }
+        batch.clear();
+        spare = batch;
+    }
+
+    private void recover() throws IOException {
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        long snapshotGeneration = 0;
+        if (Files.exists(snapshotPath)) {
+            snapshotGeneration = readSnapshot(snapshotPath);
+        }
+        generation = snapshotGeneration;
+        for (long logGeneration : logGenerations()) {
+            if (logGeneration >= snapshotGeneration) {
+                replay(logPath(logGeneration));
+                generation = logGeneration;
+            }
+        }
+    }
+
+    private long readSnapshot(Path snapshotPath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotPath)), crc))) {
+            int magic = in.readInt();
+            if (magic == LEGACY_SNAPSHOT_MAGIC) {
+                throw new IOException("Storage snapshot of an unsupported format version 1: " + snapshotPath);
+            }
+            if (magic != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a storage snapshot: " + snapshotPath);
+            }
+            checkFormatVersion(in.readInt(), snapshotPath);
+            long snapshotGeneration = in.readLong();
+            int count = in.readInt();
+            List<Match> matches = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                matches.add(readMatch(in));
+            }
+            long expectedCrc = crc.getValue();
+            if ((int) expectedCrc != in.readInt()) {
+                throw new IOException("Corrupted storage snapshot: " + snapshotPath);
+            }
+            for (Match match : matches) {
+                delegate.addMatch(match);
+            }
+            return snapshotGeneration;
+        }
+    }
+
+    private void writeSnapshot(List<Match> matches, long snapshotGeneration) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)), crc));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshotGeneration);
+            out.writeInt(matches.size());
+            for (Match match : matches) {
+                writeMatch(out, match);
+            }
+            out.flush();
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Applies the records of a log to the wrapped storage and cuts off a torn or corrupted tail. A log torn inside
+     * its header is emptied; {@link #openLog(long)} writes the header again.
+     */
+    private void replay(Path logPath) throws IOException {
+        if (Files.size(logPath) < LOG_HEADER_SIZE) {
+            cutOff(logPath, 0);
+            return;
+        }
+        long validLength = LOG_HEADER_SIZE;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logPath)))) {
+            if (in.readInt() != LOG_MAGIC) {
+                throw new IOException("Storage log of an unsupported format version 1: " + logPath);
+            }
+            checkFormatVersion(in.readInt(), logPath);
+            byte[] payload = new byte[256];
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_PAYLOAD_SIZE) {
+                        break;
+                    }
+                    if (payload.length < length) {
+                        payload = new byte[length];
+                    }
+                    in.readFully(payload, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                apply(ByteBuffer.wrap(payload, 0, length));
+                validLength += RECORD_HEADER_SIZE + length;
+            }
+        }
+        cutOff(logPath, validLength);
+    }
+
+    private static void cutOff(Path logPath, long validLength) throws IOException {
+        if (Files.size(logPath) > validLength) {
+            try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+        }
+    }
+
+    private void apply(ByteBuffer record) throws IOException {
+        byte type = record.get();
+        switch (type) {
+            case ADD:
+                delegate.addMatch(getMatch(record));
+                break;
+            case UPDATE:
+                delegate.updateScore(getUuid(record), Short.toUnsignedInt(record.getShort()), Short.toUnsignedInt(record.getShort()));
+                break;
+            case REMOVE:
+                delegate.removeMatch(getUuid(record));
+                break;
+            case UPDATES:
+                int count = record.getInt();
+                List<ScoreUpdate> updates = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    updates.add(new ScoreUpdate(getUuid(record), Short.toUnsignedInt(record.getShort()), Short.toUnsignedInt(record.getShort())));
+                }
+                delegate.updateScores(updates);
+                break;
+            default:
+                throw new IOException("Unknown storage log record type " + type + ".");
+        }
+    }
+
+    private FileChannel openLog(long logGeneration) throws IOException {
+        FileChannel channel = FileChannel.open(logPath(logGeneration), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE).putInt(LOG_MAGIC).putInt(FORMAT_VERSION);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(false);
+        }
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void checkFormatVersion(int formatVersion, Path path) throws IOException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Storage file of an unsupported format version " + formatVersion + ": " + path);
+        }
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve(LOG_PREFIX + logGeneration + LOG_SUFFIX);
+    }
+
+    private List<Long> logGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX))
+                    .forEach(name -> generations.add(Long.parseLong(
+                            name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length()))));
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private static byte[] teamName(Team team) {
+        byte[] name = team.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > 0xFFFF) {
+            throw new StorageException("Team name is too long to be stored: " + team.getUuid());
+        }
+        return name;
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putMatch(ByteBuffer buffer, Match match, byte[] homeName, byte[] awayName) {
+        putUuid(buffer, match.getMatchUuid());
+        buffer.putLong(match.getStartSequence());
+        buffer.putLong(match.getScore());
+        buffer.put((byte) match.getSummaryOrder().ordinal());
+        putTeam(buffer, match.getHomeTeam(), homeName);
+        putTeam(buffer, match.getAwayTeam(), awayName);
+    }
+
+    private static void putTeam(ByteBuffer buffer, Team team, byte[] name) {
+        putUuid(buffer, team.getUuid());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+    }
+
+    private static Match getMatch(ByteBuffer buffer) {
+        UUID matchUuid = getUuid(buffer);
+        long startSequence = buffer.getLong();
+        long score = buffer.getLong();
+        SummaryOrder summaryOrder = SUMMARY_ORDERS[buffer.get()];
+        Team homeTeam = getTeam(buffer);
+        Team awayTeam = getTeam(buffer);
+        return new Match(matchUuid, startSequence, homeTeam, awayTeam, score, summaryOrder);
+    }
+
+    private static Team getTeam(ByteBuffer buffer) {
+        UUID teamUuid = getUuid(buffer);
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        return new Team(teamUuid, new String(name, StandardCharsets.UTF_8));
+    }
+
+    private static void writeMatch(DataOutputStream out, Match match) throws IOException {
+        out.writeLong(match.getMatchUuid().getMostSignificantBits());
+        out.writeLong(match.getMatchUuid().getLeastSignificantBits());
+        out.writeLong(match.getStartSequence());
+        out.writeLong(match.getScore());
+        out.writeByte(match.getSummaryOrder().ordinal());
+        writeTeam(out, match.getHomeTeam());
+        writeTeam(out, match.getAwayTeam());
+    }
+
+    private static void writeTeam(DataOutputStream out, Team team) throws IOException {
+        byte[] name = teamName(team);
+        out.writeLong(team.getUuid().getMostSignificantBits());
+        out.writeLong(team.getUuid().getLeastSignificantBits());
+        out.writeShort(name.length);
+        out.write(name);
+    }
+
+    private static Match readMatch(DataInputStream in) throws IOException {
+        UUID matchUuid = new UUID(in.readLong(), in.readLong());
+        long startSequence = in.readLong();
+        long score = in.readLong();
+        SummaryOrder summaryOrder = SUMMARY_ORDERS[in.readUnsignedByte()];
+        Team homeTeam = readTeam(in);
+        Team awayTeam = readTeam(in);
+        return new Match(matchUuid, startSequence, homeTeam, awayTeam, score, summaryOrder);
+    }
+
+    private static Team readTeam(DataInputStream in) throws IOException {
+        UUID teamUuid = new UUID(in.readLong(), in.readLong());
+        byte[] name = new byte[in.readUnsignedShort()];
+        in.readFully(name);
+        return new Team(teamUuid, new String(name, StandardCharsets.UTF_8));
+    }
+}
@@ -1,10 +1,21 @@
 package football.board.storage;
 
 import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.Team;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -17,38 +28,97 @@ public class FootballWorldScoreBoardStorage implements Storage {
      */
     private final List<Match> matchList;
 
+    /**
+     * The teams currently playing in one of the stored matches.
+     */
+    private final TeamOccupancyIndex teamOccupancy;
+
+    /**
+     * The version of the storage, incremented on every change.
+     */
+    private long version;
+
     /**
      * Constructs a new FootballWorldScoreBoardStorage with an initial empty list of matches.
      */
     public FootballWorldScoreBoardStorage() {
         this.matchList = new LinkedList<>();
+        this.teamOccupancy = new TeamOccupancyIndex();
     }
 
     /**
-     * Adds a new match to the storage.
+     * Adds a new match to the storage if neither of its teams is already playing, inserting it at its place in the
+     * summary order found by a binary search.
      *
      * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        if (!teamOccupancy.reserve(matchToAdd)) {
+            return false;
+        }
+        int position = Collections.binarySearch(matchList, matchToAdd, Match.getSortComparator());
+        matchList.add(position < 0 ? -position - 1 : position, matchToAdd);
+        version++;
+        return true;
+    }
+
+    /**
+     * Replaces the match with a copy carrying the new scores and sorts the storage based on the total score.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
      */
     @Override
-    public void addMatch(Match matchToAdd) {
-        matchList.add(matchToAdd);
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        ListIterator<Match> iterator = matchList.listIterator();
+        while (iterator.hasNext()) {
+            Match match = iterator.next();
+            if (match.getMatchUuid().equals(matchUUID)) {
+                iterator.set(match.withScore(homeScore, awayScore));
+                matchList.sort(Match.getSortComparator());
+                version++;
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Updates the provided match and sorts the storage based on the total score.
+     * Applies a batch of score updates in a single pass over the list and sorts the storage once.
+     * When a match is updated several times in the batch, the last update wins.
      *
-     * @param updatedMatch The match to be updated.
+     * @param updates The score updates to apply.
+     * @return For every update, at the same position, {@code true} if its match was found and updated.
      */
     @Override
-    public void updateAndSort(Match updatedMatch) {
-        matchList.stream()
-                .filter(match -> match.getMatchUuid().equals(updatedMatch.getMatchUuid()))
-                .findFirst()
-                .ifPresent(match -> {
-                    match.setHomeScore(updatedMatch.getHomeScore());
-                    match.setAwayScore(updatedMatch.getAwayScore());
-                });
-        matchList.sort(Match.getSortComparator());
+    public boolean[] updateScores(List<ScoreUpdate> updates) {
+        Map<UUID, ScoreUpdate> latestUpdates = new HashMap<>();
+        for (ScoreUpdate update : updates) {
+            latestUpdates.put(update.getMatchUuid(), update);
+        }
+        Set<UUID> updatedMatches = new HashSet<>();
+        ListIterator<Match> iterator = matchList.listIterator();
+        while (iterator.hasNext()) {
+            Match match = iterator.next();
+            ScoreUpdate update = latestUpdates.get(match.getMatchUuid());
+            if (update != null) {
+                iterator.set(match.withScore(update.getHomeScore(), update.getAwayScore()));
+                updatedMatches.add(match.getMatchUuid());
+            }
+        }
+        if (!updatedMatches.isEmpty()) {
+            matchList.sort(Match.getSortComparator());
+            version++;
+        }
+        boolean[] applied = new boolean[updates.size()];
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = updatedMatches.contains(updates.get(i).getMatchUuid());
+        }
+        return applied;
     }
 
     /**
@@ -59,7 +129,46 @@ public class FootballWorldScoreBoardStorage implements Storage {
      */
     @Override
     public boolean removeMatch(UUID uuidToRemove) {
-        return matchList.removeIf(match -> match.getMatchUuid().equals(uuidToRemove));
+        Iterator<Match> iterator = matchList.iterator();
+        while (iterator.hasNext()) {
+            Match match = iterator.next();
+            if (match.getMatchUuid().equals(uuidToRemove)) {
+                iterator.remove();
+                teamOccupancy.release(match);
+                version++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a match in the storage by its UUID by scanning the list of matches.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if it is not found.
+     */
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        return matchList.stream()
+                .filter(match -> match.getMatchUuid().equals(matchUUID))
+                .findFirst();
+    }
+
+    /**
+     * Checks if a team is participating in one of the stored matches using the occupancy index.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return teamOccupancy.isOccupied(teamUuid);
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        return teamOccupancy.isPlaying(team);
     }
 
     /**
@@ -71,4 +180,46 @@ public class FootballWorldScoreBoardStorage implements Storage {
     public Collection<Match> getAllMatches() {
         return List.copyOf(matchList);
     }
+
+    /**
+     * Retrieves a copy of the first matches of the list, without copying the rest.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return SummaryPages.top(matchList, n);
+    }
+
+    /**
+     * Counts the other matches sorting before a match state, walking the ordered list only up to its position.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    @Override
+    public int countBefore(Match state) {
+        Comparator<Match> order = Match.getSortComparator();
+        int count = 0;
+        for (Match match : matchList) {
+            if (order.compare(match, state) >= 0) {
+                break;
+            }
+            if (!match.getMatchUuid().equals(state.getMatchUuid())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the version of the storage, incremented on every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,122 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Base class for storage decorators. Every operation is forwarded to the wrapped storage;
+ * subclasses override the operations they add behaviour to. {@link #updateAndSort(Match)} is not forwarded
+ * but goes through {@link #updateScore(UUID, int, int)}, so decorators only need to override the latter.
+ */
+public abstract class ForwardingStorage implements Storage {
+
+    /**
+     * The wrapped storage.
+     */
+    protected final Storage delegate;
+
+    protected ForwardingStorage(Storage delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        return delegate.addMatch(matchToAdd);
+    }
+
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        return delegate.updateScore(matchUUID, homeScore, awayScore);
+    }
+
+    @Override
+    public boolean[] updateScores(List<ScoreUpdate> updates) {
+        return delegate.updateScores(updates);
+    }
+
+    @Override
+    public boolean removeMatch(UUID matchUUID) {
+        return delegate.removeMatch(matchUUID);
+    }
+
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        return delegate.findMatch(matchUUID);
+    }
+
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return delegate.isTeamInMatch(teamUuid);
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        return delegate.isTeamInMatch(team);
+    }
+
+    @Override
+    public Collection<Match> getAllMatches() {
+        return delegate.getAllMatches();
+    }
+
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return delegate.getTopMatches(n);
+    }
+
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        return delegate.getSummaryPage(cursor, limit);
+    }
+
+    @Override
+    public int countBefore(Match state) {
+        return delegate.countBefore(state);
+    }
+
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        return delegate.getChangesSince(version);
+    }
+
+    @Override
+    public Optional<ScoreHistory> getScoreHistory(UUID matchUuid) {
+        return delegate.getScoreHistory(matchUuid);
+    }
+
+    @Override
+    public Optional<Match> findFinishedMatch(UUID matchUuid) {
+        return delegate.findFinishedMatch(matchUuid);
+    }
+
+    @Override
+    public boolean supportsOptimisticReads() {
+        return delegate.supportsOptimisticReads();
+    }
+
+    @Override
+    public boolean supportsConcurrentWrites() {
+        return delegate.supportsConcurrentWrites();
+    }
+}
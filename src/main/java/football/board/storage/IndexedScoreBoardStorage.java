@@ -0,0 +1,261 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A storage class that keeps a hash index of the matches by UUID next to the ordered list,
+ * so that looking up, updating and removing a match does not require scanning every match.
+ * A match is found in the list by a binary search on its summary order; adding, moving or removing it then only
+ * shifts the array behind its position.
+ */
+public class IndexedScoreBoardStorage implements Storage {
+
+    /**
+     * The matches stored in the scoreboard, indexed by their UUID.
+     */
+    private final Map<UUID, Match> matchIndex;
+
+    /**
+     * The matches stored in the scoreboard, in summary order.
+     */
+    private final List<Match> matchList;
+
+    /**
+     * The teams currently playing in one of the stored matches.
+     */
+    private final TeamOccupancyIndex teamOccupancy;
+
+    /**
+     * The version of the storage, incremented on every change.
+     */
+    private long version;
+
+    /**
+     * Constructs a new IndexedScoreBoardStorage with an empty index and list of matches.
+     */
+    public IndexedScoreBoardStorage() {
+        this.matchIndex = new HashMap<>();
+        this.matchList = new ArrayList<>();
+        this.teamOccupancy = new TeamOccupancyIndex();
+    }
+
+    /**
+     * Adds a new match to the index and at its position in the ordered list if neither of its teams is already playing.
+     *
+     * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        if (!teamOccupancy.reserve(matchToAdd)) {
+            return false;
+        }
+        matchIndex.put(matchToAdd.getMatchUuid(), matchToAdd);
+        int position = Collections.binarySearch(matchList, matchToAdd, Match.getSortComparator());
+        matchList.add(position < 0 ? -position - 1 : position, matchToAdd);
+        version++;
+        return true;
+    }
+
+    /**
+     * Replaces the match with a copy carrying the new scores at its new position in the summary order.
+     * The match is located through the index and a binary search, removed, and the copy inserted at
+     * the position found by a second binary search.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
+     */
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        Match match = matchIndex.get(matchUUID);
+        if (match == null) {
+            return false;
+        }
+        Match updated = match.withScore(homeScore, awayScore);
+        matchIndex.put(matchUUID, updated);
+        move(match, updated);
+        version++;
+        return true;
+    }
+
+    /**
+     * Applies a batch of score updates through the index. Every updated match is moved like in
+     * {@link #updateScore(UUID, int, int)}; a batch updating more than a sixteenth of the matches instead replaces
+     * them in place and sorts the nearly ordered list once. When a match is updated several times in the batch,
+     * the last update wins.
+     *
+     * @param updates The score updates to apply.
+     * @return For every update, at the same position, {@code true} if its match was found and updated.
+     */
+    @Override
+    public boolean[] updateScores(List<ScoreUpdate> updates) {
+        Map<UUID, ScoreUpdate> latestUpdates = new HashMap<>();
+        for (ScoreUpdate update : updates) {
+            latestUpdates.put(update.getMatchUuid(), update);
+        }
+        List<Match> updatedMatches = new ArrayList<>(latestUpdates.size());
+        for (ScoreUpdate update : latestUpdates.values()) {
+            Match match = matchIndex.get(update.getMatchUuid());
+            if (match != null) {
+                updatedMatches.add(match.withScore(update.getHomeScore(), update.getAwayScore()));
+            }
+        }
+        boolean resort = updatedMatches.size() > matchList.size() >> 4;
+        int[] positions = new int[updatedMatches.size()];
+        for (int i = 0; resort && i < positions.length; i++) {
+            Match previous = matchIndex.get(updatedMatches.get(i).getMatchUuid());
+            positions[i] = Collections.binarySearch(matchList, previous, Match.getSortComparator());
+        }
+        for (int i = 0; i < positions.length; i++) {
+            Match updated = updatedMatches.get(i);
+            Match previous = matchIndex.put(updated.getMatchUuid(), updated);
+            if (resort) {
+                matchList.set(positions[i], updated);
+            } else {
+                move(previous, updated);
+            }
+        }
+        if (resort) {
+            matchList.sort(Match.getSortComparator());
+        }
+        if (!updatedMatches.isEmpty()) {
+            version++;
+        }
+        boolean[] applied = new boolean[updates.size()];
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = matchIndex.containsKey(updates.get(i).getMatchUuid());
+        }
+        return applied;
+    }
+
+    /**
+     * Removes a match from the index and from the ordered list based on its UUID.
+     *
+     * @param uuidToRemove The UUID of the match to be removed.
+     * @return {@code true} if the match was found and removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeMatch(UUID uuidToRemove) {
+        Match removed = matchIndex.remove(uuidToRemove);
+        if (removed == null) {
+            return false;
+        }
+        matchList.remove(Collections.binarySearch(matchList, removed, Match.getSortComparator()));
+        teamOccupancy.release(removed);
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes the previous state of a match from the ordered list and inserts its new state at its position.
+     */
+    private void move(Match previous, Match updated) {
+        Comparator<Match> order = Match.getSortComparator();
+        matchList.remove(Collections.binarySearch(matchList, previous, order));
+        int position = Collections.binarySearch(matchList, updated, order);
+        matchList.add(position < 0 ? -position - 1 : position, updated);
+    }
+
+    /**
+     * Finds a match in the storage by its UUID using the index.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if it is not found.
+     */
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        return Optional.ofNullable(matchIndex.get(matchUUID));
+    }
+
+    /**
+     * Checks if a team is participating in one of the stored matches using the occupancy index.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return teamOccupancy.isOccupied(teamUuid);
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        return teamOccupancy.isPlaying(team);
+    }
+
+    /**
+     * Retrieves an immutable copy of the collection of matches in summary order.
+     *
+     * @return An immutable copy of the collection of matches.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        return List.copyOf(matchList);
+    }
+
+    /**
+     * Retrieves a copy of the first matches of the ordered list.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return SummaryPages.top(matchList, n);
+    }
+
+    /**
+     * Retrieves a page of the ordered list, located by binary search. Only the matches of the page are copied.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        return SummaryPages.page(matchList, cursor, limit);
+    }
+
+    /**
+     * Counts the other matches sorting before a match state with a binary search of the ordered list.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    @Override
+    public int countBefore(Match state) {
+        int position = Collections.binarySearch(matchList, state, Match.getSortComparator());
+        int count = position >= 0 ? position : -position - 1;
+        Match stored = matchIndex.get(state.getMatchUuid());
+        if (stored != null && Match.getSortComparator().compare(stored, state) < 0) {
+            count--;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the version of the storage, incremented on every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
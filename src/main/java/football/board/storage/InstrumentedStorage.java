@@ -0,0 +1,169 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A storage decorator timing every operation of the wrapped storage into {@link BoardMetrics}, under the
+ * {@code STORAGE_*} operations. It also counts the stored matches and reports them as the board size.
+ */
+public class InstrumentedStorage extends ForwardingStorage {
+
+    private final BoardMetrics metrics;
+
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructs the decorator and sets the board size gauge of the metrics.
+     *
+     * @param delegate The storage to time.
+     * @param metrics  The metrics to record into.
+     */
+    public InstrumentedStorage(Storage delegate, BoardMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+        this.size.add(delegate.getAllMatches().size());
+        metrics.setBoardSizeGauge(size::sum);
+    }
+
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        long start = metrics.start();
+        try {
+            boolean added = delegate.addMatch(matchToAdd);
+            if (added) {
+                size.increment();
+            }
+            return added;
+        } finally {
+            metrics.record(Operation.STORAGE_ADD_MATCH, start);
+        }
+    }
+
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        long start = metrics.start();
+        try {
+            return delegate.updateScore(matchUUID, homeScore, awayScore);
+        } finally {
+            metrics.record(Operation.STORAGE_UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public boolean[] updateScores(List<ScoreUpdate> updates) {
+        long start = metrics.start();
+        try {
+            return delegate.updateScores(updates);
+        } finally {
+            metrics.record(Operation.STORAGE_UPDATE_SCORES, start);
+        }
+    }
+
+    @Override
+    public boolean removeMatch(UUID matchUUID) {
+        long start = metrics.start();
+        try {
+            boolean removed = delegate.removeMatch(matchUUID);
+            if (removed) {
+                size.decrement();
+            }
+            return removed;
+        } finally {
+            metrics.record(Operation.STORAGE_REMOVE_MATCH, start);
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        long start = metrics.start();
+        try {
+            return delegate.findMatch(matchUUID);
+        } finally {
+            metrics.record(Operation.STORAGE_FIND_MATCH, start);
+        }
+    }
+
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        long start = metrics.start();
+        try {
+            return delegate.isTeamInMatch(teamUuid);
+        } finally {
+            metrics.record(Operation.STORAGE_TEAM_IN_MATCH, start);
+        }
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        long start = metrics.start();
+        try {
+            return delegate.isTeamInMatch(team);
+        } finally {
+            metrics.record(Operation.STORAGE_TEAM_IN_MATCH, start);
+        }
+    }
+
+    @Override
+    public Collection<Match> getAllMatches() {
+        long start = metrics.start();
+        try {
+            return delegate.getAllMatches();
+        } finally {
+            metrics.record(Operation.STORAGE_ALL_MATCHES, start);
+        }
+    }
+
+    @Override
+    public List<Match> getTopMatches(int n) {
+        long start = metrics.start();
+        try {
+            return delegate.getTopMatches(n);
+        } finally {
+            metrics.record(Operation.STORAGE_TOP_MATCHES, start);
+        }
+    }
+
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        long start = metrics.start();
+        try {
+            return delegate.getSummaryPage(cursor, limit);
+        } finally {
+            metrics.record(Operation.STORAGE_SUMMARY_PAGE, start);
+        }
+    }
+
+    @Override
+    public SummarySnapshot getSnapshot() {
+        long start = metrics.start();
+        try {
+            return delegate.getSnapshot();
+        } finally {
+            metrics.record(Operation.STORAGE_SNAPSHOT, start);
+        }
+    }
+
+    @Override
+    public SummaryDelta getChangesSince(long version) {
+        long start = metrics.start();
+        try {
+            return delegate.getChangesSince(version);
+        } finally {
+            metrics.record(Operation.STORAGE_CHANGES, start);
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * A storage class keeping the matches outside the Java heap, for boards with hundreds of thousands of matches.
+ * <p>
+ * Every match is a fixed-width record in a direct {@link ByteBuffer}: the match and team UUIDs as pairs of longs,
+ * the start sequence, the packed {@link Score}, both team names inline and the {@link SummaryOrder}. The match and
+ * team lookups are {@link OffHeapUuidIndex off-heap hash indexes}, so a stored match costs no heap objects at all; {@link Match}
+ * and {@link Team} instances are only created as views when matches are read, and are therefore not the instances
+ * that were added. Team names longer than {@value #NAME_BYTES} bytes of UTF-8 are kept on the heap.
+ * <p>
+ * A score update rewrites one long in place. There is no order index: the summary order is computed when the matches
+ * are read, from the order key of each record. {@link #getAllMatches()} creates a view of every match and sorts them.
+ * {@link #getTopMatches(int)} and {@link #getSummaryPage(SummaryCursor, int)} scan the records with a bounded heap
+ * of record numbers, O(n log k), and create views of the k returned matches only; {@link #countBefore(Match)}
+ * counts in one scan without creating views. Every summary read is therefore O(n) in the number of matches.
+ * This class is not thread-safe.
+ */
+public class OffHeapScoreBoardStorage implements Storage {
+
+    /**
+     * The longest team name kept inline, in bytes of UTF-8, after a one-byte length.
+     */
+    static final int NAME_BYTES = 46;
+
+    private static final int MATCH_UUID_OFFSET = 0;
+
+    private static final int START_SEQUENCE_OFFSET = 16;
+
+    private static final int SCORE_OFFSET = 24;
+
+    private static final int HOME_TEAM_OFFSET = 32;
+
+    private static final int AWAY_TEAM_OFFSET = 48;
+
+    private static final int HOME_NAME_OFFSET = 64;
+
+    private static final int AWAY_NAME_OFFSET = HOME_NAME_OFFSET + 1 + NAME_BYTES;
+
+    private static final int SUMMARY_ORDER_OFFSET = AWAY_NAME_OFFSET + 1 + NAME_BYTES;
+
+    /**
+     * The summary order byte padded to a record of 160 bytes.
+     */
+    private static final int RECORD_SIZE = SUMMARY_ORDER_OFFSET + 2;
+
+    private static final SummaryOrder[] SUMMARY_ORDERS = SummaryOrder.values();
+
+    /**
+     * The name length marking a team name kept in {@link #longNames}.
+     */
+    private static final int LONG_NAME = 0xFF;
+
+    /**
+     * The start sequence marking a free record; its score field holds the next free record.
+     */
+    private static final long FREE = Long.MIN_VALUE;
+
+    private ByteBuffer records;
+
+    /**
+     * The number of records ever used; records below it are either live or free.
+     */
+    private int highWater;
+
+    /**
+     * The first free record below {@link #highWater}, or -1.
+     */
+    private int firstFree = -1;
+
+    private final OffHeapUuidIndex matchIndex;
+
+    /**
+     * The record of the match each playing team is in.
+     */
+    private final OffHeapUuidIndex teamIndex;
+
+    /**
+     * Team names too long for their record, by {@code record * 2} (home) or {@code record * 2 + 1} (away).
+     */
+    private final Map<Integer, String> longNames = new HashMap<>();
+
+    /**
+     * The version of the storage, incremented on every change.
+     */
+    private long version;
+
+    /**
+     * Constructs a new OffHeapScoreBoardStorage with room for 1024 matches; it grows as needed.
+     */
+    public OffHeapScoreBoardStorage() {
+        this(1024);
+    }
+
+    /**
+     * Constructs a new OffHeapScoreBoardStorage with room for the expected number of matches.
+     *
+     * @param expectedMatches The number of matches to allocate the records and indexes for.
+     */
+    public OffHeapScoreBoardStorage(int expectedMatches) {
+        int capacity = Math.max(16, expectedMatches);
+        this.records = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, RECORD_SIZE));
+        this.matchIndex = new OffHeapUuidIndex(capacity);
+        this.teamIndex = new OffHeapUuidIndex(capacity * 2);
+    }
+
+    /**
+     * Writes the match into a free record if neither of its teams is already playing.
+     *
+     * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        UUID homeTeam = matchToAdd.getHomeTeam().getUuid();
+        UUID awayTeam = matchToAdd.getAwayTeam().getUuid();
+        if (isTeamInMatch(homeTeam) || isTeamInMatch(awayTeam)) {
+            return false;
+        }
+        int record = allocateRecord();
+        int offset = record * RECORD_SIZE;
+        putUuid(offset + MATCH_UUID_OFFSET, matchToAdd.getMatchUuid());
+        records.putLong(offset + START_SEQUENCE_OFFSET, matchToAdd.getStartSequence());
+        records.putLong(offset + SCORE_OFFSET, matchToAdd.getScore());
+        putUuid(offset + HOME_TEAM_OFFSET, homeTeam);
+        putUuid(offset + AWAY_TEAM_OFFSET, awayTeam);
+        putName(record, 0, matchToAdd.getHomeTeam().getName());
+        putName(record, 1, matchToAdd.getAwayTeam().getName());
+        records.put(offset + SUMMARY_ORDER_OFFSET, (byte) matchToAdd.getSummaryOrder().ordinal());
+
+        UUID matchUuid = matchToAdd.getMatchUuid();
+        matchIndex.put(matchUuid.getMostSignificantBits(), matchUuid.getLeastSignificantBits(), record);
+        teamIndex.put(homeTeam.getMostSignificantBits(), homeTeam.getLeastSignificantBits(), record);
+        teamIndex.put(awayTeam.getMostSignificantBits(), awayTeam.getLeastSignificantBits(), record);
+        version++;
+        return true;
+    }
+
+    /**
+     * Rewrites the packed score of the match in place.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
+     */
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        int record = recordOf(matchUUID);
+        if (record < 0) {
+            return false;
+        }
+        int offset = record * RECORD_SIZE + SCORE_OFFSET;
+        long score = records.getLong(offset);
+        records.putLong(offset, Score.of(homeScore, awayScore, Score.version(score) + 1));
+        version++;
+        return true;
+    }
+
+    /**
+     * Frees the record of a match and releases its teams.
+     *
+     * @param uuidToRemove The UUID of the match to be removed.
+     * @return {@code true} if the match was found and removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeMatch(UUID uuidToRemove) {
+        int record = recordOf(uuidToRemove);
+        if (record < 0) {
+            return false;
+        }
+        int offset = record * RECORD_SIZE;
+        matchIndex.remove(uuidToRemove.getMostSignificantBits(), uuidToRemove.getLeastSignificantBits());
+        teamIndex.remove(records.getLong(offset + HOME_TEAM_OFFSET), records.getLong(offset + HOME_TEAM_OFFSET + 8));
+        teamIndex.remove(records.getLong(offset + AWAY_TEAM_OFFSET), records.getLong(offset + AWAY_TEAM_OFFSET + 8));
+        longNames.remove(record * 2);
+        longNames.remove(record * 2 + 1);
+        records.putLong(offset + START_SEQUENCE_OFFSET, FREE);
+        records.putLong(offset + SCORE_OFFSET, firstFree);
+        firstFree = record;
+        version++;
+        return true;
+    }
+
+    /**
+     * Finds a match by its UUID and creates a view of its record.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if it is not found.
+     */
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        int record = recordOf(matchUUID);
+        return record < 0 ? Optional.empty() : Optional.of(view(record));
+    }
+
+    /**
+     * Checks if a team is participating in one of the stored matches using the off-heap team index.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return teamUuid != null && teamIndex.get(teamUuid.getMostSignificantBits(), teamUuid.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * Creates views of all stored matches and sorts them into summary order.
+     *
+     * @return An immutable list of the matches in summary order.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        List<Match> matches = new ArrayList<>(matchIndex.size());
+        for (int record = 0; record < highWater; record++) {
+            if (isLive(record)) {
+                matches.add(view(record));
+            }
+        }
+        matches.sort(Match.getSortComparator());
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Selects the first matches in summary order with a bounded heap of record numbers, creating views of the
+     * selected matches only.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return views(selectAfter(null, n));
+    }
+
+    /**
+     * Selects the matches after the cursor like {@link #getTopMatches(int)}, one more than the page to tell whether
+     * a next page exists.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        if (limit <= 0) {
+            return new SummaryPage(List.of(), null);
+        }
+        int[] selected = selectAfter(cursor, limit == Integer.MAX_VALUE ? limit : limit + 1);
+        boolean more = selected.length > limit;
+        List<Match> matches = views(more ? Arrays.copyOf(selected, limit) : selected);
+        return new SummaryPage(matches, more ? SummaryCursor.after(matches.get(matches.size() - 1)) : null);
+    }
+
+    /**
+     * Counts the other matches sorting before a match state by comparing the order key of every record, without
+     * creating views.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    @Override
+    public int countBefore(Match state) {
+        long orderKey = state.getOrderKey();
+        UUID matchUuid = state.getMatchUuid();
+        int self = recordOf(matchUuid);
+        int count = 0;
+        for (int record = 0; record < highWater; record++) {
+            if (record != self && isLive(record) && compare(record, orderKey, matchUuid) < 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the version of the storage, incremented on every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Finds the first live records in summary order that sort after the cursor.
+     *
+     * @return At most {@code n} record numbers in summary order.
+     */
+    private int[] selectAfter(SummaryCursor cursor, int n) {
+        if (n <= 0) {
+            return new int[0];
+        }
+        Comparator<Integer> order = this::compareRecords;
+        PriorityQueue<Integer> lowest = new PriorityQueue<>(Math.min(n, 1024), order.reversed());
+        for (int record = 0; record < highWater; record++) {
+            if (!isLive(record)
+                    || cursor != null && compare(record, cursor.getOrderKey(), cursor.getMatchUuid()) <= 0) {
+                continue;
+            }
+            if (lowest.size() < n) {
+                lowest.add(record);
+            } else if (order.compare(record, lowest.peek()) < 0) {
+                lowest.poll();
+                lowest.add(record);
+            }
+        }
+        int[] selected = new int[lowest.size()];
+        for (int i = selected.length - 1; i >= 0; i--) {
+            selected[i] = lowest.poll();
+        }
+        return selected;
+    }
+
+    private List<Match> views(int[] selected) {
+        List<Match> matches = new ArrayList<>(selected.length);
+        for (int record : selected) {
+            matches.add(view(record));
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private boolean isLive(int record) {
+        return records.getLong(record * RECORD_SIZE + START_SEQUENCE_OFFSET) != FREE;
+    }
+
+    private long orderKey(int record) {
+        int offset = record * RECORD_SIZE;
+        return SUMMARY_ORDERS[records.get(offset + SUMMARY_ORDER_OFFSET)]
+                .orderKey(records.getLong(offset + SCORE_OFFSET), records.getLong(offset + START_SEQUENCE_OFFSET));
+    }
+
+    /**
+     * Compares a record with a match state like {@link Match#getSortComparator()}; the match UUID of the record is
+     * only read when the order keys are equal.
+     */
+    private int compare(int record, long orderKey, UUID matchUuid) {
+        int result = Long.compare(orderKey(record), orderKey);
+        return result != 0 ? result : getUuid(record * RECORD_SIZE + MATCH_UUID_OFFSET).compareTo(matchUuid);
+    }
+
+    private int compareRecords(int record, int other) {
+        int result = Long.compare(orderKey(record), orderKey(other));
+        return result != 0 ? result : getUuid(record * RECORD_SIZE + MATCH_UUID_OFFSET)
+                .compareTo(getUuid(other * RECORD_SIZE + MATCH_UUID_OFFSET));
+    }
+
+    /**
+     * Returns the number of team names kept on the heap.
+     */
+    int getLongNameCount() {
+        return longNames.size();
+    }
+
+    private int recordOf(UUID matchUuid) {
+        if (matchUuid == null) {
+            return -1;
+        }
+        return matchIndex.get(matchUuid.getMostSignificantBits(), matchUuid.getLeastSignificantBits());
+    }
+
+    private int allocateRecord() {
+        if (firstFree >= 0) {
+            int record = firstFree;
+            firstFree = (int) records.getLong(record * RECORD_SIZE + SCORE_OFFSET);
+            return record;
+        }
+        if ((highWater + 1L) * RECORD_SIZE > records.capacity()) {
+            long grown = Math.min((long) records.capacity() * 2, (long) Integer.MAX_VALUE / RECORD_SIZE * RECORD_SIZE);
+            if (grown <= records.capacity()) {
+                throw new IllegalStateException("Off-heap storage cannot hold more than " + highWater + " matches.");
+            }
+            ByteBuffer larger = ByteBuffer.allocateDirect((int) grown);
+            records.clear();
+            larger.put(records);
+            records = larger;
+        }
+        return highWater++;
+    }
+
+    private Match view(int record) {
+        int offset = record * RECORD_SIZE;
+        return new Match(getUuid(offset + MATCH_UUID_OFFSET),
+                records.getLong(offset + START_SEQUENCE_OFFSET),
+                new Team(getUuid(offset + HOME_TEAM_OFFSET), getName(record, 0)),
+                new Team(getUuid(offset + AWAY_TEAM_OFFSET), getName(record, 1)),
+                records.getLong(offset + SCORE_OFFSET),
+                SUMMARY_ORDERS[records.get(offset + SUMMARY_ORDER_OFFSET)]);
+    }
+
+    private void putUuid(int offset, UUID uuid) {
+        records.putLong(offset, uuid.getMostSignificantBits());
+        records.putLong(offset + 8, uuid.getLeastSignificantBits());
+    }
+
+    private UUID getUuid(int offset) {
+        return new UUID(records.getLong(offset), records.getLong(offset + 8));
+    }
+
+    private void putName(int record, int side, String name) {
+        int offset = record * RECORD_SIZE + (side == 0 ? HOME_NAME_OFFSET : AWAY_NAME_OFFSET);
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > NAME_BYTES) {
+            records.put(offset, (byte) LONG_NAME);
+            longNames.put(record * 2 + side, name);
+            return;
+        }
+        records.put(offset, (byte) bytes.length);
+        records.put(offset + 1, bytes);
+    }
+
+    private String getName(int record, int side) {
+        int offset = record * RECORD_SIZE + (side == 0 ? HOME_NAME_OFFSET : AWAY_NAME_OFFSET);
+        int length = Byte.toUnsignedInt(records.get(offset));
+        if (length == LONG_NAME) {
+            return longNames.get(record * 2 + side);
+        }
+        byte[] bytes = new byte[length];
+        records.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
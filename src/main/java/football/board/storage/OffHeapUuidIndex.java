@@ -0,0 +1,150 @@
+package football.board.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An open-addressing hash map from a UUID, given as its two longs, to a non-negative int, kept in a direct
+ * {@link ByteBuffer} so that it holds no objects per entry. Collisions are resolved by linear probing and
+ * removal shifts the following entries back, so no tombstones accumulate.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class OffHeapUuidIndex {
+
+    /**
+     * Most significant bits, least significant bits, value plus one (0 marks an empty slot), padding.
+     */
+    private static final int ENTRY_SIZE = 24;
+
+    private static final int VALUE_OFFSET = 16;
+
+    private ByteBuffer table;
+
+    private int mask;
+
+    private int size;
+
+    OffHeapUuidIndex(int expectedSize) {
+        int capacity = 16;
+        while (capacity * 3L / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @return The value, or -1 if the key is absent.
+     */
+    int get(long msb, long lsb) {
+        int slot = find(msb, lsb);
+        return slot < 0 ? -1 : table.getInt(slot * ENTRY_SIZE + VALUE_OFFSET) - 1;
+    }
+
+    /**
+     * Associates a value with a key, replacing a previous value.
+     */
+    void put(long msb, long lsb, int value) {
+        if ((size + 1) > (mask + 1) * 3L / 4) {
+            resize();
+        }
+        int slot = home(msb, lsb);
+        while (true) {
+            int offset = slot * ENTRY_SIZE;
+            if (table.getInt(offset + VALUE_OFFSET) == 0) {
+                table.putLong(offset, msb);
+                table.putLong(offset + 8, lsb);
+                table.putInt(offset + VALUE_OFFSET, value + 1);
+                size++;
+                return;
+            }
+            if (table.getLong(offset) == msb && table.getLong(offset + 8) == lsb) {
+                table.putInt(offset + VALUE_OFFSET, value + 1);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @return {@code true} if the key was present.
+     */
+    boolean remove(long msb, long lsb) {
+        int gap = find(msb, lsb);
+        if (gap < 0) {
+            return false;
+        }
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int offset = slot * ENTRY_SIZE;
+            int value = table.getInt(offset + VALUE_OFFSET);
+            if (value == 0) {
+                break;
+            }
+            int home = home(table.getLong(offset), table.getLong(offset + 8));
+            boolean canMove = slot > gap ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (canMove) {
+                int gapOffset = gap * ENTRY_SIZE;
+                table.putLong(gapOffset, table.getLong(offset));
+                table.putLong(gapOffset + 8, table.getLong(offset + 8));
+                table.putInt(gapOffset + VALUE_OFFSET, value);
+                gap = slot;
+            }
+        }
+        table.putInt(gap * ENTRY_SIZE + VALUE_OFFSET, 0);
+        size--;
+        return true;
+    }
+
+    private int find(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        while (true) {
+            int offset = slot * ENTRY_SIZE;
+            if (table.getInt(offset + VALUE_OFFSET) == 0) {
+                return -1;
+            }
+            if (table.getLong(offset) == msb && table.getLong(offset + 8) == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int home(long msb, long lsb) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private void resize() {
+        ByteBuffer old = table;
+        int oldCapacity = mask + 1;
+        allocate(oldCapacity << 1);
+        size = 0;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int offset = slot * ENTRY_SIZE;
+            int value = old.getInt(offset + VALUE_OFFSET);
+            if (value != 0) {
+                put(old.getLong(offset), old.getLong(offset + 8), value - 1);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if ((long) capacity * ENTRY_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap index cannot grow beyond " + (capacity >> 1) + " slots.");
+        }
+        table = ByteBuffer.allocateDirect(capacity * ENTRY_SIZE);
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,303 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * A storage class that keeps the matches in an ordered tree keyed on the order key and UUID of each match.
+ * A score update removes and re-inserts only the changed match, so it costs O(log n) instead of a full sort.
+ * The summary order is the same as {@link Match#getSortComparator()}.
+ * <p>
+ * Constructed for optimistic reads, the tree is a skip list instead, so the summary reads never fail or loop while
+ * a single writer changes the storage. Writers still have to be serialized.
+ * <p>
+ * Once {@link #countBefore(Match)} is first called, a {@link RankIndex} answers it in O(log n) instead of counting
+ * the head of the tree, and from then on every change also re-indexes its match.
+ */
+public class OrderedScoreBoardStorage implements Storage {
+
+    /**
+     * The sort keys of the stored matches, indexed by match UUID.
+     */
+    private final Map<UUID, SortKey> matchIndex;
+
+    /**
+     * The sort keys of the stored matches, in summary order. Its size is taken from the index, since counting
+     * a skip list is linear.
+     */
+    private final NavigableSet<SortKey> orderedMatches;
+
+    /**
+     * The teams currently playing in one of the stored matches.
+     */
+    private final TeamOccupancyIndex teamOccupancy;
+
+    /**
+     * The version of the storage, incremented on every change.
+     */
+    private long version;
+
+    /**
+     * Whether the tree is a skip list tolerating readers concurrent to the writer.
+     */
+    private final boolean optimisticReads;
+
+    /**
+     * The order-statistic index of the matches, or {@code null} until a rank is first asked for.
+     */
+    private RankIndex ranks;
+
+    /**
+     * Constructs a new OrderedScoreBoardStorage with no matches.
+     */
+    public OrderedScoreBoardStorage() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new OrderedScoreBoardStorage with no matches.
+     *
+     * @param optimisticReads Whether to keep the matches in a skip list so the summary can be read while a writer
+     *                        changes it, at about 1.5 times the cost of a score update.
+     */
+    public OrderedScoreBoardStorage(boolean optimisticReads) {
+        this.matchIndex = new HashMap<>();
+        this.orderedMatches = optimisticReads ? new ConcurrentSkipListSet<>() : new TreeSet<>();
+        this.teamOccupancy = new TeamOccupancyIndex();
+        this.optimisticReads = optimisticReads;
+    }
+
+    /**
+     * Adds a new match to the storage at its position in the summary order if neither of its teams is already playing.
+     *
+     * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public boolean addMatch(Match matchToAdd) {
+        if (!teamOccupancy.reserve(matchToAdd)) {
+            return false;
+        }
+        SortKey key = new SortKey(matchToAdd);
+        SortKey previous = matchIndex.put(matchToAdd.getMatchUuid(), key);
+        if (previous != null) {
+            orderedMatches.remove(previous);
+        }
+        orderedMatches.add(key);
+        if (ranks != null) {
+            ranks.put(matchToAdd);
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * Replaces the match with a copy carrying the new scores and moves it to its new position in the summary order.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
+     */
+    @Override
+    public boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        SortKey key = matchIndex.get(matchUUID);
+        if (key == null) {
+            return false;
+        }
+        orderedMatches.remove(key);
+        SortKey updatedKey = new SortKey(key.match.withScore(homeScore, awayScore));
+        matchIndex.put(matchUUID, updatedKey);
+        orderedMatches.add(updatedKey);
+        if (ranks != null) {
+            ranks.put(updatedKey.match);
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes a match from the storage based on its UUID.
+     *
+     * @param uuidToRemove The UUID of the match to be removed.
+     * @return {@code true} if the match was found and removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeMatch(UUID uuidToRemove) {
+        SortKey key = matchIndex.remove(uuidToRemove);
+        if (key == null) {
+            return false;
+        }
+        orderedMatches.remove(key);
+        if (ranks != null) {
+            ranks.remove(uuidToRemove);
+        }
+        teamOccupancy.release(key.match);
+        version++;
+        return true;
+    }
+
+    /**
+     * Finds a match in the storage by its UUID using the index.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if it is not found.
+     */
+    @Override
+    public Optional<Match> findMatch(UUID matchUUID) {
+        SortKey key = matchIndex.get(matchUUID);
+        return key == null ? Optional.empty() : Optional.of(key.match);
+    }
+
+    /**
+     * Checks if a team is participating in one of the stored matches using the occupancy index.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    @Override
+    public boolean isTeamInMatch(UUID teamUuid) {
+        return teamOccupancy.isOccupied(teamUuid);
+    }
+
+    @Override
+    public boolean isTeamInMatch(Team team) {
+        return teamOccupancy.isPlaying(team);
+    }
+
+    /**
+     * Retrieves an immutable copy of the collection of matches in summary order.
+     *
+     * @return An immutable copy of the collection of matches.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        List<Match> matches = new ArrayList<>(matchIndex.size());
+        for (SortKey key : orderedMatches) {
+            matches.add(key.match);
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Retrieves the first matches of the tree, without copying the rest.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        return collect(orderedMatches.iterator(), n);
+    }
+
+    /**
+     * Retrieves a page of matches. The page start is located in the tree in O(log n)
+     * and only the matches of the page are visited.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        Iterator<SortKey> iterator = cursor == null
+                ? orderedMatches.iterator()
+                : orderedMatches.tailSet(new SortKey(cursor), false).iterator();
+        List<Match> matches = collect(iterator, limit);
+        SummaryCursor nextCursor = iterator.hasNext() && !matches.isEmpty()
+                ? SummaryCursor.after(matches.get(matches.size() - 1))
+                : null;
+        return new SummaryPage(matches, nextCursor);
+    }
+
+    private static List<Match> collect(Iterator<SortKey> iterator, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(limit, 64));
+        while (matches.size() < limit && iterator.hasNext()) {
+            matches.add(iterator.next().match);
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * The summary reads only iterate the tree, which tolerates a concurrent writer if it is a skip list.
+     *
+     * @return Whether the storage was constructed for optimistic reads.
+     */
+    @Override
+    public boolean supportsOptimisticReads() {
+        return optimisticReads;
+    }
+
+    /**
+     * Counts the other matches sorting before a match state in the rank index, building the index on the first
+     * call. Like the changes, it has to be serialized with the writers.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    @Override
+    public int countBefore(Match state) {
+        if (ranks == null) {
+            ranks = new RankIndex();
+            for (SortKey key : matchIndex.values()) {
+                ranks.put(key.match);
+            }
+        }
+        return ranks.countBefore(state);
+    }
+
+    /**
+     * Returns the version of the storage, incremented on every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Position of a match in the summary order, compared on the precomputed order key of the match.
+     */
+    private static final class SortKey implements Comparable<SortKey> {
+        private final long orderKey;
+        private final UUID matchUuid;
+        private final Match match;
+
+        private SortKey(Match match) {
+            this.orderKey = match.getOrderKey();
+            this.matchUuid = match.getMatchUuid();
+            this.match = match;
+        }
+
+        private SortKey(SummaryCursor cursor) {
+            this.orderKey = cursor.getOrderKey();
+            this.matchUuid = cursor.getMatchUuid();
+            this.match = null;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int result = Long.compare(orderKey, other.orderKey);
+            if (result != 0) {
+                return result;
+            }
+            return matchUuid.compareTo(other.matchUuid);
+        }
+    }
+}
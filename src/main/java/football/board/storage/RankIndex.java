@@ -0,0 +1,193 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An order-statistic tree of the current state of every match, in summary order.
+ * <p>
+ * It is a treap keyed on the order key and UUID of each state, whose nodes count the states of their subtree, so
+ * {@link #put(Match)}, {@link #remove(UUID)} and {@link #countBefore(Match)} take O(log n) expected time instead of
+ * walking the matches before the given one. Not thread-safe.
+ */
+final class RankIndex {
+
+    /**
+     * The indexed state of every match, by match UUID.
+     */
+    private final Map<UUID, Match> states = new HashMap<>();
+
+    private Node root;
+
+    /**
+     * The state of the xorshift generator of the node priorities.
+     */
+    private int seed = 0x2545F491;
+
+    /**
+     * Indexes the state of a match, replacing its previous state.
+     *
+     * @param match The current state of the match.
+     */
+    void put(Match match) {
+        Match previous = states.put(match.getMatchUuid(), match);
+        if (previous != null) {
+            root = delete(root, previous.getOrderKey(), previous.getMatchUuid());
+        }
+        root = insert(root, new Node(match.getOrderKey(), match.getMatchUuid(), nextPriority()));
+    }
+
+    /**
+     * Drops the state of a match, if it is indexed.
+     *
+     * @param matchUuid The UUID of the match.
+     */
+    void remove(UUID matchUuid) {
+        Match previous = states.remove(matchUuid);
+        if (previous != null) {
+            root = delete(root, previous.getOrderKey(), matchUuid);
+        }
+    }
+
+    /**
+     * Counts the indexed matches, other than the given one, that sort before a state of a match.
+     *
+     * @param state A state of a match, indexed or not.
+     * @return The number of other matches sorting before the state.
+     */
+    int countBefore(Match state) {
+        long orderKey = state.getOrderKey();
+        UUID matchUuid = state.getMatchUuid();
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(node.orderKey, node.matchUuid, orderKey, matchUuid) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        Match stored = states.get(matchUuid);
+        if (stored != null && compare(stored.getOrderKey(), matchUuid, orderKey, matchUuid) < 0) {
+            count--;
+        }
+        return count;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    private Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (compare(node.orderKey, node.matchUuid, tree.orderKey, tree.matchUuid) < 0) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) {
+                tree = rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) {
+                tree = rotateLeft(tree);
+            }
+        }
+        update(tree);
+        return tree;
+    }
+
+    private Node delete(Node tree, long orderKey, UUID matchUuid) {
+        if (tree == null) {
+            return null;
+        }
+        int comparison = compare(orderKey, matchUuid, tree.orderKey, tree.matchUuid);
+        if (comparison == 0) {
+            return merge(tree.left, tree.right);
+        }
+        if (comparison < 0) {
+            tree.left = delete(tree.left, orderKey, matchUuid);
+        } else {
+            tree.right = delete(tree.right, orderKey, matchUuid);
+        }
+        update(tree);
+        return tree;
+    }
+
+    /**
+     * Joins two trees whose keys are all less, respectively all greater, than the removed node.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node rotateRight(Node tree) {
+        Node left = tree.left;
+        tree.left = left.right;
+        left.right = tree;
+        update(tree);
+        return left;
+    }
+
+    private static Node rotateLeft(Node tree) {
+        Node right = tree.right;
+        tree.right = right.left;
+        right.left = tree;
+        update(tree);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Compares two states like {@link Match#getSortComparator()}.
+     */
+    private static int compare(long orderKey, UUID matchUuid, long otherOrderKey, UUID otherMatchUuid) {
+        return orderKey != otherOrderKey ? Long.compare(orderKey, otherOrderKey) : matchUuid.compareTo(otherMatchUuid);
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private static final class Node {
+        private final long orderKey;
+        private final UUID matchUuid;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long orderKey, UUID matchUuid, int priority) {
+            this.orderKey = orderKey;
+            this.matchUuid = matchUuid;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.exception.InvalidArgumentException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * A storage decorator recording the score timeline of every match, for goal timelines and auditing corrections.
+ * <p>
+ * Every match has a ring of at most {@code entriesPerMatch} entries, each a timestamp and a packed {@link Score} in two
+ * slots of a {@code long[]}, so an entry costs 16 bytes and no object. The ring starts small and doubles up to its
+ * bound; once full, the oldest entries are overwritten. When a match is removed its ring moves to an archive of
+ * finished matches holding at most {@code archiveCapacity} histories, evicting the least recently read one, and
+ * {@link #evictArchived(UUID)} drops a history explicitly. Changes and history reads are serialized on this decorator.
+ */
+public class ScoreHistoryStorage extends ForwardingStorage {
+
+    public static final int DEFAULT_ENTRIES_PER_MATCH = 64;
+
+    public static final int DEFAULT_ARCHIVE_CAPACITY = 10_000;
+
+    private static final int INITIAL_ENTRIES = 8;
+
+    private final int entriesPerMatch;
+
+    private final LongSupplier clock;
+
+    private final Map<UUID, HistoryRing> live = new HashMap<>();
+
+    /**
+     * The histories of finished matches, least recently read first.
+     */
+    private final LinkedHashMap<UUID, HistoryRing> archive;
+
+    /**
+     * Constructs the decorator with the default bounds and the system clock.
+     *
+     * @param delegate The storage holding the matches.
+     */
+    public ScoreHistoryStorage(Storage delegate) {
+        this(delegate, DEFAULT_ENTRIES_PER_MATCH, DEFAULT_ARCHIVE_CAPACITY, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs the decorator.
+     *
+     * @param delegate        The storage holding the matches.
+     * @param entriesPerMatch The number of entries kept per match.
+     * @param archiveCapacity The number of finished match histories kept.
+     * @param clock           The source of the entry timestamps.
+     * @throws InvalidArgumentException If a bound is not positive.
+     */
+    public ScoreHistoryStorage(Storage delegate, int entriesPerMatch, int archiveCapacity, LongSupplier clock) {
+        super(delegate);
+        if (entriesPerMatch <= 0 || archiveCapacity <= 0) {
+            throw new InvalidArgumentException("History bounds must be positive.");
+        }
+        this.entriesPerMatch = entriesPerMatch;
+        this.clock = clock;
+        this.archive = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, HistoryRing> eldest) {
+                return size() > archiveCapacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean addMatch(Match matchToAdd) {
+        boolean added = delegate.addMatch(matchToAdd);
+        if (added) {
+            HistoryRing ring = new HistoryRing(Math.min(INITIAL_ENTRIES, entriesPerMatch));
+            ring.append(clock.getAsLong(), matchToAdd.getHomeScore(), matchToAdd.getAwayScore(), entriesPerMatch);
+            live.put(matchToAdd.getMatchUuid(), ring);
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        boolean updated = delegate.updateScore(matchUUID, homeScore, awayScore);
+        if (updated) {
+            record(matchUUID, homeScore, awayScore, clock.getAsLong());
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized boolean[] updateScores(List<ScoreUpdate> updates) {
+        boolean[] applied = delegate.updateScores(updates);
+        long now = clock.getAsLong();
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                ScoreUpdate update = updates.get(i);
+                record(update.getMatchUuid(), update.getHomeScore(), update.getAwayScore(), now);
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public synchronized boolean removeMatch(UUID matchUUID) {
+        boolean removed = delegate.removeMatch(matchUUID);
+        if (removed) {
+            HistoryRing ring = live.remove(matchUUID);
+            if (ring != null) {
+                archive.put(matchUUID, ring);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a copy of the score timeline of a match in progress or of an archived finished match.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The history, or empty if the match is unknown or its history was evicted.
+     */
+    @Override
+    public synchronized Optional<ScoreHistory> getScoreHistory(UUID matchUuid) {
+        HistoryRing ring = live.get(matchUuid);
+        if (ring != null) {
+            return Optional.of(ring.toHistory(matchUuid, false));
+        }
+        ring = archive.get(matchUuid);
+        return ring == null ? Optional.empty() : Optional.of(ring.toHistory(matchUuid, true));
+    }
+
+    /**
+     * Drops the history of a finished match from the archive.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return {@code true} if the history was archived.
+     */
+    public synchronized boolean evictArchived(UUID matchUuid) {
+        return archive.remove(matchUuid) != null;
+    }
+
+    /**
+     * Drops the histories of all finished matches.
+     */
+    public synchronized void clearArchive() {
+        archive.clear();
+    }
+
+    /**
+     * Returns the number of finished match histories in the archive.
+     *
+     * @return The archive size.
+     */
+    public synchronized int getArchivedCount() {
+        return archive.size();
+    }
+
+    private void record(UUID matchUuid, int homeScore, int awayScore, long timestamp) {
+        HistoryRing ring = live.get(matchUuid);
+        if (ring != null) {
+            ring.append(timestamp, homeScore, awayScore, entriesPerMatch);
+        }
+    }
+
+    /**
+     * The entries of one match: a timestamp and a packed score per entry, interleaved, the newest one at
+     * {@code (count - 1) % capacity} once the ring has reached its bound.
+     */
+    private static final class HistoryRing {
+        private long[] entries;
+        private long count;
+
+        private HistoryRing(int initialEntries) {
+            this.entries = new long[2 * initialEntries];
+        }
+
+        private void append(long timestamp, int homeScore, int awayScore, int maxEntries) {
+            int allocated = entries.length / 2;
+            if (count == allocated && allocated < maxEntries) {
+                entries = Arrays.copyOf(entries, 2 * Math.min(maxEntries, 2 * allocated));
+                allocated = entries.length / 2;
+            }
+            int slot = 2 * (int) (count % allocated);
+            entries[slot] = timestamp;
+            entries[slot + 1] = Score.of(homeScore, awayScore, (int) count);
+            count++;
+        }
+
+        private ScoreHistory toHistory(UUID matchUuid, boolean finished) {
+            int allocated = entries.length / 2;
+            int size = (int) Math.min(count, allocated);
+            long[] copy = new long[2 * size];
+            int oldest = 2 * (int) ((count - size) % allocated);
+            int head = Math.min(copy.length, entries.length - oldest);
+            System.arraycopy(entries, oldest, copy, 0, head);
+            System.arraycopy(entries, 0, copy, head, copy.length - head);
+            return new ScoreHistory(matchUuid, copy, count - size, finished);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A storage decorator that publishes an immutable, already sorted {@link SummarySnapshot} after every change.
+ * <p>
+ * Writers are serialized on this decorator and replace the snapshot through a volatile reference.
+ * Readers of {@link #getAllMatches()} and {@link #getSnapshot()} only load that reference: they never
+ * block and never allocate.
+ */
+public class SnapshotPublishingStorage extends ForwardingStorage {
+
+    /**
+     * The snapshot of the board after the last change.
+     */
+    private volatile SummarySnapshot snapshot;
+
+    /**
+     * Constructs a new SnapshotPublishingStorage on top of the given storage.
+     *
+     * @param delegate The storage holding the matches.
+     */
+    public SnapshotPublishingStorage(Storage delegate) {
+        super(delegate);
+        this.snapshot = delegate.getSnapshot();
+    }
+
+    /**
+     * Adds a new match and publishes a new snapshot if it was added.
+     *
+     * @param matchToAdd The match to be added.
+     * @return {@code true} if the match was added, {@code false} if one of its teams is busy.
+     */
+    @Override
+    public synchronized boolean addMatch(Match matchToAdd) {
+        boolean added = delegate.addMatch(matchToAdd);
+        if (added) {
+            publish();
+        }
+        return added;
+    }
+
+    /**
+     * Updates the match and publishes a new snapshot if it was updated.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return {@code true} if the match was found and updated, {@code false} otherwise.
+     */
+    @Override
+    public synchronized boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        boolean updated = delegate.updateScore(matchUUID, homeScore, awayScore);
+        if (updated) {
+            publish();
+        }
+        return updated;
+    }
+
+    /**
+     * Applies the batch and publishes a single new snapshot for it if the storage changed.
+     *
+     * @param updates The score updates to apply.
+     * @return For every update, at the same position, {@code true} if its match was found and updated.
+     */
+    @Override
+    public synchronized boolean[] updateScores(List<ScoreUpdate> updates) {
+        boolean[] applied = delegate.updateScores(updates);
+        if (delegate.getVersion() != snapshot.getVersion()) {
+            publish();
+        }
+        return applied;
+    }
+
+    /**
+     * Removes the match and publishes a new snapshot if it was removed.
+     *
+     * @param matchUUID The UUID of the match to be removed.
+     * @return {@code true} if the match was found and removed, {@code false} otherwise.
+     */
+    @Override
+    public synchronized boolean removeMatch(UUID matchUUID) {
+        boolean removed = delegate.removeMatch(matchUUID);
+        if (removed) {
+            publish();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the matches of the last published snapshot, without copying.
+     *
+     * @return The immutable list of matches in summary order.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        return snapshot.getMatches();
+    }
+
+    /**
+     * Returns the first matches of the last published snapshot, without copying.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        List<Match> matches = snapshot.getMatches();
+        return matches.subList(0, Math.min(n, matches.size()));
+    }
+
+    /**
+     * Returns a page of the last published snapshot, located by binary search.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        return SummaryPages.page(snapshot.getMatches(), cursor, limit);
+    }
+
+    /**
+     * Returns the version of the last published snapshot.
+     *
+     * @return The published version.
+     */
+    @Override
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * Returns the last published snapshot.
+     *
+     * @return The current snapshot.
+     */
+    @Override
+    public SummarySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * The summary reads only load the published snapshot.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsOptimisticReads() {
+        return true;
+    }
+
+    private void publish() {
+        snapshot = delegate.getSnapshot();
+    }
+}
@@ -1,8 +1,19 @@
 package football.board.storage;
 
 import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -12,18 +23,48 @@ import java.util.UUID;
 public interface Storage {
 
     /**
-     * Adds a new matchToAdd to the storage.
+     * Adds a new matchToAdd to the storage if neither of its teams is participating in another match.
+     * Reserving the teams is all-or-nothing: if one of them is busy, neither stays reserved.
      *
      * @param matchToAdd The matchToAdd to be added.
+     * @return True if the match was added, false if one of its teams is already playing.
      */
-    void addMatch(Match matchToAdd);
+    boolean addMatch(Match matchToAdd);
 
     /**
      * Updates the scores of a match and sorts the storage based on the updated scores.
      *
      * @param updatedMatch The match with updated scores.
      */
-    void updateAndSort(Match updatedMatch);
+    default void updateAndSort(Match updatedMatch) {
+        updateScore(updatedMatch.getMatchUuid(), updatedMatch.getHomeScore(), updatedMatch.getAwayScore());
+    }
+
+    /**
+     * Replaces a stored match with a copy carrying the new scores and moves it to its position in the summary order.
+     *
+     * @param matchUUID The UUID of the match to update.
+     * @param homeScore The new home team score.
+     * @param awayScore The new away team score.
+     * @return True if the match was found and updated, false otherwise.
+     */
+    boolean updateScore(UUID matchUUID, int homeScore, int awayScore);
+
+    /**
+     * Applies a batch of score updates, in order. Storages that keep a sorted list restore the summary order
+     * once for the whole batch instead of once per update.
+     *
+     * @param updates The score updates to apply.
+     * @return For every update, at the same position, true if its match was found and updated.
+     */
+    default boolean[] updateScores(List<ScoreUpdate> updates) {
+        boolean[] applied = new boolean[updates.size()];
+        for (int i = 0; i < applied.length; i++) {
+            ScoreUpdate update = updates.get(i);
+            applied[i] = updateScore(update.getMatchUuid(), update.getHomeScore(), update.getAwayScore());
+        }
+        return applied;
+    }
 
     /**
      * Removes a match from the storage based on its UUID.
@@ -33,10 +74,151 @@ public interface Storage {
      */
     boolean removeMatch(UUID matchUUID);
 
+    /**
+     * Finds a match in the storage by its UUID.
+     *
+     * @param matchUUID The UUID of the match to find.
+     * @return The match, or an empty optional if no match with this UUID is stored.
+     */
+    Optional<Match> findMatch(UUID matchUUID);
+
+    /**
+     * Checks if a team is participating in one of the stored matches.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return True if the team is playing, false otherwise.
+     */
+    boolean isTeamInMatch(UUID teamUuid);
+
+    /**
+     * Checks if a team is participating in one of the stored matches. Storages indexing teams by
+     * {@link Team#getHandle() handle} answer this without hashing the team UUID, except on the first
+     * reservation or check of each team.
+     *
+     * @param team The team.
+     * @return True if the team is playing, false otherwise.
+     */
+    default boolean isTeamInMatch(Team team) {
+        return isTeamInMatch(team.getUuid());
+    }
+
     /**
      * Retrieves the collection of matches stored in the storage.
      *
      * @return The collection of matches.
      */
     Collection<Match> getAllMatches();
+
+    /**
+     * Retrieves the first matches in summary order.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    default List<Match> getTopMatches(int n) {
+        return SummaryPages.top(new ArrayList<>(getAllMatches()), n);
+    }
+
+    /**
+     * Retrieves a page of matches in summary order.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    default SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        return SummaryPages.page(new ArrayList<>(getAllMatches()), cursor, limit);
+    }
+
+    /**
+     * Counts the stored matches, other than the one with the UUID of {@code state}, that sort before {@code state};
+     * this is the rank the match has or would have in the summary in that state. Storages keeping the matches
+     * ordered answer it from their index without copying the board.
+     *
+     * @param state The state of a match, stored or not.
+     * @return The number of other matches sorting before it.
+     */
+    default int countBefore(Match state) {
+        Comparator<Match> order = Match.getSortComparator();
+        int count = 0;
+        for (Match match : getAllMatches()) {
+            if (order.compare(match, state) >= 0) {
+                break;
+            }
+            if (!match.getMatchUuid().equals(state.getMatchUuid())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the version of the storage. The version grows with every change of the stored matches.
+     *
+     * @return The current version.
+     */
+    long getVersion();
+
+    /**
+     * Retrieves the matches in summary order together with the version they belong to.
+     *
+     * @return The snapshot of the stored matches.
+     */
+    default SummarySnapshot getSnapshot() {
+        return new SummarySnapshot(getVersion(), List.copyOf(getAllMatches()));
+    }
+
+    /**
+     * Retrieves the changes of the summary since a version. Storages that keep no change history return the full
+     * snapshot; {@link ChangeTrackingStorage} adds a bounded history to any storage.
+     *
+     * @param version The version of the summary the caller holds.
+     * @return The changes since the version, or a full snapshot.
+     */
+    default SummaryDelta getChangesSince(long version) {
+        return SummaryDelta.fullSnapshot(version, getSnapshot());
+    }
+
+    /**
+     * Returns the score timeline of a match. Only storages recording it, such as {@link ScoreHistoryStorage}, have one.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The history, or empty if the storage keeps none for the match.
+     */
+    default Optional<ScoreHistory> getScoreHistory(UUID matchUuid) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the final state of a finished match. Only storages archiving them, such as {@link ArchivingStorage},
+     * keep finished matches.
+     *
+     * @param matchUuid The UUID of the match.
+     * @return The finished match, or empty if the storage keeps none with this UUID.
+     */
+    default Optional<Match> findFinishedMatch(UUID matchUuid) {
+        return Optional.empty();
+    }
+
+    /**
+     * Tells whether the summary reads, {@link #getAllMatches()}, {@link #getTopMatches(int)},
+     * {@link #getSummaryPage(SummaryCursor, int)} and {@link #getSnapshot()}, can run while one writer changes the
+     * storage without throwing or looping. Their result may then mix states, so callers reading optimistically must
+     * validate it afterwards and retry under a lock.
+     *
+     * @return {@code true} if optimistic summary reads are safe, {@code false} by default.
+     */
+    default boolean supportsOptimisticReads() {
+        return false;
+    }
+
+    /**
+     * Tells whether every operation can be called by many threads at once without external locking, so a service
+     * may let writers of different matches run in parallel.
+     *
+     * @return {@code true} if concurrent writes are safe, {@code false} by default.
+     */
+    default boolean supportsConcurrentWrites() {
+        return false;
+    }
 }
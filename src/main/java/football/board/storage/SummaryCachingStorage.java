@@ -0,0 +1,271 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.metrics.BoardMetrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A storage decorator memoizing the summary reads between two changes.
+ * <p>
+ * The first summary read after a change takes a snapshot of the wrapped storage; later reads return it, and the
+ * top-N lists and pages cut from it, until the next successful {@code addMatch}, {@code updateScore} (and so
+ * {@code updateAndSort}), {@code updateScores} or {@code removeMatch} drops them. Unlike
+ * {@link SnapshotPublishingStorage}, which copies the board after every change, a change costs nothing until the
+ * summary is read again, so a burst of goals between two reads builds one summary. A repeated read loads one
+ * volatile reference and looks up the memoized view; the results are immutable and shared by all readers.
+ * <p>
+ * Changes and rebuilding the snapshot are serialized on this decorator. Cache hits and misses are counted, and
+ * {@link #SummaryCachingStorage(Storage, BoardMetrics)} reports the hit ratio through {@link BoardMetrics}.
+ */
+public class SummaryCachingStorage extends ForwardingStorage {
+
+    /**
+     * The number of distinct pages memoized per snapshot; further pages are cut from the snapshot on every read.
+     */
+    public static final int MAX_CACHED_PAGES = 256;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The views of the current state of the wrapped storage, or {@code null} after a change.
+     */
+    private volatile Views views;
+
+    /**
+     * Constructs the decorator.
+     *
+     * @param delegate The storage holding the matches.
+     */
+    public SummaryCachingStorage(Storage delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Constructs the decorator and sets the summary cache hit ratio gauge of the metrics.
+     *
+     * @param delegate The storage holding the matches.
+     * @param metrics  The metrics to report the hit ratio to.
+     */
+    public SummaryCachingStorage(Storage delegate, BoardMetrics metrics) {
+        this(delegate);
+        metrics.setSummaryCacheHitRatioGauge(this::getHitRatio);
+    }
+
+    @Override
+    public synchronized boolean addMatch(Match matchToAdd) {
+        boolean added = delegate.addMatch(matchToAdd);
+        if (added) {
+            views = null;
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized boolean updateScore(UUID matchUUID, int homeScore, int awayScore) {
+        boolean updated = delegate.updateScore(matchUUID, homeScore, awayScore);
+        if (updated) {
+            views = null;
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized boolean[] updateScores(List<ScoreUpdate> updates) {
+        long version = delegate.getVersion();
+        boolean[] applied = delegate.updateScores(updates);
+        if (delegate.getVersion() != version) {
+            views = null;
+        }
+        return applied;
+    }
+
+    @Override
+    public synchronized boolean removeMatch(UUID matchUUID) {
+        boolean removed = delegate.removeMatch(matchUUID);
+        if (removed) {
+            views = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the matches of the memoized snapshot, taking it first if the storage changed since.
+     *
+     * @return The immutable list of matches in summary order.
+     */
+    @Override
+    public Collection<Match> getAllMatches() {
+        return getSnapshot().getMatches();
+    }
+
+    /**
+     * Returns the memoized snapshot, taking it first if the storage changed since.
+     *
+     * @return The current snapshot.
+     */
+    @Override
+    public SummarySnapshot getSnapshot() {
+        Views current = views;
+        if (current != null) {
+            hits.increment();
+            return current.snapshot;
+        }
+        misses.increment();
+        return rebuild().snapshot;
+    }
+
+    /**
+     * Returns the memoized first matches of the summary, cutting them from the snapshot on the first read.
+     *
+     * @param n The maximum number of matches to return.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    @Override
+    public List<Match> getTopMatches(int n) {
+        Views current = currentViews();
+        List<Match> top = current.topMatches.get(n);
+        if (top != null) {
+            hits.increment();
+            return top;
+        }
+        misses.increment();
+        List<Match> matches = current.snapshot.getMatches();
+        top = matches.subList(0, Math.min(n, matches.size()));
+        if (current.topMatches.size() < MAX_CACHED_PAGES) {
+            current.topMatches.putIfAbsent(n, top);
+        }
+        return top;
+    }
+
+    /**
+     * Returns the memoized page of the summary, cutting it from the snapshot on the first read.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page of matches.
+     */
+    @Override
+    public SummaryPage getSummaryPage(SummaryCursor cursor, int limit) {
+        Views current = currentViews();
+        PageKey key = new PageKey(cursor, limit);
+        SummaryPage page = current.pages.get(key);
+        if (page != null) {
+            hits.increment();
+            return page;
+        }
+        misses.increment();
+        page = SummaryPages.page(current.snapshot.getMatches(), cursor, limit);
+        if (current.pages.size() < MAX_CACHED_PAGES) {
+            current.pages.putIfAbsent(key, page);
+        }
+        return page;
+    }
+
+    /**
+     * The summary reads only load the memoized views or rebuild them under the monitor of the writers.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsOptimisticReads() {
+        return true;
+    }
+
+    /**
+     * Returns how many summary reads were answered from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many summary reads had to build their result.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of summary reads answered from the cache.
+     *
+     * @return The hit ratio between 0 and 1, or 0 before the first read.
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private Views currentViews() {
+        Views current = views;
+        return current != null ? current : rebuild();
+    }
+
+    private synchronized Views rebuild() {
+        Views current = views;
+        if (current == null) {
+            current = new Views(delegate.getSnapshot());
+            views = current;
+        }
+        return current;
+    }
+
+    /**
+     * A snapshot of the storage and the top-N lists and pages cut from it so far.
+     */
+    private static final class Views {
+        private final SummarySnapshot snapshot;
+        private final ConcurrentMap<Integer, List<Match>> topMatches = new ConcurrentHashMap<>();
+        private final ConcurrentMap<PageKey, SummaryPage> pages = new ConcurrentHashMap<>();
+
+        private Views(SummarySnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    private static final class PageKey {
+        private final long orderKey;
+        private final UUID matchUuid;
+        private final int limit;
+
+        private PageKey(SummaryCursor cursor, int limit) {
+            this.orderKey = cursor == null ? 0L : cursor.getOrderKey();
+            this.matchUuid = cursor == null ? null : cursor.getMatchUuid();
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PageKey)) {
+                return false;
+            }
+            PageKey other = (PageKey) o;
+            return orderKey == other.orderKey && limit == other.limit && Objects.equals(matchUuid, other.matchUuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Long.hashCode(orderKey) + Objects.hashCode(matchUuid)) + limit;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+
+import java.util.List;
+
+/**
+ * Top-N and paging helpers over a list that is already in summary order.
+ */
+public final class SummaryPages {
+
+    private SummaryPages() {
+    }
+
+    /**
+     * Returns the first matches of a sorted list.
+     *
+     * @param sorted The matches in summary order.
+     * @param n      The maximum number of matches.
+     * @return An immutable list of at most {@code n} matches.
+     */
+    public static List<Match> top(List<Match> sorted, int n) {
+        return List.copyOf(sorted.subList(0, Math.min(n, sorted.size())));
+    }
+
+    /**
+     * Returns the page of a sorted list starting after the cursor, located by binary search.
+     *
+     * @param sorted The matches in summary order, with random access.
+     * @param cursor The cursor, or {@code null} for the first page.
+     * @param limit  The maximum number of matches on the page.
+     * @return The page.
+     */
+    public static SummaryPage page(List<Match> sorted, SummaryCursor cursor, int limit) {
+        int from = cursor == null ? 0 : firstAfter(sorted, cursor);
+        int to = from + Math.min(limit, sorted.size() - from);
+        List<Match> matches = sorted.subList(from, to);
+        SummaryCursor nextCursor = to > from && to < sorted.size() ? SummaryCursor.after(sorted.get(to - 1)) : null;
+        return new SummaryPage(matches, nextCursor);
+    }
+
+    private static int firstAfter(List<Match> sorted, SummaryCursor cursor) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cursor.compareTo(sorted.get(middle)) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,238 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.entity.TeamRegistry;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Index of the teams currently playing, mapping each team UUID to the UUID of its active match.
+ * Storages maintain it while adding and removing matches so that checking whether a team is busy
+ * is a hash lookup instead of a scan over every match.
+ * <p>
+ * Teams interned by a {@link TeamRegistry} are indexed by their dense handle in lazily allocated array segments
+ * instead. The first time a team with a handle is reserved or checked, the UUID map records its handle in place of
+ * a match; from then on the slot of the handle is the only record of the team, for the team itself and for any copy
+ * of it without a handle, such as a deserialized or decoded one, which finds the slot through the UUID map.
+ * Reserving a team with a handle is then a compare-and-set on its slot, and {@link #isPlaying(Team)} an array read,
+ * whether the team is playing or not. While a copy without a handle holds the team in the UUID map, the handle is
+ * not recorded, so the two forms of a team always block each other.
+ */
+public class TeamOccupancyIndex {
+
+    private static final int SEGMENT_BITS = 10;
+
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /**
+     * The slot value of a team with a handle whose handle is recorded in the UUID map and that is not playing.
+     * Compared by identity.
+     */
+    private static final UUID FREE = new UUID(0L, 0L);
+
+    /**
+     * For every team that is currently playing without a recorded handle, the UUID of its active match; for every
+     * team with a recorded handle, the {@code Integer} handle.
+     */
+    private final ConcurrentMap<UUID, Object> teamStates;
+
+    /**
+     * For every team with a recorded handle, by handle, the UUID of its active match or {@link #FREE}. A slot is
+     * {@code null} until the handle is recorded.
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<UUID>> activeMatchByHandle;
+
+    /**
+     * Constructs a new TeamOccupancyIndex with no team playing.
+     */
+    public TeamOccupancyIndex() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    TeamOccupancyIndex(ConcurrentMap<UUID, Object> teamStates) {
+        this.teamStates = teamStates;
+        this.activeMatchByHandle = new AtomicReferenceArray<>(TeamRegistry.MAX_TEAMS >> SEGMENT_BITS);
+    }
+
+    /**
+     * Checks if a team is participating in an active match.
+     *
+     * @param teamUuid The UUID of the team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    public boolean isOccupied(UUID teamUuid) {
+        if (teamUuid == null) {
+            return false;
+        }
+        Object state = teamStates.get(teamUuid);
+        if (state instanceof Integer) {
+            return isBusy(slot((Integer) state));
+        }
+        return state != null;
+    }
+
+    /**
+     * Checks if a team is participating in an active match. A team with a handle is answered from its slot once
+     * its handle is recorded, which this check does on its first call for the team.
+     *
+     * @param team The team.
+     * @return {@code true} if the team is playing, {@code false} otherwise.
+     */
+    public boolean isPlaying(Team team) {
+        if (team == null) {
+            return false;
+        }
+        int handle = team.getHandle();
+        if (handle == Team.NO_HANDLE) {
+            return isOccupied(team.getUuid());
+        }
+        UUID owner = slot(handle);
+        if (owner == null) {
+            return recordHandle(team) != null;
+        }
+        return owner != FREE;
+    }
+
+    /**
+     * Reserves both teams of a match, all-or-nothing: either both teams are reserved for the match or none is,
+     * so two concurrent reservations sharing a team can never both succeed. The teams are claimed one after the
+     * other, in UUID order, so two reservations of the same pair with the teams swapped cannot both fail; while a
+     * reservation is being rolled back, its first team may briefly be reported as playing.
+     *
+     * @param match The match to reserve the teams for.
+     * @return {@code true} if both teams were reserved, {@code false} if one of them is already playing.
+     */
+    public boolean reserve(Match match) {
+        UUID matchUuid = match.getMatchUuid();
+        Team first = match.getHomeTeam();
+        Team second = match.getAwayTeam();
+        if (first.getUuid().compareTo(second.getUuid()) > 0) {
+            first = match.getAwayTeam();
+            second = match.getHomeTeam();
+        }
+
+        UUID firstOwner = claim(first, matchUuid);
+        if (firstOwner != null && !firstOwner.equals(matchUuid)) {
+            return false;
+        }
+        UUID secondOwner = claim(second, matchUuid);
+        if (secondOwner != null && !secondOwner.equals(matchUuid)) {
+            if (firstOwner == null) {
+                unclaim(first, matchUuid);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases both teams of a match, if they are still reserved for it.
+     *
+     * @param match The match to release the teams of.
+     */
+    public void release(Match match) {
+        UUID matchUuid = match.getMatchUuid();
+        unclaim(match.getHomeTeam(), matchUuid);
+        unclaim(match.getAwayTeam(), matchUuid);
+    }
+
+    /**
+     * Reserves a team for a match if it is free.
+     *
+     * @return {@code null} if the team was reserved, otherwise the UUID of the match it is reserved for.
+     */
+    private UUID claim(Team team, UUID matchUuid) {
+        int handle = team.getHandle();
+        if (handle == Team.NO_HANDLE) {
+            Object state = teamStates.putIfAbsent(team.getUuid(), matchUuid);
+            if (state instanceof Integer) {
+                return claimSlot((Integer) state, matchUuid);
+            }
+            return (UUID) state;
+        }
+        if (slot(handle) == null) {
+            UUID owner = recordHandle(team);
+            if (owner != null) {
+                return owner;
+            }
+        }
+        return claimSlot(handle, matchUuid);
+    }
+
+    /**
+     * Takes the slot of a recorded handle if it is free.
+     *
+     * @return {@code null} if the slot was taken, otherwise the UUID of the match holding it.
+     */
+    private UUID claimSlot(int handle, UUID matchUuid) {
+        AtomicReferenceArray<UUID> segment = segment(handle);
+        int index = handle & SEGMENT_MASK;
+        while (true) {
+            UUID owner = segment.get(index);
+            if (isBusy(owner)) {
+                return owner;
+            }
+            if (segment.compareAndSet(index, owner, matchUuid)) {
+                return null;
+            }
+        }
+    }
+
+    private void unclaim(Team team, UUID matchUuid) {
+        int handle = team.getHandle();
+        if (handle == Team.NO_HANDLE) {
+            if (teamStates.remove(team.getUuid(), matchUuid)) {
+                return;
+            }
+            Object state = teamStates.get(team.getUuid());
+            if (!(state instanceof Integer)) {
+                return;
+            }
+            handle = (Integer) state;
+        }
+        AtomicReferenceArray<UUID> segment = activeMatchByHandle.get(handle >>> SEGMENT_BITS);
+        if (segment != null) {
+            segment.compareAndSet(handle & SEGMENT_MASK, matchUuid, FREE);
+        }
+    }
+
+    /**
+     * Records the handle of a team in the UUID map and marks its slot free, unless a copy of the team without a
+     * handle is playing.
+     *
+     * @return {@code null} if the handle is recorded, otherwise the UUID of the match of the copy.
+     */
+    private UUID recordHandle(Team team) {
+        Object state = teamStates.putIfAbsent(team.getUuid(), team.getHandle());
+        if (state instanceof UUID) {
+            return (UUID) state;
+        }
+        segment(team.getHandle()).compareAndSet(team.getHandle() & SEGMENT_MASK, null, FREE);
+        return null;
+    }
+
+    private UUID slot(int handle) {
+        AtomicReferenceArray<UUID> segment = activeMatchByHandle.get(handle >>> SEGMENT_BITS);
+        return segment == null ? null : segment.get(handle & SEGMENT_MASK);
+    }
+
+    private static boolean isBusy(UUID owner) {
+        return owner != null && owner != FREE;
+    }
+
+    private AtomicReferenceArray<UUID> segment(int handle) {
+        int segmentIndex = handle >>> SEGMENT_BITS;
+        AtomicReferenceArray<UUID> segment = activeMatchByHandle.get(segmentIndex);
+        if (segment == null) {
+            activeMatchByHandle.compareAndSet(segmentIndex, null, new AtomicReferenceArray<>(SEGMENT_SIZE));
+            segment = activeMatchByHandle.get(segmentIndex);
+        }
+        return segment;
+    }
+}
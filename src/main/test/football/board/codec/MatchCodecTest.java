@@ -0,0 +1,150 @@
+package football.board.codec;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchCodecTest {
+
+    private final MatchEncoder encoder = new MatchEncoder();
+
+    private final MatchDecoder decoder = new MatchDecoder();
+
+    @Test
+    void encodeDecode_RoundTripsEveryField() {
+        Match match = new Match(new Team("México"), new Team("Côte d'Ivoire 😀"), SummaryOrder.OLDEST_FIRST)
+                .withScore(300, 2)
+                .withScore(301, 2);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        assertTrue(encoder.encode(match, buffer));
+        buffer.flip();
+        Match decoded = decoder.decode(buffer);
+
+        assertFalse(buffer.hasRemaining());
+        assertMatchEquals(match, decoded);
+        assertEquals(2, decoded.getScoreVersion());
+        assertEquals(match.getOrderKey(), decoded.getOrderKey());
+    }
+
+    @Test
+    void repeatedTeams_AreWrittenOnceAndShared() {
+        Team home = new Team("Mexico");
+        Team away = new Team("Canada");
+        Match first = new Match(home, away);
+        Match second = new Match(away, home).withScore(1, 0);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        encoder.encode(first, buffer);
+        int firstSize = buffer.position();
+        encoder.encode(second, buffer);
+        int secondSize = buffer.position() - firstSize;
+        buffer.flip();
+        Match decodedFirst = decoder.decode(buffer);
+        Match decodedSecond = decoder.decode(buffer);
+
+        assertTrue(secondSize < 30, "second match took " + secondSize + " bytes");
+        assertEquals(2, encoder.getTeamCount());
+        assertEquals(2, decoder.getTeamCount());
+        assertSame(decodedFirst.getHomeTeam(), decodedSecond.getAwayTeam());
+        assertSame(decodedFirst.getAwayTeam(), decodedSecond.getHomeTeam());
+        assertMatchEquals(second, decodedSecond);
+    }
+
+    @Test
+    void encode_BufferTooSmall_LeavesBufferAndDictionaryUnchanged() {
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        ByteBuffer small = ByteBuffer.allocate(20);
+
+        assertFalse(encoder.encode(match, small));
+        assertEquals(0, small.position());
+        assertEquals(0, encoder.getTeamCount());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        assertTrue(encoder.encode(match, buffer));
+        buffer.flip();
+        assertMatchEquals(match, decoder.decode(buffer));
+    }
+
+    @Test
+    void decode_PartialInput_WaitsForMoreBytes() {
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            matches.add(new Match(new Team("Home" + i % 7), new Team("Away" + i)).withScore(i, i % 3));
+        }
+        SummarySnapshot snapshot = new SummarySnapshot(42, matches);
+        ByteBuffer encoded = ByteBuffer.allocate(8192);
+        assertTrue(encoder.encodeSnapshot(snapshot, encoded));
+        encoded.flip();
+
+        ByteBuffer stream = ByteBuffer.allocate(8192);
+        stream.flip();
+        SummarySnapshot decoded = null;
+        while (decoded == null) {
+            assertTrue(encoded.hasRemaining());
+            stream.compact();
+            stream.put(encoded.get());
+            stream.flip();
+            decoded = decoder.decodeSnapshot(stream);
+        }
+
+        assertFalse(encoded.hasRemaining());
+        assertEquals(42, decoded.getVersion());
+        assertEquals(matches.size(), decoded.getMatches().size());
+        for (int i = 0; i < matches.size(); i++) {
+            assertMatchEquals(matches.get(i), decoded.getMatches().get(i));
+        }
+    }
+
+    @Test
+    void summary_RoundTripsAcrossStreamResets() {
+        List<Match> matches = List.of(new Match(new Team("Mexico"), new Team("Canada")),
+                new Match(new Team("Spain"), new Team("Brazil")).withScore(2, 2));
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+
+        assertTrue(encoder.encodeSummary(matches, buffer));
+        encoder.reset();
+        assertTrue(encoder.encodeSummary(matches, buffer));
+        buffer.flip();
+
+        assertEquals(2, decoder.decodeSummary(buffer).size());
+        decoder.reset();
+        List<Match> decoded = decoder.decodeSummary(buffer);
+        assertMatchEquals(matches.get(1), decoded.get(1));
+    }
+
+    @Test
+    void decode_UnknownTeamReference_ThrowsInvalidArgumentException() {
+        Team home = new Team("Mexico");
+        Team away = new Team("Canada");
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        encoder.encode(new Match(home, away), buffer);
+        int second = buffer.position();
+        encoder.encode(new Match(home, away), buffer);
+        buffer.flip();
+        buffer.position(second);
+
+        assertThrows(InvalidArgumentException.class, () -> decoder.decode(buffer));
+    }
+
+    private static void assertMatchEquals(Match expected, Match actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getMatchUuid(), actual.getMatchUuid());
+        assertEquals(expected.getStartSequence(), actual.getStartSequence());
+        assertEquals(expected.getSummaryOrder(), actual.getSummaryOrder());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getHomeTeam().getUuid(), actual.getHomeTeam().getUuid());
+        assertEquals(expected.getHomeTeam().getName(), actual.getHomeTeam().getName());
+        assertEquals(expected.getAwayTeam().getUuid(), actual.getAwayTeam().getUuid());
+        assertEquals(expected.getAwayTeam().getName(), actual.getAwayTeam().getName());
+    }
+}
@@ -0,0 +1,74 @@
+package football.board.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchTest {
+
+    /**
+     * A start sequence whose bytes occur nowhere else in the serialized match.
+     */
+    private static final long START_SEQUENCE = 0x12_3456_789AL;
+
+    @Test
+    void deserializedMatch_StartsLaterMatchesAfterIt() throws Exception {
+        Match original = restored().withScore(1, 2);
+        long startSequence = START_SEQUENCE + 1_000_000_000L;
+
+        Match copy = deserialize(withStartSequence(original, startSequence));
+
+        assertEquals(original.getMatchUuid(), copy.getMatchUuid());
+        assertEquals(startSequence, copy.getStartSequence());
+        assertEquals(3, copy.getTotalScore());
+        assertTrue(new Match(new Team("Spain"), new Team("Brazil")).getStartSequence() > startSequence);
+    }
+
+    @Test
+    void deserializedMatch_WithInvalidStartSequence_IsRejected() throws Exception {
+        Match original = restored();
+
+        byte[] forged = withStartSequence(original, -1);
+
+        assertThrows(InvalidObjectException.class, () -> deserialize(forged));
+    }
+
+    /**
+     * Serializes the match, then overwrites its start sequence in the stream.
+     */
+    private static byte[] withStartSequence(Match match, long startSequence) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(match);
+        }
+        byte[] stream = bytes.toByteArray();
+        byte[] original = ByteBuffer.allocate(Long.BYTES).putLong(match.getStartSequence()).array();
+        for (int i = 0; i <= stream.length - original.length; i++) {
+            if (Arrays.equals(stream, i, i + original.length, original, 0, original.length)) {
+                ByteBuffer.wrap(stream, i, Long.BYTES).putLong(startSequence);
+                return stream;
+            }
+        }
+        throw new AssertionError("Start sequence not found in the stream.");
+    }
+
+    private static Match restored() {
+        return new Match(UUID.randomUUID(), START_SEQUENCE, new Team("Mexico"), new Team("Canada"), 0L);
+    }
+
+    private static Match deserialize(byte[] stream) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream))) {
+            return (Match) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package football.board.entity;
+
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.storage.FootballWorldScoreBoardStorage;
+import football.board.storage.TeamOccupancyIndex;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamRegistryTest {
+
+    @Test
+    void intern_ReturnsTheSameTeamForTheSameName() {
+        TeamRegistry registry = new TeamRegistry();
+
+        Team first = registry.intern("Mexico");
+        Team second = registry.intern("Mexico");
+
+        assertSame(first, second);
+        assertEquals(1, registry.size());
+        assertNotSame(first, registry.intern("Canada"));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void intern_GivesDistinctHandlesResolvableByGet() {
+        TeamRegistry registry = new TeamRegistry();
+        Team mexico = registry.intern("Mexico");
+        Team canada = registry.intern("Canada");
+
+        assertTrue(mexico.getHandle() >= 0);
+        assertNotEquals(mexico.getHandle(), canada.getHandle());
+        assertSame(mexico, registry.get(mexico.getHandle()));
+        assertSame(canada, registry.get(canada.getHandle()));
+        assertEquals(Team.NO_HANDLE, new Team("Spain").getHandle());
+    }
+
+    @Test
+    void get_UnknownHandle_ThrowsNotFound() {
+        TeamRegistry registry = new TeamRegistry();
+
+        assertThrows(NotFoundException.class, () -> registry.get(-1));
+        assertThrows(NotFoundException.class, () -> registry.get(TeamRegistry.MAX_TEAMS));
+    }
+
+    @Test
+    void intern_InvalidName_Throws() {
+        TeamRegistry registry = new TeamRegistry();
+
+        assertThrows(InvalidArgumentException.class, () -> registry.intern(null));
+        assertThrows(InvalidArgumentException.class, () -> registry.intern(" "));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void internByExternalId_KeepsTheFirstNameAndIsSeparateFromNames() {
+        TeamRegistry registry = new TeamRegistry();
+
+        Team team = registry.internByExternalId("feed-42", "Mexico");
+
+        assertSame(team, registry.internByExternalId("feed-42", "México"));
+        assertEquals("Mexico", team.getName());
+        assertSame(team, registry.findByExternalId("feed-42").orElseThrow());
+        assertTrue(registry.findByName("Mexico").isEmpty());
+        assertThrows(InvalidArgumentException.class, () -> registry.internByExternalId(null, "Mexico"));
+    }
+
+    @Test
+    void intern_Concurrently_RegistersEveryNameOnce() throws InterruptedException {
+        TeamRegistry registry = new TeamRegistry();
+        int threads = 8;
+        int names = 500;
+        Set<Team> interned = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < names; i++) {
+                        interned.add(registry.intern("Team " + i));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(names, interned.size());
+        assertEquals(names, registry.size());
+        Set<Integer> handles = new HashSet<>();
+        for (Team team : interned) {
+            assertTrue(handles.add(team.getHandle()));
+            assertSame(team, registry.get(team.getHandle()));
+        }
+    }
+
+    @Test
+    void occupancy_IsTrackedByHandleAndByUuid() {
+        TeamRegistry registry = new TeamRegistry();
+        Team home = registry.intern("Home");
+        Team away = registry.intern("Away");
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Match match = new Match(home, away);
+
+        assertTrue(index.reserve(match));
+        assertTrue(index.isPlaying(home));
+        assertTrue(index.isOccupied(away.getUuid()));
+        assertFalse(index.reserve(new Match(home, registry.intern("Other"))));
+        assertFalse(index.isPlaying(registry.intern("Other")));
+
+        index.release(match);
+        assertFalse(index.isPlaying(home));
+        assertFalse(index.isOccupied(away.getUuid()));
+    }
+
+    @Test
+    void storage_RejectsSecondMatchOfInternedTeam() {
+        TeamRegistry registry = new TeamRegistry();
+        FootballWorldScoreBoardStorage storage = new FootballWorldScoreBoardStorage();
+        Team home = registry.intern("Home");
+
+        assertTrue(storage.addMatch(new Match(home, registry.intern("Away"))));
+
+        assertTrue(storage.isTeamInMatch(home));
+        assertFalse(storage.addMatch(new Match(registry.intern("Other"), home)));
+    }
+
+    @Test
+    void deserializedTeam_HasNoHandle() throws Exception {
+        Team team = new TeamRegistry().intern("Mexico");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(team);
+        }
+
+        Team copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Team) in.readObject();
+        }
+
+        assertEquals(team.getUuid(), copy.getUuid());
+        assertEquals(team.getName(), copy.getName());
+        assertEquals(Team.NO_HANDLE, copy.getHandle());
+    }
+}
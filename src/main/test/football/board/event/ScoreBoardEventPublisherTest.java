@@ -0,0 +1,129 @@
+package football.board.event;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreBoardEventPublisherTest {
+
+    private final ScoreBoardEventPublisher publisher = new ScoreBoardEventPublisher();
+
+    @Test
+    void publish_DeliversEventsInOrder() throws InterruptedException {
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        Match match = new Match(new Team("Home"), new Team("Away"));
+
+        try (Subscription ignored = publisher.subscribe(received::add, 16, OverflowPolicy.DROP)) {
+            publisher.publish(new MatchStarted(match));
+            publisher.publish(new ScoreChanged(match, match.withScore(1, 0)));
+            publisher.publish(new MatchFinished(match));
+
+            assertInstanceOf(MatchStarted.class, received.poll(5, TimeUnit.SECONDS));
+            assertInstanceOf(ScoreChanged.class, received.poll(5, TimeUnit.SECONDS));
+            assertInstanceOf(MatchFinished.class, received.poll(5, TimeUnit.SECONDS));
+        }
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void publish_SlowListenerWithDropPolicy_DropsWithoutBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        Match match = new Match(new Team("Home"), new Team("Away"));
+
+        try (Subscription subscription = publisher.subscribe(event -> {
+            busy.countDown();
+            awaitQuietly(release);
+        }, 2, OverflowPolicy.DROP)) {
+            publisher.publish(new MatchStarted(match));
+            assertTrue(busy.await(5, TimeUnit.SECONDS));
+            for (int goals = 1; goals <= 10; goals++) {
+                publisher.publish(new ScoreChanged(match, match.withScore(goals, 0)));
+            }
+
+            assertEquals(2, subscription.getPendingCount());
+            assertEquals(8, subscription.getDroppedCount());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void publish_SlowListenerWithCoalescePolicy_KeepsLatestScorePerMatch() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        Match match = new Match(new Team("Home"), new Team("Away"));
+
+        try (Subscription subscription = publisher.subscribe(event -> {
+            busy.countDown();
+            awaitQuietly(release);
+            received.add(event);
+        }, 4, OverflowPolicy.COALESCE)) {
+            publisher.publish(new MatchStarted(match));
+            assertTrue(busy.await(5, TimeUnit.SECONDS));
+            Match current = match;
+            for (int goals = 1; goals <= 10; goals++) {
+                Match next = current.withScore(goals, 0);
+                publisher.publish(new ScoreChanged(current, next));
+                current = next;
+            }
+            publisher.publish(new MatchFinished(current));
+
+            assertEquals(2, subscription.getPendingCount());
+            assertEquals(9, subscription.getCoalescedCount());
+            assertEquals(0, subscription.getDroppedCount());
+            release.countDown();
+
+            assertInstanceOf(MatchStarted.class, received.poll(5, TimeUnit.SECONDS));
+            ScoreChanged latest = (ScoreChanged) received.poll(5, TimeUnit.SECONDS);
+            assertEquals(10, latest.getMatch().getHomeScore());
+            assertInstanceOf(MatchFinished.class, received.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void publish_FailingListener_KeepsDelivering() throws InterruptedException {
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        Match match = new Match(new Team("Home"), new Team("Away"));
+
+        try (Subscription subscription = publisher.subscribe(event -> {
+            received.add(event);
+            throw new IllegalStateException("listener failure");
+        }, 16, OverflowPolicy.DROP)) {
+            publisher.publish(new MatchStarted(match));
+            publisher.publish(new MatchFinished(match));
+
+            assertNotNull(received.poll(5, TimeUnit.SECONDS));
+            assertNotNull(received.poll(5, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (subscription.getFailedCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(2, subscription.getFailedCount());
+            assertEquals("listener failure", subscription.getLastFailure().orElseThrow().getMessage());
+        }
+    }
+
+    @Test
+    void subscribe_InvalidArguments_ThrowsException() {
+        assertThrows(InvalidArgumentException.class, () -> publisher.subscribe(null, 1, OverflowPolicy.DROP));
+        assertThrows(InvalidArgumentException.class, () -> publisher.subscribe(event -> { }, 1, null));
+        assertThrows(InvalidArgumentException.class, () -> publisher.subscribe(event -> { }, 0, OverflowPolicy.DROP));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package football.board.feed;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.ScoreBoardException;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.service.UpdateStatus;
+import football.board.service.impl.ConcurrentFootballService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedGatewayTest {
+
+    @Test
+    void eventsOfOneMatch_AreAppliedInOrderAndNeverConcurrently() throws Exception {
+        RecordingBoard board = new RecordingBoard();
+        int matchCount = 40;
+        int goals = 200;
+        List<UUID> matchUuids = new ArrayList<>();
+        for (int i = 0; i < matchCount; i++) {
+            matchUuids.add(board.newMatch(new Team("Home " + i), new Team("Away " + i)));
+        }
+        try (FeedGateway gateway = new FeedGateway(board)) {
+            List<Thread> feeds = new ArrayList<>();
+            for (int f = 0; f < 4; f++) {
+                List<UUID> feedMatches = matchUuids.subList(f * 10, f * 10 + 10);
+                feeds.add(gateway.connect("feed-" + f, target -> {
+                    for (int goal = 1; goal <= goals; goal++) {
+                        for (UUID matchUuid : feedMatches) {
+                            target.submitScore(matchUuid, goal, 0);
+                        }
+                    }
+                }));
+            }
+            for (Thread feed : feeds) {
+                feed.join(10_000);
+            }
+            assertTrue(gateway.awaitIdle(10, TimeUnit.SECONDS));
+
+            assertEquals((long) matchCount * goals, gateway.getAppliedEvents());
+            assertEquals(0, gateway.getFailedEvents());
+            assertEquals(0, gateway.getQueueDepth());
+        }
+        assertFalse(board.outOfOrder.get());
+        assertFalse(board.overlapping.get());
+        for (Match match : board.getSortedSummary()) {
+            assertEquals(goals, match.getHomeScore());
+        }
+    }
+
+    @Test
+    void fullGateway_RejectsTrySubmitAndCountsIt() throws Exception {
+        ConcurrentFootballService board = new ConcurrentFootballService();
+        UUID matchUuid = board.newMatch(new Team("Home"), new Team("Away"));
+        ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        FeedGateway gateway = new FeedGateway(board, 3, new BoardMetrics(),
+                Executors.defaultThreadFactory(), pending::add);
+
+        assertTrue(gateway.trySubmitScore(matchUuid, 1, 0));
+        assertTrue(gateway.trySubmitScore(matchUuid, 2, 0));
+        assertTrue(gateway.trySubmitScore(matchUuid, 3, 0));
+        assertFalse(gateway.trySubmitScore(matchUuid, 4, 0));
+
+        assertEquals(3, gateway.getQueueDepth());
+        assertEquals(1, gateway.getMatchQueueCount());
+        assertEquals(1, gateway.getRejectedEvents());
+        assertEquals(1, pending.size());
+        assertFalse(gateway.awaitIdle(10, TimeUnit.MILLISECONDS));
+
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+
+        assertEquals(0, gateway.getQueueDepth());
+        assertEquals(0, gateway.getMatchQueueCount());
+        assertEquals(3, gateway.getAppliedEvents());
+        assertEquals(3, board.getSortedSummary().iterator().next().getHomeScore());
+        assertEquals(3, gateway.getMetrics().getHistogram(Operation.FEED_QUEUE_LAG).getCount());
+    }
+
+    @Test
+    void rejectedEvents_AreCountedAsFailed() throws Exception {
+        ConcurrentFootballService board = new ConcurrentFootballService();
+        UUID matchUuid = board.newMatch(new Team("Home"), new Team("Away"));
+        try (FeedGateway gateway = new FeedGateway(board)) {
+            gateway.submitScore(UUID.randomUUID(), 1, 0);
+            gateway.submitScore(matchUuid, -1, 0);
+            gateway.submitFinish(matchUuid);
+            assertTrue(gateway.awaitIdle(5, TimeUnit.SECONDS));
+
+            assertEquals(1, gateway.getAppliedEvents());
+            assertEquals(2, gateway.getFailedEvents());
+            assertTrue(board.getSortedSummary().isEmpty());
+            assertThrows(InvalidArgumentException.class, () -> gateway.submitScore(null, 1, 0));
+        }
+    }
+
+    @Test
+    void close_StopsFeedsAndRejectsLaterEvents() throws Exception {
+        ConcurrentFootballService board = new ConcurrentFootballService();
+        UUID matchUuid = board.newMatch(new Team("Home"), new Team("Away"));
+        FeedGateway gateway = new FeedGateway(board);
+        Thread failing = gateway.connect("failing", target -> {
+            throw new IllegalStateException("connection lost");
+        });
+        Thread endless = gateway.connect("endless", target -> {
+            while (true) {
+                target.submitScore(matchUuid, 1, 1);
+                Thread.sleep(1);
+            }
+        });
+        failing.join(5_000);
+
+        gateway.close();
+        endless.join(5_000);
+
+        assertFalse(endless.isAlive());
+        assertEquals(1, gateway.getFailedFeeds());
+        assertEquals(0, gateway.getConnectedFeeds());
+        assertEquals(0, gateway.getQueueDepth());
+        assertThrows(ScoreBoardException.class, () -> gateway.submitScore(matchUuid, 2, 2));
+        assertThrows(ScoreBoardException.class, () -> gateway.connect("late", target -> { }));
+    }
+
+    /**
+     * A board recording whether the updates of a match arrived in order and whether two overlapped.
+     */
+    private static final class RecordingBoard extends ConcurrentFootballService {
+        private final Map<UUID, Integer> lastGoal = new ConcurrentHashMap<>();
+        private final Map<UUID, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        private final AtomicBoolean outOfOrder = new AtomicBoolean();
+        private final AtomicBoolean overlapping = new AtomicBoolean();
+
+        @Override
+        public UpdateStatus tryUpdateScore(UUID matchUuid, int homeScore, int awayScore) {
+            AtomicInteger running = inFlight.computeIfAbsent(matchUuid, uuid -> new AtomicInteger());
+            if (running.incrementAndGet() > 1) {
+                overlapping.set(true);
+            }
+            try {
+                Integer previous = lastGoal.put(matchUuid, homeScore);
+                if (previous != null && previous + 1 != homeScore) {
+                    outOfOrder.set(true);
+                }
+                return super.tryUpdateScore(matchUuid, homeScore, awayScore);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
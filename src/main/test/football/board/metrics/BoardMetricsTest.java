@@ -0,0 +1,118 @@
+package football.board.metrics;
+
+import football.board.entity.SummaryOrder;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.service.impl.ConcurrentFootballService;
+import football.board.service.impl.InstrumentedBoardService;
+import football.board.storage.InstrumentedStorage;
+import football.board.storage.OrderedScoreBoardStorage;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardMetricsTest {
+
+    @Test
+    void histogram_ReportsPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean());
+        assertWithin(5_000_000, histogram.getPercentile(50));
+        assertWithin(9_900_000, histogram.getPercentile(99));
+        assertEquals(10_000_000, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    void histogram_BucketsCoverEveryValue() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestValue(index - 1) < value);
+        }
+        assertTrue(LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE))
+                >= LatencyHistogram.MAX_VALUE);
+    }
+
+    @Test
+    void disabledMetrics_RecordNothing() {
+        BoardMetrics metrics = new BoardMetrics(false);
+
+        long start = metrics.start();
+        assertEquals(BoardMetrics.NOT_TIMED, start);
+        assertEquals(BoardMetrics.NOT_TIMED, metrics.record(Operation.NEW_MATCH, start));
+        metrics.recordException(new NotFoundException(UUID.randomUUID()));
+
+        assertEquals(0, metrics.getHistogram(Operation.NEW_MATCH).getCount());
+        assertTrue(metrics.getExceptionCounts().isEmpty());
+    }
+
+    @Test
+    void instrumentedService_RecordsOperationsLocksSizeAndExceptions() {
+        BoardMetrics metrics = new BoardMetrics();
+        ConcurrentFootballService board = new ConcurrentFootballService(
+                new InstrumentedStorage(new OrderedScoreBoardStorage(), metrics), SummaryOrder.MOST_RECENT_FIRST, metrics);
+        InstrumentedBoardService service = new InstrumentedBoardService(board, metrics);
+
+        UUID first = service.newMatch(new Team("Mexico"), new Team("Canada"));
+        service.newMatch(new Team("Spain"), new Team("Brazil"));
+        service.updateScore(first, 1, 0);
+        service.getSortedSummary();
+        assertThrows(NotFoundException.class, () -> service.updateScore(UUID.randomUUID(), 1, 0));
+        assertThrows(InvalidArgumentException.class, () -> service.updateScore(first, -1, 0));
+        service.finishMatchByUUID(first);
+
+        assertEquals(2, metrics.getHistogram(Operation.NEW_MATCH).getCount());
+        assertEquals(3, metrics.getHistogram(Operation.UPDATE_SCORE).getCount());
+        assertEquals(1, metrics.getHistogram(Operation.FINISH_MATCH).getCount());
+        assertEquals(2, metrics.getHistogram(Operation.STORAGE_ADD_MATCH).getCount());
+        assertEquals(2, metrics.getHistogram(Operation.STORAGE_UPDATE_SCORE).getCount());
+        assertEquals(7, metrics.getHistogram(Operation.LOCK_WAIT).getCount());
+        assertEquals(7, metrics.getHistogram(Operation.LOCK_HOLD).getCount());
+        assertEquals(1, metrics.getBoardSize());
+        assertEquals(Map.of("InvalidArgumentException", 1L, "NotFoundException", 1L), metrics.getExceptionCounts());
+
+        String text = metrics.getTextSnapshot();
+        assertTrue(text.contains("UPDATE_SCORE"));
+        assertTrue(text.contains("boardSize=1"));
+        assertFalse(text.contains("SUMMARY_PAGE"));
+    }
+
+    @Test
+    void registerMBeans_ExposesMetricsThroughJmx() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        BoardMetrics metrics = new BoardMetrics();
+        metrics.record(Operation.UPDATE_SCORE, metrics.start());
+        metrics.registerMBeans(server, "test");
+
+        ObjectName operation = new ObjectName("football.board:type=OperationStats,board=\"test\",operation=UPDATE_SCORE");
+        assertEquals(1L, server.getAttribute(operation, "Count"));
+        ObjectName board = new ObjectName("football.board:type=BoardMetrics,board=\"test\"");
+        assertEquals(Boolean.TRUE, server.getAttribute(board, "Enabled"));
+        assertThrows(InvalidArgumentException.class, () -> metrics.registerMBeans(server, "test"));
+
+        metrics.unregisterMBeans(server, "test");
+        assertFalse(server.isRegistered(operation));
+        assertFalse(server.isRegistered(board));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -2,54 +2,63 @@ package football.board.service.impl;
 
 
 import football.board.entity.Team;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConcurrentFootballServiceTest {
 
-    @Test
-    void concurrentUsage_ShouldNotThrowExceptions() throws InterruptedException {
-        ConcurrentFootballService concurrentFootballService = new ConcurrentFootballService();
+    static Stream<Named<Supplier<FootballWorldScoreBoardService>>> concurrentServices() {
+        return Stream.of(
+                Named.of("ConcurrentFootballService", ConcurrentFootballService::new),
+                Named.of("StripedConcurrentFootballService", StripedConcurrentFootballService::new),
+                Named.of("StampedLockFootballService", StampedLockFootballService::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrentServices")
+    void concurrentUsage_ShouldNotThrowExceptions(Supplier<FootballWorldScoreBoardService> serviceFactory) throws Exception {
+        FootballWorldScoreBoardService service = serviceFactory.get();
 
         int numThreads = 10;
         ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
         CountDownLatch startLatch = new CountDownLatch(1);
-        CountDownLatch endLatch = new CountDownLatch(numThreads);
+        List<Future<?>> results = new ArrayList<>();
 
         for (int i = 0; i < numThreads; i++) {
-            executorService.submit(() -> {
-                try {
-                    startLatch.await(); // Wait until all threads are ready
-                    performConcurrentOperations(concurrentFootballService);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    executorService.shutdown();
-                } finally {
-                    endLatch.countDown(); // Signal that this thread has finished
-                }
-            });
+            results.add(executorService.submit(() -> {
+                startLatch.await(); // Wait until all threads are ready
+                performConcurrentOperations(service);
+                return null;
+            }));
         }
 
         startLatch.countDown(); // Allow all threads to start simultaneously
-        endLatch.await(); // Wait until all threads have finished
-
-        executorService.shutdown(); // Shutdown the executor service
-        executorService.awaitTermination(10, TimeUnit.SECONDS);
-        // If no exceptions are thrown during concurrent usage, the test passes
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        for (Future<?> result : results) {
+            result.get(); // Rethrows the failure of a worker
+        }
+        assertTrue(service.getSortedSummary().isEmpty());
     }
 
-    private void performConcurrentOperations(ConcurrentFootballService concurrentFootballService) {
-        Team homeTeam = new Team("Home");
-        Team awayTeam = new Team("Away");
-
-        assertDoesNotThrow(() -> concurrentFootballService.newMatch(homeTeam, awayTeam));
-        assertDoesNotThrow(() -> concurrentFootballService.updateScore(concurrentFootballService.getSortedSummary().iterator().next().getMatchUuid(), 1, 1));
-        assertDoesNotThrow(() -> concurrentFootballService.finishMatchByUUID(concurrentFootballService.getSortedSummary().iterator().next().getMatchUuid()));
+    private void performConcurrentOperations(FootballWorldScoreBoardService service) {
+        UUID matchUuid = service.newMatch(new Team("Home"), new Team("Away"));
+        service.updateScore(matchUuid, 1, 1);
+        service.getSortedSummary();
+        service.finishMatchByUUID(matchUuid);
     }
 }
@@ -1,14 +1,29 @@
 package football.board.service.impl;
 
 import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.ScoreUpdate;
 import football.board.entity.Team;
 import football.board.exception.AlreadyExistsException;
 import football.board.exception.InvalidArgumentException;
+import football.board.event.MatchFinished;
+import football.board.event.MatchStarted;
+import football.board.event.OverflowPolicy;
+import football.board.event.RankChanged;
+import football.board.event.ScoreBoardEvent;
+import football.board.event.ScoreChanged;
+import football.board.event.Subscription;
 import football.board.exception.NotFoundException;
+import football.board.exception.ScoreBoardException;
+import football.board.service.UpdateStatus;
+import football.board.storage.OrderedScoreBoardStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,6 +76,16 @@ class FootballWorldScoreBoardServiceTest {
         );
     }
 
+    @Test
+    void newMatch_TeamsOfFinishedMatch_CanPlayAgain() {
+        Team homeTeam = new Team("home");
+        Team awayTeam = new Team("away");
+        UUID uuid = scoreBoardService.newMatch(homeTeam, awayTeam);
+        scoreBoardService.finishMatchByUUID(uuid);
+
+        assertDoesNotThrow(() -> scoreBoardService.newMatch(awayTeam, homeTeam));
+    }
+
     @Test
     void newMatch_InvalidInput_NullInput() {
         assertAll(
@@ -107,6 +132,58 @@ class FootballWorldScoreBoardServiceTest {
         );
     }
 
+    @Test
+    void updateScore_AboveMaximum_ThrowsException() {
+        UUID uuid = scoreBoardService.newMatch(new Team("home"), new Team("away"));
+
+        assertAll(
+                () -> assertThrows(InvalidArgumentException.class, () -> scoreBoardService.updateScore(uuid, Score.MAX_SCORE + 1, 0)),
+                () -> assertThrows(InvalidArgumentException.class, () -> scoreBoardService.updateScore(uuid, Integer.valueOf(0), Integer.valueOf(Score.MAX_SCORE + 1)))
+        );
+        assertDoesNotThrow(() -> scoreBoardService.updateScore(uuid, Score.MAX_SCORE, Score.MAX_SCORE));
+        assertEquals(Score.MAX_SCORE, getMatchById(uuid).getAwayScore());
+    }
+
+    @Test
+    void updateScore_StoredMatchesAreNotChangedInPlace() {
+        UUID uuid = scoreBoardService.newMatch(new Team("home"), new Team("away"));
+        Match before = getMatchById(uuid);
+
+        scoreBoardService.updateScore(uuid, 3, 2);
+
+        assertEquals(0, before.getHomeScore());
+        assertEquals(3, getMatchById(uuid).getHomeScore());
+        assertEquals(before.getScoreVersion() + 1, getMatchById(uuid).getScoreVersion());
+    }
+
+    @Test
+    void updateScores_MixedBatch_ReportsStatusPerEntry() {
+        UUID match1 = scoreBoardService.newMatch(new Team("home1"), new Team("away1"));
+        UUID match2 = scoreBoardService.newMatch(new Team("home2"), new Team("away2"));
+        List<ScoreUpdate> updates = Arrays.asList(
+                new ScoreUpdate(match1, 1, 0),
+                new ScoreUpdate(UUID.randomUUID(), 1, 1),
+                new ScoreUpdate(match2, -1, 0),
+                null,
+                new ScoreUpdate(match2, 3, 3),
+                new ScoreUpdate(match1, 2, 0));
+
+        List<UpdateStatus> statuses = scoreBoardService.updateScores(updates);
+
+        assertEquals(List.of(UpdateStatus.APPLIED, UpdateStatus.NOT_FOUND, UpdateStatus.INVALID_ARGUMENT,
+                UpdateStatus.INVALID_ARGUMENT, UpdateStatus.APPLIED, UpdateStatus.APPLIED), statuses);
+        assertEquals(2, getMatchById(match1).getHomeScore());
+        assertEquals(3, getMatchById(match2).getAwayScore());
+        assertEquals(match2, scoreBoardService.getSortedSummary().iterator().next().getMatchUuid());
+        assertTrue(checkOrder(new ArrayList<>(scoreBoardService.getSortedSummary())));
+    }
+
+    @Test
+    void updateScores_NullBatch_ThrowsException() {
+        assertThrows(InvalidArgumentException.class, () -> scoreBoardService.updateScores(null));
+        assertEquals(List.of(), scoreBoardService.updateScores(List.of()));
+    }
+
     @Test
     void finishMatchByUUID_ExistingMatch_RemovesMatch() {
         List<Match> sortedSummary = new ArrayList<>(scoreBoardService.getSortedSummary());
@@ -126,6 +203,40 @@ class FootballWorldScoreBoardServiceTest {
         assertThrows(NotFoundException.class, () -> scoreBoardService.finishMatchByUUID(null));
     }
 
+    @Test
+    void tryUpdateScoreAndTryFinish_ReportStatusInsteadOfThrowing() {
+        UUID matchUuid = scoreBoardService.getSortedSummary().iterator().next().getMatchUuid();
+
+        assertEquals(UpdateStatus.APPLIED, scoreBoardService.tryUpdateScore(matchUuid, 2, 1));
+        assertEquals(3, scoreBoardService.getSortedSummary().iterator().next().getTotalScore());
+        assertEquals(UpdateStatus.INVALID_ARGUMENT, scoreBoardService.tryUpdateScore(matchUuid, -1, 1));
+        assertEquals(UpdateStatus.INVALID_ARGUMENT, scoreBoardService.tryUpdateScore(null, 1, 1));
+        assertEquals(UpdateStatus.NOT_FOUND, scoreBoardService.tryUpdateScore(UUID.randomUUID(), 1, 1));
+
+        assertEquals(UpdateStatus.APPLIED, scoreBoardService.tryFinishMatchByUUID(matchUuid));
+        assertEquals(UpdateStatus.NOT_FOUND, scoreBoardService.tryFinishMatchByUUID(matchUuid));
+        assertEquals(UpdateStatus.NOT_FOUND, scoreBoardService.tryUpdateScore(matchUuid, 3, 1));
+        assertEquals(UpdateStatus.INVALID_ARGUMENT, scoreBoardService.tryFinishMatchByUUID(null));
+        assertEquals(1, scoreBoardService.getSortedSummary().size());
+    }
+
+    @Test
+    void stackTraceCaptureOff_ExceptionsKeepTypeAndMessage() {
+        UUID unknown = UUID.randomUUID();
+        ScoreBoardException.setStackTraceCapture(false);
+        try {
+            NotFoundException thrown = assertThrows(NotFoundException.class,
+                    () -> scoreBoardService.finishMatchByUUID(unknown));
+            assertEquals(0, thrown.getStackTrace().length);
+            assertEquals(unknown, thrown.getMatchUuid());
+            assertEquals("Match with UUID: " + unknown + " not found", thrown.getMessage());
+        } finally {
+            ScoreBoardException.setStackTraceCapture(true);
+        }
+        assertTrue(assertThrows(NotFoundException.class,
+                () -> scoreBoardService.finishMatchByUUID(unknown)).getStackTrace().length > 0);
+    }
+
     @Test
     void getSortedSummary_ReturnsSortedMap() {
         UUID match2Uuid = scoreBoardService.newMatch(new Team("home2"), new Team("away2"));
@@ -136,6 +247,114 @@ class FootballWorldScoreBoardServiceTest {
         assertTrue(checkOrder(new ArrayList<>(scoreBoardService.getSortedSummary())));
     }
 
+    @Test
+    void getTopMatchesAndPages_InvalidLimit_ThrowsException() {
+        assertAll(
+                () -> assertThrows(InvalidArgumentException.class, () -> scoreBoardService.getTopMatches(0)),
+                () -> assertThrows(InvalidArgumentException.class, () -> scoreBoardService.getSummaryPage(null, -1))
+        );
+    }
+
+    @Test
+    void getTopMatches_ReturnsHighestScores() {
+        UUID match2Uuid = scoreBoardService.newMatch(new Team("home2"), new Team("away2"));
+        UUID match3Uuid = scoreBoardService.newMatch(new Team("home3"), new Team("away3"));
+        scoreBoardService.updateScore(match2Uuid, 1, 1);
+        scoreBoardService.updateScore(match3Uuid, 2, 2);
+
+        List<Match> top = scoreBoardService.getTopMatches(2);
+
+        assertEquals(List.of(match3Uuid, match2Uuid), List.of(top.get(0).getMatchUuid(), top.get(1).getMatchUuid()));
+        assertEquals(2, scoreBoardService.getSummaryPage(null, 2).getMatches().size());
+    }
+
+    @Test
+    void subscribe_PublishesMatchLifecycleAndRankEvents() throws InterruptedException {
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        try (Subscription ignored = scoreBoardService.subscribe(received::add, 16, OverflowPolicy.DROP)) {
+            UUID matchUuid = scoreBoardService.newMatch(new Team("home3"), new Team("away3"));
+            List<Match> summary = new ArrayList<>(scoreBoardService.getSortedSummary());
+            UUID oldestUuid = summary.get(2).getMatchUuid();
+            scoreBoardService.updateScore(oldestUuid, 1, 0);
+            scoreBoardService.finishMatchByUUID(matchUuid);
+
+            assertEquals(matchUuid, assertInstanceOf(MatchStarted.class, received.poll(5, TimeUnit.SECONDS)).getMatchUuid());
+            assertEquals(matchUuid, summary.get(0).getMatchUuid());
+            ScoreChanged scoreChanged = assertInstanceOf(ScoreChanged.class, received.poll(5, TimeUnit.SECONDS));
+            assertEquals(0, scoreChanged.getPreviousHomeScore());
+            assertEquals(1, scoreChanged.getMatch().getHomeScore());
+            RankChanged rankChanged = assertInstanceOf(RankChanged.class, received.poll(5, TimeUnit.SECONDS));
+            assertEquals(oldestUuid, rankChanged.getMatchUuid());
+            assertEquals(2, rankChanged.getPreviousRank());
+            assertEquals(0, rankChanged.getRank());
+            assertEquals(matchUuid, assertInstanceOf(MatchFinished.class, received.poll(5, TimeUnit.SECONDS)).getMatchUuid());
+        }
+    }
+
+    @Test
+    void subscribe_BatchUpdate_PublishesChangesOfAppliedEntries() throws InterruptedException {
+        List<Match> matches = new ArrayList<>(scoreBoardService.getSortedSummary());
+        UUID first = matches.get(0).getMatchUuid();
+        UUID second = matches.get(1).getMatchUuid();
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        try (Subscription ignored = scoreBoardService.subscribe(received::add, 16, OverflowPolicy.DROP)) {
+            scoreBoardService.updateScores(List.of(
+                    new ScoreUpdate(second, 2, 0),
+                    new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+
+            ScoreChanged scoreChanged = assertInstanceOf(ScoreChanged.class, received.poll(5, TimeUnit.SECONDS));
+            assertEquals(second, scoreChanged.getMatchUuid());
+            RankChanged rankChanged = assertInstanceOf(RankChanged.class, received.poll(5, TimeUnit.SECONDS));
+            assertEquals(1, rankChanged.getPreviousRank());
+            assertEquals(0, rankChanged.getRank());
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+            assertEquals(second, scoreBoardService.getSortedSummary().iterator().next().getMatchUuid());
+            assertNotEquals(first, second);
+        }
+    }
+
+    @Test
+    void subscribe_BatchMovingSeveralMatches_PublishesRanksBeforeAndAfterTheBatch() throws InterruptedException {
+        FootballWorldScoreBoardService service = new FootballWorldScoreBoardService(new OrderedScoreBoardStorage());
+        for (int i = 0; i < 6; i++) {
+            UUID matchUuid = service.newMatch(new Team("Home" + i), new Team("Away" + i));
+            service.updateScore(matchUuid, i % 3, 0);
+        }
+        List<UUID> before = uuids(service.getSortedSummary());
+        List<ScoreUpdate> batch = List.of(
+                new ScoreUpdate(before.get(5), 4, 0),
+                new ScoreUpdate(before.get(0), 0, 0),
+                new ScoreUpdate(before.get(3), 3, 0));
+        BlockingQueue<ScoreBoardEvent> received = new LinkedBlockingQueue<>();
+        try (Subscription ignored = service.subscribe(received::add, 16, OverflowPolicy.DROP)) {
+            service.updateScores(batch);
+            List<UUID> after = uuids(service.getSortedSummary());
+
+            int rankChanges = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                assertInstanceOf(ScoreChanged.class, received.poll(5, TimeUnit.SECONDS));
+                UUID matchUuid = batch.get(i).getMatchUuid();
+                if (before.indexOf(matchUuid) != after.indexOf(matchUuid)) {
+                    RankChanged rankChanged = assertInstanceOf(RankChanged.class, received.poll(5, TimeUnit.SECONDS));
+                    assertEquals(matchUuid, rankChanged.getMatchUuid());
+                    assertEquals(before.indexOf(matchUuid), rankChanged.getPreviousRank());
+                    assertEquals(after.indexOf(matchUuid), rankChanged.getRank());
+                    rankChanges++;
+                }
+            }
+            assertEquals(3, rankChanges);
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static List<UUID> uuids(Collection<Match> matches) {
+        List<UUID> uuids = new ArrayList<>();
+        for (Match match : matches) {
+            uuids.add(match.getMatchUuid());
+        }
+        return uuids;
+    }
+
     private boolean checkOrder(List<Match> list) {
         List<Match> copyOfList = new ArrayList<>(list);
         copyOfList.sort(Collections.reverseOrder(Comparator.comparingInt(match -> match.getHomeScore() + match.getAwayScore())));
@@ -0,0 +1,186 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryOrder;
+import football.board.entity.Team;
+import football.board.exception.AlreadyExistsException;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.exception.ScoreBoardException;
+import football.board.storage.OrderedScoreBoardStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreBoardEngineTest {
+
+    private ScoreBoardEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ScoreBoardEngine(new OrderedScoreBoardStorage(), SummaryOrder.MOST_RECENT_FIRST, 16, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void commands_AreAppliedAndVisibleWhenFutureCompletes() throws Exception {
+        UUID first = engine.newMatch(new Team("Mexico"), new Team("Canada")).get();
+        UUID second = engine.newMatch(new Team("Spain"), new Team("Brazil")).get();
+        engine.updateScore(first, 0, 5).get();
+        engine.updateScore(second, 10, 2).get();
+
+        List<Match> summary = new ArrayList<>(engine.getSortedSummary());
+        assertEquals(List.of(second, first), List.of(summary.get(0).getMatchUuid(), summary.get(1).getMatchUuid()));
+        assertEquals(12, summary.get(0).getTotalScore());
+
+        engine.finishMatchByUUID(second).get();
+        assertEquals(1, engine.getSortedSummary().size());
+        assertEquals(first, engine.getTopMatches(1).get(0).getMatchUuid());
+        assertEquals(1, engine.getSummaryPage(null, 10).getMatches().size());
+    }
+
+    @Test
+    void failures_CompleteFutureExceptionally() throws Exception {
+        Team mexico = new Team("Mexico");
+        UUID matchUuid = engine.newMatch(mexico, new Team("Canada")).get();
+
+        assertFailsWith(NotFoundException.class, engine.updateScore(UUID.randomUUID(), 1, 1));
+        assertFailsWith(InvalidArgumentException.class, engine.updateScore(matchUuid, -1, 1));
+        assertFailsWith(InvalidArgumentException.class, engine.updateScore(null, 1, 1));
+        assertFailsWith(NotFoundException.class, engine.finishMatchByUUID(UUID.randomUUID()));
+        assertFailsWith(AlreadyExistsException.class, engine.newMatch(mexico, new Team("Spain")));
+
+        engine.updateScore(matchUuid, 1, 0).get();
+        assertEquals(1, engine.getSortedSummary().iterator().next().getTotalScore());
+    }
+
+    @Test
+    void updates_FromOneProducerAreAppliedInOrder() throws Exception {
+        UUID matchUuid = engine.newMatch(new Team("Mexico"), new Team("Canada")).get();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int goals = 1; goals <= 100; goals++) {
+            futures.add(engine.updateScore(matchUuid, goals, 0));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(100, engine.getSortedSummary().iterator().next().getHomeScore());
+    }
+
+    @Test
+    void concurrentProducers_AllCommandsAreApplied() throws Exception {
+        int producers = 4;
+        int updatesPerProducer = 500;
+        List<UUID> matches = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            matches.add(engine.newMatch(new Team("Home" + i), new Team("Away" + i)).get());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<Future<?>> results = new ArrayList<>();
+        for (UUID matchUuid : matches) {
+            results.add(executor.submit(() -> {
+                CompletableFuture<Void> last = null;
+                for (int goals = 1; goals <= updatesPerProducer; goals++) {
+                    last = engine.updateScore(matchUuid, goals % 100, goals / 100);
+                }
+                last.join();
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (Match match : engine.getSortedSummary()) {
+            assertEquals(0, match.getHomeScore());
+            assertEquals(5, match.getAwayScore());
+        }
+        assertEquals(producers + producers * updatesPerProducer, engine.getProcessedCommands());
+        assertTrue(engine.getProcessedBatches() <= engine.getProcessedCommands());
+        assertTrue(engine.getMaxLatencyNanos() >= engine.getMeanLatencyNanos());
+        assertEquals(0, engine.getQueueDepth());
+    }
+
+    @Test
+    void close_DrainsSubmittedCommandsAndRejectsNewOnes() throws Exception {
+        CompletableFuture<UUID> pending = engine.newMatch(new Team("Mexico"), new Team("Canada"));
+        engine.close();
+
+        assertNotNull(pending.get(5, TimeUnit.SECONDS));
+        assertFailsWith(ScoreBoardException.class, engine.newMatch(new Team("Spain"), new Team("Brazil")));
+    }
+
+    @Test
+    void close_CompletesEveryCommandSubmittedConcurrently() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            ScoreBoardEngine closing = new ScoreBoardEngine(new OrderedScoreBoardStorage(), SummaryOrder.MOST_RECENT_FIRST, 16, 4);
+            UUID matchUuid = closing.newMatch(new Team("Home"), new Team("Away")).get();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<Future<List<CompletableFuture<Void>>>> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                producers.add(executor.submit(() -> {
+                    List<CompletableFuture<Void>> futures = new ArrayList<>();
+                    for (int goals = 0; goals < 200; goals++) {
+                        futures.add(closing.updateScore(matchUuid, goals, 0));
+                    }
+                    return futures;
+                }));
+            }
+            closing.close();
+            for (Future<List<CompletableFuture<Void>>> producer : producers) {
+                for (CompletableFuture<Void> future : producer.get(5, TimeUnit.SECONDS)) {
+                    try {
+                        future.get(5, TimeUnit.SECONDS);
+                    } catch (ExecutionException e) {
+                        assertInstanceOf(ScoreBoardException.class, e.getCause());
+                    }
+                }
+            }
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void constructor_InvalidCapacity_ThrowsInvalidArgumentException() {
+        assertThrows(InvalidArgumentException.class,
+                () -> new ScoreBoardEngine(new OrderedScoreBoardStorage(), SummaryOrder.MOST_RECENT_FIRST, 0, 1));
+    }
+
+    @Test
+    void ringBuffer_RejectsWhenFullAndDrainsInOrder() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertTrue(buffer.offer(4));
+        assertEquals(2, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    private static void assertFailsWith(Class<? extends Throwable> type, CompletableFuture<?> future) {
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(type, thrown.getCause());
+    }
+}
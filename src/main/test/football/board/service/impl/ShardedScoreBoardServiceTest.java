@@ -0,0 +1,159 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+import football.board.exception.AlreadyExistsException;
+import football.board.exception.InvalidArgumentException;
+import football.board.exception.NotFoundException;
+import football.board.service.UpdateStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedScoreBoardServiceTest {
+
+    private static final List<String> COMPETITIONS = List.of("league", "cup", "friendly");
+
+    private ShardedScoreBoardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ShardedScoreBoardService();
+    }
+
+    @Test
+    void newMatch_RoutesToCompetitionBoard() {
+        UUID league = service.newMatch("league", new Team("Home1"), new Team("Away1"));
+        UUID cup = service.newMatch("cup", new Team("Home2"), new Team("Away2"));
+
+        service.updateScore(cup, 2, 0);
+
+        assertEquals(Set.of("league", "cup"), service.getCompetitions());
+        assertEquals(league, service.getSortedSummary("league").iterator().next().getMatchUuid());
+        assertEquals(2, service.getSortedSummary("cup").iterator().next().getHomeScore());
+        assertTrue(service.getSortedSummary("unknown").isEmpty());
+    }
+
+    @Test
+    void newMatch_TeamBusyInSameCompetition_ThrowsAlreadyExists() {
+        Team homeTeam = new Team("Home");
+        service.newMatch("league", homeTeam, new Team("Away1"));
+
+        assertThrows(AlreadyExistsException.class, () -> service.newMatch("league", homeTeam, new Team("Away2")));
+        assertThrows(InvalidArgumentException.class, () -> service.newMatch(null, new Team("Home3"), new Team("Away3")));
+    }
+
+    @Test
+    void finishMatch_RemovesMatchFromItsBoard() {
+        UUID matchUuid = service.newMatch("cup", new Team("Home"), new Team("Away"));
+
+        service.finishMatchByUUID(matchUuid);
+
+        assertTrue(service.getSortedSummary().isEmpty());
+        assertThrows(NotFoundException.class, () -> service.finishMatchByUUID(matchUuid));
+        assertThrows(NotFoundException.class, () -> service.updateScore(matchUuid, 1, 0));
+        assertThrows(InvalidArgumentException.class, () -> service.updateScore(null, 1, 0));
+    }
+
+    @Test
+    void globalSummary_IsMergeOfAllBoards() {
+        fill(60, new Random(11));
+
+        List<Match> summary = new ArrayList<>(service.getSortedSummary());
+        List<Match> expected = new ArrayList<>();
+        for (String competition : COMPETITIONS) {
+            expected.addAll(service.getSortedSummary(competition));
+        }
+        expected.sort(Match.getSortComparator());
+
+        assertEquals(expected, summary);
+        assertEquals(expected.subList(0, 7), service.getTopMatches(7));
+        assertEquals(expected, service.getSummarySnapshot().getMatches());
+    }
+
+    @Test
+    void globalPages_CoverSummaryInOrder() {
+        fill(45, new Random(5));
+
+        List<Match> paged = new ArrayList<>();
+        SummaryPage page = service.getSummaryPage(null, 8);
+        paged.addAll(page.getMatches());
+        while (page.hasNext()) {
+            page = service.getSummaryPage(page.getNextCursor(), 8);
+            paged.addAll(page.getMatches());
+        }
+
+        assertEquals(new ArrayList<>(service.getSortedSummary()), paged);
+    }
+
+    @Test
+    void updateScores_SplitsBatchPerBoard() {
+        UUID league = service.newMatch("league", new Team("Home1"), new Team("Away1"));
+        UUID cup = service.newMatch("cup", new Team("Home2"), new Team("Away2"));
+
+        List<UpdateStatus> statuses = service.updateScores(List.of(
+                new ScoreUpdate(cup, 1, 0),
+                new ScoreUpdate(UUID.randomUUID(), 1, 0),
+                new ScoreUpdate(league, -1, 0),
+                new ScoreUpdate(league, 3, 0)));
+
+        assertEquals(List.of(UpdateStatus.APPLIED, UpdateStatus.NOT_FOUND, UpdateStatus.INVALID_ARGUMENT, UpdateStatus.APPLIED), statuses);
+        assertEquals(league, service.getSortedSummary().iterator().next().getMatchUuid());
+    }
+
+    @Test
+    void concurrentWritesToDifferentCompetitions_AllApplied() throws InterruptedException {
+        int matchesPerCompetition = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(COMPETITIONS.size());
+        for (String competition : COMPETITIONS) {
+            executorService.submit(() -> {
+                for (int i = 0; i < matchesPerCompetition; i++) {
+                    UUID matchUuid = service.newMatch(competition, new Team("Home" + i), new Team("Away" + i));
+                    service.updateScore(matchUuid, i % 4, 1);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        Collection<Match> summary = service.getSortedSummary();
+        assertEquals(COMPETITIONS.size() * matchesPerCompetition, summary.size());
+        for (String competition : COMPETITIONS) {
+            assertEquals(matchesPerCompetition, service.getSortedSummary(competition).size());
+        }
+    }
+
+    private void fill(int size, Random random) {
+        for (int i = 0; i < size; i++) {
+            String competition = COMPETITIONS.get(random.nextInt(COMPETITIONS.size()));
+            UUID matchUuid = service.newMatch(competition, new Team("Home" + i), new Team("Away" + i));
+            service.updateScore(matchUuid, random.nextInt(4), random.nextInt(4));
+        }
+    }
+
+    @Test
+    void tryUpdateScoreAndTryFinish_RouteToShardWithoutThrowing() {
+        UUID matchUuid = service.newMatch("cup", new Team("Home1"), new Team("Away1"));
+
+        assertEquals(UpdateStatus.APPLIED, service.tryUpdateScore(matchUuid, 1, 1));
+        assertEquals(UpdateStatus.INVALID_ARGUMENT, service.tryUpdateScore(matchUuid, 1, -1));
+        assertEquals(UpdateStatus.APPLIED, service.tryFinishMatchByUUID(matchUuid));
+        assertEquals(UpdateStatus.NOT_FOUND, service.tryFinishMatchByUUID(matchUuid));
+        assertEquals(UpdateStatus.NOT_FOUND, service.tryUpdateScore(matchUuid, 2, 1));
+        assertEquals(UpdateStatus.INVALID_ARGUMENT, service.tryUpdateScore(null, 2, 1));
+        assertTrue(service.getSortedSummary().isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFootballServiceTest {
+
+    @Test
+    void getSummarySnapshot_NoChange_SameVersion() {
+        SnapshotFootballService service = new SnapshotFootballService();
+        UUID uuid = service.newMatch(new Team("Home"), new Team("Away"));
+        SummarySnapshot before = service.getSummarySnapshot();
+
+        assertSame(before, service.getSummarySnapshot());
+
+        service.updateScore(uuid, 1, 0);
+        SummarySnapshot after = service.getSummarySnapshot();
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(1, after.getMatches().get(0).getHomeScore());
+    }
+
+    @Test
+    void getSortedSummary_ConcurrentWriters_ReadersSeeSortedSnapshots() throws Exception {
+        SnapshotFootballService service = new SnapshotFootballService();
+        UUID[] matchUuids = new UUID[20];
+        for (int i = 0; i < matchUuids.length; i++) {
+            matchUuids[i] = service.newMatch(new Team("Home" + i), new Team("Away" + i));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Future<?> writer = executorService.submit(() -> {
+            for (int goal = 1; goal <= 500; goal++) {
+                service.updateScore(matchUuids[goal % matchUuids.length], goal, 0);
+            }
+            running.set(false);
+        });
+        Future<?> reader = executorService.submit(() -> {
+            while (running.get()) {
+                SummarySnapshot snapshot = service.getSummarySnapshot();
+                Match previous = null;
+                for (Match match : snapshot.getMatches()) {
+                    if (previous != null) {
+                        assertTrue(Match.getSortComparator().compare(previous, match) < 0);
+                    }
+                    previous = match;
+                }
+            }
+        });
+
+        writer.get(30, TimeUnit.SECONDS);
+        reader.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        assertEquals(matchUuids.length, service.getSortedSummary().size());
+    }
+}
@@ -0,0 +1,129 @@
+package football.board.service.impl;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryOrder;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.exception.AlreadyExistsException;
+import football.board.exception.InvalidArgumentException;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.storage.FootballWorldScoreBoardStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedLockFootballServiceTest {
+
+    @Test
+    void operations_BehaveLikeTheSequentialService() {
+        StampedLockFootballService service = new StampedLockFootballService();
+        Team mexico = new Team("Mexico");
+        UUID first = service.newMatch(mexico, new Team("Canada"));
+        UUID second = service.newMatch(new Team("Spain"), new Team("Brazil"));
+
+        service.updateScore(second, 10, 2);
+
+        assertEquals(List.of(second, first), uuids(service.getSortedSummary()));
+        assertEquals(List.of(second), uuids(service.getTopMatches(1)));
+        assertEquals(2, service.getSummarySnapshot().getMatches().size());
+        assertThrows(AlreadyExistsException.class, () -> service.newMatch(mexico, new Team("Uruguay")));
+        assertThrows(InvalidArgumentException.class, () -> service.getTopMatches(-1));
+
+        service.finishMatchByUUID(second);
+
+        assertEquals(List.of(first), uuids(service.getSortedSummary()));
+    }
+
+    @Test
+    void storageWithoutOptimisticReads_IsReadUnderTheReadLock() {
+        StampedLockFootballService service = new StampedLockFootballService(new FootballWorldScoreBoardStorage());
+        UUID match = service.newMatch(new Team("Home"), new Team("Away"));
+
+        service.updateScore(match, 1, 0);
+
+        assertEquals(1, service.getSortedSummary().iterator().next().getTotalScore());
+        assertEquals(0, service.getOptimisticReadFailures());
+    }
+
+    @Test
+    void writeLockTimes_AreRecordedIntoTheMetrics() {
+        BoardMetrics metrics = new BoardMetrics();
+        StampedLockFootballService service = new StampedLockFootballService(
+                new FootballWorldScoreBoardStorage(), SummaryOrder.MOST_RECENT_FIRST, metrics);
+
+        service.newMatch(new Team("Home"), new Team("Away"));
+
+        assertEquals(1, metrics.getHistogram(Operation.LOCK_WAIT).getCount());
+        assertEquals(1, metrics.getHistogram(Operation.LOCK_HOLD).getCount());
+    }
+
+    @Test
+    void concurrentReads_NeverSeeAHalfAppliedBatch() throws Exception {
+        StampedLockFootballService service = new StampedLockFootballService();
+        int matches = 200;
+        List<UUID> matchUuids = new ArrayList<>();
+        for (int i = 0; i < matches; i++) {
+            matchUuids.add(service.newMatch(new Team("Home " + i), new Team("Away " + i)));
+        }
+        int readers = 4;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    SummarySnapshot snapshot = service.getSummarySnapshot();
+                    assertEquals(matches, snapshot.getMatches().size());
+                    int total = snapshot.getMatches().get(0).getTotalScore();
+                    for (Match match : service.getTopMatches(50)) {
+                        assertTrue(match.getTotalScore() >= 0);
+                    }
+                    for (Match match : snapshot.getMatches()) {
+                        assertEquals(total, match.getTotalScore());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (int goals = 1; goals <= 300; goals++) {
+            List<ScoreUpdate> batch = new ArrayList<>(matches);
+            for (UUID matchUuid : matchUuids) {
+                batch.add(new ScoreUpdate(matchUuid, goals, 0));
+            }
+            service.updateScores(batch);
+        }
+        writing.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        for (Future<?> result : results) {
+            result.get();
+        }
+        assertEquals(300, service.getSortedSummary().iterator().next().getTotalScore());
+    }
+
+    private static List<UUID> uuids(Collection<Match> matches) {
+        List<UUID> uuids = new ArrayList<>();
+        for (Match match : matches) {
+            uuids.add(match.getMatchUuid());
+        }
+        return uuids;
+    }
+}
@@ -0,0 +1,102 @@
+package football.board.service.impl;
+
+
+import football.board.entity.Match;
+import football.board.entity.SummaryOrder;
+import football.board.entity.Team;
+import football.board.exception.InvalidArgumentException;
+import football.board.metrics.BoardMetrics;
+import football.board.metrics.Operation;
+import football.board.storage.ChangeTrackingStorage;
+import football.board.storage.ConcurrentScoreBoardStorage;
+import football.board.storage.OrderedScoreBoardStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedConcurrentFootballServiceTest {
+
+    @Test
+    void concurrentUpdates_DifferentMatches_AllUpdatesApplied() throws Exception {
+        StripedConcurrentFootballService service = new StripedConcurrentFootballService();
+
+        int numThreads = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+        int matchesPerThread = 50;
+        int updatesPerMatch = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<List<UUID>>> results = new ArrayList<>();
+
+        for (int i = 0; i < numThreads; i++) {
+            int thread = i;
+            results.add(executorService.submit(() -> {
+                List<UUID> matchUuids = new ArrayList<>();
+                for (int m = 0; m < matchesPerThread; m++) {
+                    matchUuids.add(service.newMatch(new Team("Home" + thread + "-" + m), new Team("Away" + thread + "-" + m)));
+                }
+                startLatch.await();
+                for (int update = 1; update <= updatesPerMatch; update++) {
+                    for (UUID matchUuid : matchUuids) {
+                        service.updateScore(matchUuid, update, thread);
+                    }
+                }
+                return matchUuids;
+            }));
+        }
+
+        startLatch.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        for (Future<List<UUID>> result : results) {
+            assertEquals(matchesPerThread, result.get().size());
+        }
+
+        Collection<Match> summary = service.getSortedSummary();
+        assertEquals(numThreads * matchesPerThread, summary.size());
+        Match previous = null;
+        for (Match match : summary) {
+            assertEquals(updatesPerMatch, match.getHomeScore());
+            if (previous != null) {
+                assertTrue(Match.getSortComparator().compare(previous, match) < 0);
+            }
+            previous = match;
+        }
+    }
+
+    @Test
+    void constructor_StorageNotSafeUnderConcurrentWrites_ThrowsException() {
+        assertThrows(InvalidArgumentException.class, () -> new StripedConcurrentFootballService(null));
+        assertThrows(InvalidArgumentException.class,
+                () -> new StripedConcurrentFootballService(new OrderedScoreBoardStorage()));
+        assertThrows(InvalidArgumentException.class,
+                () -> new StripedConcurrentFootballService(new ChangeTrackingStorage(new OrderedScoreBoardStorage())));
+    }
+
+    @Test
+    void constructor_DecoratedConcurrentStorageWithMetrics_RecordsStorageOperations() {
+        BoardMetrics metrics = new BoardMetrics(true);
+        StripedConcurrentFootballService service = new StripedConcurrentFootballService(
+                new ChangeTrackingStorage(new ConcurrentScoreBoardStorage()), SummaryOrder.OLDEST_FIRST, metrics);
+
+        UUID first = service.newMatch(new Team("Mexico"), new Team("Canada"));
+        UUID second = service.newMatch(new Team("Spain"), new Team("Brazil"));
+
+        assertSame(metrics, service.getMetrics());
+        assertEquals(2, metrics.getHistogram(Operation.STORAGE_ADD_MATCH).getCount());
+        assertEquals(2, metrics.getBoardSize());
+        List<UUID> summary = new ArrayList<>();
+        service.getSortedSummary().forEach(match -> summary.add(match.getMatchUuid()));
+        assertEquals(List.of(first, second), summary);
+        assertFalse(new StripedConcurrentFootballService().getMetrics().isEnabled());
+    }
+}
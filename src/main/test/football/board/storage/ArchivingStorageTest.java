@@ -0,0 +1,117 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.exception.NotFoundException;
+import football.board.service.impl.FootballWorldScoreBoardService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchivingStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void finishedMatch_IsKeptWithItsFinalScore() {
+        try (ArchivingStorage storage = open(10)) {
+            FootballWorldScoreBoardService service = new FootballWorldScoreBoardService(storage);
+            UUID matchUuid = service.newMatch(new Team("Mexico"), new Team("Canada"));
+            service.updateScore(matchUuid, 0, 5);
+
+            assertThrows(NotFoundException.class, () -> service.getFinishedMatch(matchUuid));
+
+            service.finishMatchByUUID(matchUuid);
+
+            Match finished = service.getFinishedMatch(matchUuid);
+            assertEquals(0, finished.getHomeScore());
+            assertEquals(5, finished.getAwayScore());
+            assertEquals("Canada", finished.getAwayTeam().getName());
+            assertTrue(service.getSortedSummary().isEmpty());
+            assertThrows(NotFoundException.class, () -> service.getFinishedMatch(UUID.randomUUID()));
+        }
+    }
+
+    @Test
+    void evictedMatches_AreReadBackFromDisk() {
+        try (ArchivingStorage storage = open(2)) {
+            List<Match> matches = finish(storage, 5);
+
+            assertEquals(5, storage.getArchivedCount());
+            assertEquals(2, storage.getCachedCount());
+
+            Match oldest = storage.findFinishedMatch(matches.get(0).getMatchUuid()).orElseThrow();
+            assertEquals(matches.get(0).getHomeTeam().getUuid(), oldest.getHomeTeam().getUuid());
+            assertEquals(1, oldest.getHomeScore());
+            assertEquals(1, storage.getDiskReads());
+
+            storage.findFinishedMatch(matches.get(0).getMatchUuid());
+            assertEquals(1, storage.getDiskReads());
+            assertEquals(1, storage.getCacheHits());
+        }
+    }
+
+    @Test
+    void reopen_RebuildsTheIndexFromTheFile() {
+        List<Match> matches;
+        try (ArchivingStorage storage = open(10)) {
+            matches = finish(storage, 3);
+        }
+
+        try (ArchivingStorage storage = open(10)) {
+            assertEquals(3, storage.getArchivedCount());
+            assertEquals(0, storage.getCachedCount());
+            for (int i = 0; i < matches.size(); i++) {
+                Match match = storage.findFinishedMatch(matches.get(i).getMatchUuid()).orElseThrow();
+                assertEquals(i + 1, match.getHomeScore());
+                assertEquals("Away " + i, match.getAwayTeam().getName());
+            }
+        }
+    }
+
+    @Test
+    void tornRecord_IsCutOffOnReopen() throws IOException {
+        Path file = directory.resolve("archive.bin");
+        List<Match> matches;
+        try (ArchivingStorage storage = open(10)) {
+            matches = finish(storage, 1);
+        }
+        long validSize = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (ArchivingStorage storage = open(10)) {
+            assertEquals(validSize, Files.size(file));
+            assertTrue(storage.findFinishedMatch(matches.get(0).getMatchUuid()).isPresent());
+            finish(storage, 1);
+        }
+        try (ArchivingStorage storage = open(10)) {
+            assertEquals(2, storage.getArchivedCount());
+        }
+    }
+
+    private ArchivingStorage open(int cacheCapacity) {
+        return new ArchivingStorage(new FootballWorldScoreBoardStorage(), directory.resolve("archive.bin"), cacheCapacity);
+    }
+
+    private static List<Match> finish(Storage storage, int count) {
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Match match = new Match(new Team("Home " + i), new Team("Away " + i));
+            storage.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), i + 1, 0);
+            storage.removeMatch(match.getMatchUuid());
+            matches.add(match);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,168 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.RankedMatch;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryDelta;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.service.impl.ConcurrentFootballService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeTrackingStorageTest {
+
+    private ChangeTrackingStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ChangeTrackingStorage(new OrderedScoreBoardStorage(), 8);
+    }
+
+    @Test
+    void getChangesSince_CurrentVersion_IsEmpty() {
+        storage.addMatch(new Match(new Team("Mexico"), new Team("Canada")));
+
+        SummaryDelta delta = storage.getChangesSince(storage.getVersion());
+
+        assertTrue(delta.isEmpty());
+        assertEquals(storage.getVersion(), delta.getVersion());
+    }
+
+    @Test
+    void getChangesSince_DoesNotCopyTheSummary() {
+        SnapshotCountingStorage counting = new SnapshotCountingStorage();
+        ChangeTrackingStorage tracking = new ChangeTrackingStorage(counting, 8);
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        tracking.addMatch(match);
+        long version = tracking.getVersion();
+
+        assertTrue(tracking.getChangesSince(version).isEmpty());
+        tracking.removeMatch(match.getMatchUuid());
+        assertEquals(List.of(match.getMatchUuid()), tracking.getChangesSince(version).getRemoved());
+        assertEquals(0, counting.snapshots);
+
+        tracking.addMatch(new Match(new Team("Spain"), new Team("Brazil")));
+        assertEquals(1, tracking.getChangesSince(version).getAdded().size());
+        assertEquals(0, counting.snapshots);
+    }
+
+    @Test
+    void getChangesSince_ListsAddedUpdatedAndRemovedWithRanks() {
+        Match mexico = new Match(new Team("Mexico"), new Team("Canada"));
+        Match spain = new Match(new Team("Spain"), new Team("Brazil"));
+        Match germany = new Match(new Team("Germany"), new Team("France"));
+        storage.addMatch(mexico);
+        storage.addMatch(spain);
+        long version = storage.getVersion();
+
+        storage.updateScores(List.of(new ScoreUpdate(mexico.getMatchUuid(), 3, 0),
+                new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+        storage.removeMatch(spain.getMatchUuid());
+        storage.addMatch(germany);
+        Match uruguay = new Match(new Team("Uruguay"), new Team("Italy"));
+        storage.addMatch(uruguay);
+        storage.removeMatch(uruguay.getMatchUuid());
+
+        SummaryDelta delta = storage.getChangesSince(version);
+
+        assertFalse(delta.isFullSnapshot());
+        assertEquals(version, delta.getFromVersion());
+        assertEquals(storage.getVersion(), delta.getVersion());
+        assertEquals(List.of(germany.getMatchUuid()), uuids(delta.getAdded()));
+        assertEquals(1, delta.getAdded().get(0).getRank());
+        assertEquals(List.of(mexico.getMatchUuid()), uuids(delta.getUpdated()));
+        assertEquals(0, delta.getUpdated().get(0).getRank());
+        assertEquals(3, delta.getUpdated().get(0).getMatch().getTotalScore());
+        assertEquals(List.of(spain.getMatchUuid()), delta.getRemoved());
+    }
+
+    @Test
+    void getChangesSince_AppliedToOldSummary_GivesCurrentSummary() {
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+            matches.add(match);
+            storage.addMatch(match);
+        }
+        List<Match> clientSummary = new ArrayList<>(storage.getAllMatches());
+        long version = storage.getVersion();
+
+        storage.updateScore(matches.get(3).getMatchUuid(), 2, 2);
+        storage.updateScore(matches.get(1).getMatchUuid(), 1, 0);
+        storage.removeMatch(matches.get(0).getMatchUuid());
+        storage.addMatch(new Match(new Team("Home5"), new Team("Away5")));
+
+        SummaryDelta delta = storage.getChangesSince(version);
+        Map<UUID, Match> byUuid = clientSummary.stream()
+                .collect(Collectors.toMap(Match::getMatchUuid, Function.identity()));
+        delta.getRemoved().forEach(byUuid::remove);
+        delta.getUpdated().forEach(ranked -> byUuid.put(ranked.getMatch().getMatchUuid(), ranked.getMatch()));
+        delta.getAdded().forEach(ranked -> byUuid.put(ranked.getMatch().getMatchUuid(), ranked.getMatch()));
+        List<Match> rebuilt = new ArrayList<>(byUuid.values());
+        rebuilt.sort(Match.getSortComparator());
+
+        assertEquals(new ArrayList<>(storage.getAllMatches()), rebuilt);
+        for (RankedMatch ranked : delta.getUpdated()) {
+            assertSame(ranked.getMatch(), rebuilt.get(ranked.getRank()));
+        }
+    }
+
+    @Test
+    void getChangesSince_VersionOlderThanHistory_ReturnsFullSnapshot() {
+        long version = storage.getVersion();
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        storage.addMatch(match);
+        for (int goals = 1; goals <= 10; goals++) {
+            storage.updateScore(match.getMatchUuid(), goals, 0);
+        }
+
+        SummaryDelta delta = storage.getChangesSince(version);
+
+        assertTrue(delta.isFullSnapshot());
+        assertEquals(1, delta.getAdded().size());
+        assertEquals(0, delta.getAdded().get(0).getRank());
+        assertTrue(storage.getChangesSince(storage.getVersion() + 1).isFullSnapshot());
+        assertFalse(storage.getChangesSince(storage.getVersion() - 1).isFullSnapshot());
+    }
+
+    @Test
+    void service_ReturnsDeltaOfTrackedStorage() {
+        ConcurrentFootballService service = new ConcurrentFootballService(new ChangeTrackingStorage(new OrderedScoreBoardStorage()));
+        service.newMatch(new Team("Mexico"), new Team("Canada"));
+        long version = service.getSummarySnapshot().getVersion();
+        UUID spain = service.newMatch(new Team("Spain"), new Team("Brazil"));
+
+        SummaryDelta delta = service.getChangesSince(version);
+
+        assertEquals(List.of(spain), uuids(delta.getAdded()));
+        assertTrue(new ConcurrentFootballService().getChangesSince(0).isFullSnapshot());
+    }
+
+    private static final class SnapshotCountingStorage extends ForwardingStorage {
+        private int snapshots;
+
+        private SnapshotCountingStorage() {
+            super(new OrderedScoreBoardStorage());
+        }
+
+        @Override
+        public SummarySnapshot getSnapshot() {
+            snapshots++;
+            return super.getSnapshot();
+        }
+    }
+
+    private static List<UUID> uuids(List<RankedMatch> ranked) {
+        return ranked.stream().map(match -> match.getMatch().getMatchUuid()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,256 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Score;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.Team;
+import football.board.exception.StorageException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurableStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopenShouldRestoreMatchesFromLog() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        Match match3 = new Match(new Team("Team5"), new Team("Team6"));
+        List<Match> expected;
+        try (DurableStorage storage = open()) {
+            storage.addMatch(match1);
+            storage.addMatch(match2);
+            storage.addMatch(match3);
+            storage.updateScore(match2.getMatchUuid(), 2, 1);
+            storage.updateScores(List.of(new ScoreUpdate(match3.getMatchUuid(), 1, 0), new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+            storage.removeMatch(match1.getMatchUuid());
+            expected = List.copyOf(storage.getAllMatches());
+        }
+
+        try (DurableStorage storage = open()) {
+            assertSameMatches(expected, List.copyOf(storage.getAllMatches()));
+            assertTrue(storage.isTeamInMatch(match2.getHomeTeam().getUuid()));
+            assertFalse(storage.isTeamInMatch(match1.getHomeTeam().getUuid()));
+            assertEquals("Team3", storage.findMatch(match2.getMatchUuid()).orElseThrow().getHomeTeam().getName());
+        }
+    }
+
+    @Test
+    void snapshotShouldReplaceOlderLogs() throws IOException {
+        List<Match> expected;
+        try (DurableStorage storage = new DurableStorage(new OrderedScoreBoardStorage(), directory, 4, 0, 10)) {
+            for (int i = 0; i < 12; i++) {
+                Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+                storage.addMatch(match);
+                storage.updateScore(match.getMatchUuid(), i % 3, 0);
+            }
+            expected = List.copyOf(storage.getAllMatches());
+        }
+
+        assertTrue(Files.exists(directory.resolve("snapshot.bin")));
+        assertEquals(1, logFiles().size());
+
+        try (DurableStorage storage = open()) {
+            assertSameMatches(expected, List.copyOf(storage.getAllMatches()));
+        }
+    }
+
+    @Test
+    void tornRecordShouldBeCutOffOnRecovery() throws IOException {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        try (DurableStorage storage = open()) {
+            storage.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), 1, 0);
+        }
+        Path log = logFiles().get(0);
+        long validSize = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 21, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableStorage storage = open()) {
+            assertEquals(validSize, Files.size(log));
+            assertEquals(1, storage.findMatch(match.getMatchUuid()).orElseThrow().getHomeScore());
+            storage.updateScore(match.getMatchUuid(), 2, 0);
+        }
+        try (DurableStorage storage = open()) {
+            assertEquals(2, storage.findMatch(match.getMatchUuid()).orElseThrow().getHomeScore());
+        }
+    }
+
+    @Test
+    void matchStartedAfterRecoveryShouldCountAsMoreRecent() {
+        Match restored = new Match(UUID.randomUUID(), 1L << 40, new Team("Team1"), new Team("Team2"), 0);
+        try (DurableStorage storage = open()) {
+            storage.addMatch(restored);
+        }
+
+        try (DurableStorage storage = open()) {
+            Match later = new Match(new Team("Team3"), new Team("Team4"));
+            storage.addMatch(later);
+            assertEquals(List.of(later.getMatchUuid(), restored.getMatchUuid()),
+                    storage.getAllMatches().stream().map(Match::getMatchUuid).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void snapshotShouldBeWrittenInTheBackgroundAndAwaitedOnClose() {
+        List<String> snapshotThreads = new CopyOnWriteArrayList<>();
+        Storage recording = new ForwardingStorage(new FootballWorldScoreBoardStorage()) {
+            @Override
+            public Collection<Match> getAllMatches() {
+                snapshotThreads.add(Thread.currentThread().getName());
+                return super.getAllMatches();
+            }
+        };
+        try (DurableStorage storage = new DurableStorage(recording, directory, 1, 0, 2)) {
+            storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+            storage.addMatch(new Match(new Team("Home"), new Team("Away")));
+        }
+
+        assertEquals(List.of("storage-log-sync"), snapshotThreads);
+        assertTrue(Files.exists(directory.resolve("snapshot.bin")));
+        try (DurableStorage storage = open()) {
+            assertEquals(2, storage.getAllMatches().size());
+        }
+    }
+
+    @Test
+    void everyAcceptedChangeShouldSurviveAConcurrentClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            Path roundDirectory = directory.resolve("round" + round);
+            DurableStorage storage = new DurableStorage(new FootballWorldScoreBoardStorage(), roundDirectory, 1_000, 0, 1_000_000);
+            ExecutorService writers = Executors.newFixedThreadPool(4);
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int id = writer;
+                accepted.add(writers.submit(() -> {
+                    started.countDown();
+                    int added = 0;
+                    try {
+                        while (true) {
+                            if (storage.addMatch(new Match(new Team("Home " + id + "-" + added), new Team("Away " + id + "-" + added)))) {
+                                added++;
+                            }
+                        }
+                    } catch (StorageException e) {
+                        return added;
+                    }
+                }));
+            }
+            started.await();
+            storage.close();
+            int total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            writers.shutdown();
+
+            try (DurableStorage reopened = new DurableStorage(new FootballWorldScoreBoardStorage(), roundDirectory, 1, 0, 1_000_000)) {
+                assertEquals(total, reopened.getAllMatches().size());
+            }
+        }
+    }
+
+    @Test
+    void recoveredBatchShouldKeepTheStorageAndScoreVersions() {
+        Match mexico = new Match(new Team("Mexico"), new Team("Canada"));
+        Match spain = new Match(new Team("Spain"), new Team("Brazil"));
+        long version;
+        List<Match> before;
+        try (DurableStorage storage = open()) {
+            storage.addMatch(mexico);
+            storage.addMatch(spain);
+            storage.updateScores(List.of(new ScoreUpdate(mexico.getMatchUuid(), 1, 0),
+                    new ScoreUpdate(spain.getMatchUuid(), 0, 1),
+                    new ScoreUpdate(mexico.getMatchUuid(), 2, 0),
+                    new ScoreUpdate(UUID.randomUUID(), 1, 1)));
+            storage.updateScore(spain.getMatchUuid(), 0, 2);
+            version = storage.getVersion();
+            before = List.copyOf(storage.getAllMatches());
+        }
+
+        try (DurableStorage storage = open()) {
+            assertEquals(version, storage.getVersion());
+            for (Match match : before) {
+                Match recovered = storage.findMatch(match.getMatchUuid()).orElseThrow();
+                assertEquals(match.getScore(), recovered.getScore());
+                assertEquals(Score.version(match.getScore()), Score.version(recovered.getScore()));
+            }
+        }
+    }
+
+    @Test
+    void filesOfAnotherFormatVersionShouldBeRejected() throws IOException {
+        try (DurableStorage storage = open()) {
+            storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+        }
+        Path log = logFiles().get(0);
+        byte[] content = Files.readAllBytes(log);
+
+        content[7] = (byte) (DurableStorage.FORMAT_VERSION + 1);
+        Files.write(log, content);
+        assertThrows(StorageException.class, this::open);
+
+        Files.write(log, Arrays.copyOfRange(content, 8, content.length));
+        assertThrows(StorageException.class, this::open);
+    }
+
+    @Test
+    void logTornInsideItsHeaderShouldBeRewritten() throws IOException {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        try (DurableStorage storage = open()) {
+            storage.snapshot();
+        }
+        Path log = logFiles().get(0);
+        Files.write(log, new byte[]{0x53, 0x42});
+
+        try (DurableStorage storage = open()) {
+            storage.addMatch(match);
+        }
+        try (DurableStorage storage = open()) {
+            assertTrue(storage.findMatch(match.getMatchUuid()).isPresent());
+        }
+    }
+
+    private DurableStorage open() {
+        return new DurableStorage(new FootballWorldScoreBoardStorage(), directory, 1, 0, 1_000);
+    }
+
+    private List<Path> logFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).collect(Collectors.toList());
+        }
+    }
+
+    private void assertSameMatches(List<Match> expected, List<Match> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getMatchUuid(), actual.get(i).getMatchUuid());
+            assertEquals(expected.get(i).getScore(), actual.get(i).getScore());
+            assertEquals(expected.get(i).getStartSequence(), actual.get(i).getStartSequence());
+            assertEquals(expected.get(i).getAwayTeam().getUuid(), actual.get(i).getAwayTeam().getUuid());
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package football.board.storage;
 
 import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
 import football.board.entity.Team;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +32,19 @@ class FootballWorldScoreBoardStorageTest {
         assertTrue(matches.contains(match));
     }
 
+    @Test
+    void addShouldRejectMatchWithBusyTeam() {
+        Team homeTeam = new Team("HomeTeam");
+        Team awayTeam = new Team("AwayTeam");
+        storage.addMatch(new Match(homeTeam, awayTeam));
+
+        Match rejected = new Match(new Team("NewHomeTeam"), awayTeam);
+
+        assertFalse(storage.addMatch(rejected));
+        assertFalse(storage.getAllMatches().contains(rejected));
+        assertTrue(storage.isTeamInMatch(homeTeam.getUuid()));
+        assertTrue(storage.isTeamInMatch(awayTeam.getUuid()));
+    }
 
     @Test
     void updateAndSortShouldUpdateMatchAndSortStorage() {
@@ -38,9 +53,7 @@ class FootballWorldScoreBoardStorageTest {
         storage.addMatch(match1);
         storage.addMatch(match2);
 
-        Match updatedMatch = new Match(match1);
-        updatedMatch.setHomeScore(2);
-        updatedMatch.setAwayScore(1);
+        Match updatedMatch = match1.withScore(2, 1);
 
         storage.updateAndSort(updatedMatch);
 
@@ -62,6 +75,23 @@ class FootballWorldScoreBoardStorageTest {
     }
 
 
+    @Test
+    void updateScoresShouldApplyBatchAndSortOnce() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        storage.addMatch(match1);
+        storage.addMatch(match2);
+
+        boolean[] applied = storage.updateScores(List.of(
+                new ScoreUpdate(match2.getMatchUuid(), 1, 1),
+                new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+
+        assertArrayEquals(new boolean[]{true, false}, applied);
+        Match first = storage.getAllMatches().iterator().next();
+        assertEquals(match2.getMatchUuid(), first.getMatchUuid());
+        assertEquals(2, first.getTotalScore());
+    }
+
     @Test
     void removeShouldRemoveMatchFromStorage() {
         Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
@@ -72,6 +102,8 @@ class FootballWorldScoreBoardStorageTest {
 
         assertTrue(removed);
         assertFalse(storage.getAllMatches().contains(match));
+        assertFalse(storage.isTeamInMatch(match.getHomeTeam().getUuid()));
+        assertFalse(storage.isTeamInMatch(match.getAwayTeam().getUuid()));
     }
 
     @Test
@@ -0,0 +1,156 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedScoreBoardStorageTest {
+
+    private IndexedScoreBoardStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new IndexedScoreBoardStorage();
+    }
+
+    @Test
+    void addShouldAddMatchToStorage() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+
+        assertTrue(storage.getAllMatches().contains(match));
+        assertSame(match, storage.findMatch(match.getMatchUuid()).orElseThrow());
+    }
+
+    @Test
+    void findShouldReturnEmptyForUnknownMatch() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        assertTrue(storage.findMatch(UUID.randomUUID()).isEmpty());
+        assertTrue(storage.findMatch(null).isEmpty());
+    }
+
+    @Test
+    void updateAndSortShouldUpdateMatchAndSortStorage() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        storage.addMatch(match1);
+        storage.addMatch(match2);
+
+        Match updatedMatch = match2.withScore(2, 1);
+
+        storage.updateAndSort(updatedMatch);
+
+        Collection<Match> matches = storage.getAllMatches();
+
+        assertEquals(match2.getMatchUuid(), matches.iterator().next().getMatchUuid());
+        assertEquals(2, matches.iterator().next().getHomeScore());
+        assertEquals(1, matches.iterator().next().getAwayScore());
+
+        Iterator<Match> iterator = matches.iterator();
+        Match prevMatch = iterator.next();
+        while (iterator.hasNext()) {
+            Match currentMatch = iterator.next();
+            assertTrue(Match.getSortComparator().compare(currentMatch, prevMatch) >= 0);
+            prevMatch = currentMatch;
+        }
+    }
+
+    @Test
+    void updateScoresShouldApplyBatchAndSortOnce() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        Match match3 = new Match(new Team("Team5"), new Team("Team6"));
+        storage.addMatch(match1);
+        storage.addMatch(match2);
+        storage.addMatch(match3);
+        long version = storage.getVersion();
+
+        boolean[] applied = storage.updateScores(List.of(
+                new ScoreUpdate(match3.getMatchUuid(), 1, 0),
+                new ScoreUpdate(UUID.randomUUID(), 1, 0),
+                new ScoreUpdate(match2.getMatchUuid(), 2, 0),
+                new ScoreUpdate(match3.getMatchUuid(), 4, 0)));
+
+        assertArrayEquals(new boolean[]{true, false, true, true}, applied);
+        assertEquals(version + 1, storage.getVersion());
+        List<Match> matches = List.copyOf(storage.getAllMatches());
+        assertEquals(List.of(match3.getMatchUuid(), match2.getMatchUuid(), match1.getMatchUuid()),
+                List.of(matches.get(0).getMatchUuid(), matches.get(1).getMatchUuid(), matches.get(2).getMatchUuid()));
+        assertEquals(4, matches.get(0).getHomeScore());
+        assertSame(matches.get(0), storage.findMatch(match3.getMatchUuid()).orElseThrow());
+    }
+
+    @Test
+    void randomChangesShouldKeepTheSummaryOrder() {
+        Random random = new Random(7);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+            matches.add(match);
+            storage.addMatch(match);
+        }
+        for (int round = 0; round < 200; round++) {
+            Match match = matches.get(random.nextInt(matches.size()));
+            int action = random.nextInt(4);
+            if (action == 0) {
+                storage.updateScore(match.getMatchUuid(), random.nextInt(4), random.nextInt(4));
+            } else if (action == 1) {
+                storage.updateScores(List.of(new ScoreUpdate(match.getMatchUuid(), random.nextInt(4), 0),
+                        new ScoreUpdate(matches.get(0).getMatchUuid(), 0, random.nextInt(4))));
+            } else if (action == 2) {
+                List<ScoreUpdate> updates = new ArrayList<>();
+                for (Match updated : matches) {
+                    updates.add(new ScoreUpdate(updated.getMatchUuid(), random.nextInt(3), random.nextInt(3)));
+                }
+                storage.updateScores(updates);
+            } else if (storage.removeMatch(match.getMatchUuid())) {
+                Match replacement = new Match(new Team("Home" + round + "r"), new Team("Away" + round + "r"));
+                matches.set(matches.indexOf(match), replacement);
+                storage.addMatch(replacement);
+            }
+
+            List<Match> stored = new ArrayList<>(storage.getAllMatches());
+            List<Match> sorted = new ArrayList<>(stored);
+            sorted.sort(Match.getSortComparator());
+            assertEquals(sorted, stored);
+            assertEquals(matches.size(), stored.size());
+            for (Match current : stored) {
+                assertSame(current, storage.findMatch(current.getMatchUuid()).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void removeShouldRemoveMatchFromStorage() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+
+        boolean removed = storage.removeMatch(match.getMatchUuid());
+
+        assertTrue(removed);
+        assertFalse(storage.getAllMatches().contains(match));
+        assertTrue(storage.findMatch(match.getMatchUuid()).isEmpty());
+        assertFalse(storage.removeMatch(match.getMatchUuid()));
+    }
+
+    @Test
+    void getCollectionShouldReturnImmutableCopy() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        Collection<Match> matches = storage.getAllMatches();
+
+        assertThrows(UnsupportedOperationException.class, () -> matches.add(new Match(new Team("Team1"), new Team("Team2"))));
+    }
+}
@@ -0,0 +1,158 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapScoreBoardStorageTest {
+
+    private OffHeapScoreBoardStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new OffHeapScoreBoardStorage(4);
+    }
+
+    @Test
+    void addShouldStoreMatchAsRecord() {
+        Team homeTeam = new Team("HomeTeam");
+        Team awayTeam = new Team("Borussia Verein für Leibesübungen Mönchengladbach 1900");
+        Match match = new Match(homeTeam, awayTeam).withScore(2, 1);
+
+        assertTrue(storage.addMatch(match));
+
+        Match stored = storage.findMatch(match.getMatchUuid()).orElseThrow();
+        assertEquals(match.getScore(), stored.getScore());
+        assertEquals(match.getStartSequence(), stored.getStartSequence());
+        assertEquals(homeTeam.getUuid(), stored.getHomeTeam().getUuid());
+        assertEquals(homeTeam.getName(), stored.getHomeTeam().getName());
+        assertEquals(awayTeam.getName(), stored.getAwayTeam().getName());
+        assertTrue(storage.isTeamInMatch(awayTeam.getUuid()));
+        assertFalse(storage.addMatch(new Match(new Team("Other"), awayTeam)));
+    }
+
+    @Test
+    void updateScoreShouldRewriteScoreAndBumpVersion() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+        long version = storage.getVersion();
+
+        assertTrue(storage.updateScore(match.getMatchUuid(), 3, 2));
+
+        Match stored = storage.findMatch(match.getMatchUuid()).orElseThrow();
+        assertEquals(3, stored.getHomeScore());
+        assertEquals(2, stored.getAwayScore());
+        assertEquals(1, stored.getScoreVersion());
+        assertEquals(version + 1, storage.getVersion());
+        assertFalse(storage.updateScore(UUID.randomUUID(), 1, 0));
+        assertFalse(storage.updateScore(null, 1, 0));
+    }
+
+    @Test
+    void removeShouldReleaseTeamsAndReuseRecord() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+
+        assertTrue(storage.removeMatch(match.getMatchUuid()));
+        assertFalse(storage.removeMatch(match.getMatchUuid()));
+        assertFalse(storage.isTeamInMatch(match.getHomeTeam().getUuid()));
+        assertTrue(storage.findMatch(match.getMatchUuid()).isEmpty());
+        assertTrue(storage.addMatch(new Match(match.getHomeTeam(), match.getAwayTeam())));
+        assertEquals(1, storage.getAllMatches().size());
+    }
+
+    @Test
+    void summaryOrderShouldMatchListStorage() {
+        FootballWorldScoreBoardStorage listStorage = new FootballWorldScoreBoardStorage();
+        Random random = new Random(42);
+        List<UUID> live = new ArrayList<>();
+
+        for (int i = 0; i < 3_000; i++) {
+            int operation = random.nextInt(10);
+            if (live.isEmpty() || operation < 4) {
+                Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+                storage.addMatch(match);
+                listStorage.addMatch(match);
+                live.add(match.getMatchUuid());
+            } else if (operation < 8) {
+                UUID toUpdate = live.get(random.nextInt(live.size()));
+                int homeScore = random.nextInt(5);
+                int awayScore = random.nextInt(5);
+                assertEquals(listStorage.updateScore(toUpdate, homeScore, awayScore), storage.updateScore(toUpdate, homeScore, awayScore));
+            } else {
+                UUID toRemove = live.remove(random.nextInt(live.size()));
+                assertEquals(listStorage.removeMatch(toRemove), storage.removeMatch(toRemove));
+            }
+        }
+        assertEquals(uuids(listStorage.getAllMatches()), uuids(storage.getAllMatches()));
+        assertEquals(uuids(listStorage.getTopMatches(10)), uuids(storage.getTopMatches(10)));
+        assertEquals(uuids(listStorage.getAllMatches()), uuids(storage.getTopMatches(Integer.MAX_VALUE)));
+
+        List<UUID> paged = new ArrayList<>();
+        SummaryCursor cursor = null;
+        do {
+            SummaryPage page = storage.getSummaryPage(cursor, 7);
+            SummaryPage expected = listStorage.getSummaryPage(cursor, 7);
+            assertEquals(uuids(expected.getMatches()), uuids(page.getMatches()));
+            paged.addAll(uuids(page.getMatches()));
+            cursor = page.getNextCursor();
+            assertEquals(expected.getNextCursor() == null, cursor == null);
+        } while (cursor != null);
+        assertEquals(uuids(listStorage.getAllMatches()), paged);
+
+        for (Match match : listStorage.getAllMatches()) {
+            assertEquals(listStorage.countBefore(match), storage.countBefore(match));
+            Match scored = match.withScore(3, 3);
+            assertEquals(listStorage.countBefore(scored), storage.countBefore(scored));
+        }
+    }
+
+    @Test
+    void nameOfExactlyTheInlineLimitShouldStayInTheRecord() {
+        String atLimit = "a".repeat(OffHeapScoreBoardStorage.NAME_BYTES - 2) + "ü";
+        String overLimit = "a".repeat(OffHeapScoreBoardStorage.NAME_BYTES - 1) + "ü";
+        assertEquals(46, atLimit.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(47, overLimit.getBytes(StandardCharsets.UTF_8).length);
+
+        Match inline = new Match(new Team(atLimit), new Team("a".repeat(OffHeapScoreBoardStorage.NAME_BYTES)));
+        storage.addMatch(inline);
+        assertEquals(0, storage.getLongNameCount());
+
+        Match spilled = new Match(new Team(overLimit), new Team("b".repeat(OffHeapScoreBoardStorage.NAME_BYTES + 1)));
+        storage.addMatch(spilled);
+        assertEquals(2, storage.getLongNameCount());
+
+        Match storedInline = storage.findMatch(inline.getMatchUuid()).orElseThrow();
+        assertEquals(atLimit, storedInline.getHomeTeam().getName());
+        assertEquals(inline.getAwayTeam().getName(), storedInline.getAwayTeam().getName());
+        Match storedSpilled = storage.findMatch(spilled.getMatchUuid()).orElseThrow();
+        assertEquals(overLimit, storedSpilled.getHomeTeam().getName());
+        assertEquals(spilled.getAwayTeam().getName(), storedSpilled.getAwayTeam().getName());
+    }
+
+    @Test
+    void getCollectionShouldReturnImmutableCopy() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        Collection<Match> matches = storage.getAllMatches();
+
+        assertThrows(UnsupportedOperationException.class, () -> matches.add(new Match(new Team("Team1"), new Team("Team2"))));
+    }
+
+    private List<UUID> uuids(Collection<Match> matches) {
+        return matches.stream().map(Match::getMatchUuid).collect(Collectors.toList());
+    }
+}
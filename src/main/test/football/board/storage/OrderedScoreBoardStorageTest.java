@@ -0,0 +1,136 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedScoreBoardStorageTest {
+
+    private OrderedScoreBoardStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new OrderedScoreBoardStorage();
+    }
+
+    @Test
+    void addShouldAddMatchToStorage() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+
+        assertTrue(storage.getAllMatches().contains(match));
+        assertSame(match, storage.findMatch(match.getMatchUuid()).orElseThrow());
+    }
+
+    @Test
+    void updateAndSortShouldMoveOnlyUpdatedMatch() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        Match match3 = new Match(new Team("Team5"), new Team("Team6"));
+        storage.addMatch(match1);
+        storage.addMatch(match2);
+        storage.addMatch(match3);
+
+        storage.updateAndSort(match3.withScore(2, 1));
+
+        List<Match> matches = new ArrayList<>(storage.getAllMatches());
+
+        assertEquals(List.of(match3.getMatchUuid(), match2.getMatchUuid(), match1.getMatchUuid()), uuids(matches));
+        assertEquals(2, matches.get(0).getHomeScore());
+        assertEquals(1, matches.get(0).getAwayScore());
+    }
+
+    @Test
+    void updateScoreShouldReplaceMatchAndKeepOriginalUnchanged() {
+        Match match1 = new Match(new Team("Team1"), new Team("Team2"));
+        Match match2 = new Match(new Team("Team3"), new Team("Team4"));
+        storage.addMatch(match1);
+        storage.addMatch(match2);
+
+        assertTrue(storage.updateScore(match2.getMatchUuid(), 3, 0));
+
+        Match updated = storage.findMatch(match2.getMatchUuid()).orElseThrow();
+        assertEquals(3, updated.getHomeScore());
+        assertEquals(1, updated.getScoreVersion());
+        assertEquals(0, match2.getHomeScore());
+        assertEquals(List.of(updated, match1), new ArrayList<>(storage.getAllMatches()));
+        assertFalse(storage.updateScore(UUID.randomUUID(), 1, 0));
+    }
+
+    @Test
+    void summaryOrderShouldMatchListStorage() {
+        FootballWorldScoreBoardStorage listStorage = new FootballWorldScoreBoardStorage();
+        Random random = new Random(42);
+        List<UUID> live = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(10);
+            if (live.isEmpty() || operation < 3) {
+                Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+                storage.addMatch(match);
+                listStorage.addMatch(match);
+                live.add(match.getMatchUuid());
+            } else if (operation < 9) {
+                UUID toUpdate = live.get(random.nextInt(live.size()));
+                int homeScore = random.nextInt(5);
+                int awayScore = random.nextInt(5);
+                assertEquals(listStorage.updateScore(toUpdate, homeScore, awayScore), storage.updateScore(toUpdate, homeScore, awayScore));
+            } else {
+                UUID toRemove = live.remove(random.nextInt(live.size()));
+                assertEquals(listStorage.removeMatch(toRemove), storage.removeMatch(toRemove));
+            }
+            assertEquals(uuids(listStorage.getAllMatches()), uuids(storage.getAllMatches()));
+        }
+    }
+
+    @Test
+    void removeShouldRemoveMatchFromStorage() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+
+        assertTrue(storage.removeMatch(match.getMatchUuid()));
+        assertFalse(storage.getAllMatches().contains(match));
+        assertFalse(storage.removeMatch(match.getMatchUuid()));
+        assertFalse(storage.removeMatch(null));
+    }
+
+    @Test
+    void getCollectionShouldReturnImmutableCopy() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        Collection<Match> matches = storage.getAllMatches();
+
+        assertThrows(UnsupportedOperationException.class, () -> matches.add(new Match(new Team("Team1"), new Team("Team2"))));
+    }
+
+    @Test
+    void optimisticReadStorageShouldKeepTheSameOrder() {
+        OrderedScoreBoardStorage skipList = new OrderedScoreBoardStorage(true);
+        for (int i = 0; i < 20; i++) {
+            Match match = new Match(new Team("Home " + i), new Team("Away " + i));
+            storage.addMatch(match);
+            skipList.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), i % 4, i % 3);
+            skipList.updateScore(match.getMatchUuid(), i % 4, i % 3);
+        }
+
+        assertFalse(storage.supportsOptimisticReads());
+        assertTrue(skipList.supportsOptimisticReads());
+        assertEquals(uuids(storage.getAllMatches()), uuids(skipList.getAllMatches()));
+        assertEquals(uuids(storage.getTopMatches(5)), uuids(skipList.getTopMatches(5)));
+    }
+
+    private List<UUID> uuids(Collection<Match> matches) {
+        return matches.stream().map(Match::getMatchUuid).collect(Collectors.toList());
+    }
+}
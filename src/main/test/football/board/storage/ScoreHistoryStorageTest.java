@@ -0,0 +1,130 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreHistory;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.Team;
+import football.board.exception.NotFoundException;
+import football.board.service.impl.ConcurrentFootballService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreHistoryStorageTest {
+
+    private final AtomicLong clock = new AtomicLong(1000);
+
+    private ScoreHistoryStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ScoreHistoryStorage(new OrderedScoreBoardStorage(), 4, 2, clock::incrementAndGet);
+    }
+
+    @Test
+    void history_RecordsKickOffAndEveryUpdateInOrder() {
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        storage.addMatch(match);
+        storage.updateScore(match.getMatchUuid(), 1, 0);
+        storage.updateScore(match.getMatchUuid(), 2, 0);
+        storage.updateScore(match.getMatchUuid(), 1, 0);
+
+        ScoreHistory history = storage.getScoreHistory(match.getMatchUuid()).orElseThrow();
+
+        assertEquals(4, history.size());
+        assertEquals(0, history.getDroppedEntries());
+        assertFalse(history.isFinished());
+        assertEquals(List.of(1001L, 1002L, 1003L, 1004L), timestamps(history));
+        assertEquals(List.of(0, 1, 2, 1), homeScores(history));
+        assertEquals(3, history.getSequence(3));
+    }
+
+    @Test
+    void history_KeepsOnlyTheNewestEntries() {
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        storage.addMatch(match);
+        for (int goal = 1; goal <= 9; goal++) {
+            storage.updateScore(match.getMatchUuid(), goal, 0);
+        }
+
+        ScoreHistory history = storage.getScoreHistory(match.getMatchUuid()).orElseThrow();
+
+        assertEquals(4, history.size());
+        assertEquals(6, history.getDroppedEntries());
+        assertEquals(List.of(6, 7, 8, 9), homeScores(history));
+        assertEquals(6, history.getSequence(0));
+    }
+
+    @Test
+    void batchUpdates_AreRecorded_AndFailedUpdatesAreNot() {
+        Match match = new Match(new Team("Mexico"), new Team("Canada"));
+        storage.addMatch(match);
+
+        storage.updateScores(List.of(new ScoreUpdate(match.getMatchUuid(), 0, 1),
+                new ScoreUpdate(UUID.randomUUID(), 5, 5)));
+        storage.updateScore(UUID.randomUUID(), 3, 3);
+
+        assertEquals(List.of(0, 0), homeScores(storage.getScoreHistory(match.getMatchUuid()).orElseThrow()));
+    }
+
+    @Test
+    void finishedMatches_AreArchivedAndEvictable() {
+        Match first = new Match(new Team("Mexico"), new Team("Canada"));
+        Match second = new Match(new Team("Spain"), new Team("Brazil"));
+        Match third = new Match(new Team("Italy"), new Team("Japan"));
+        storage.addMatch(first);
+        storage.addMatch(second);
+        storage.addMatch(third);
+        storage.updateScore(first.getMatchUuid(), 1, 1);
+
+        storage.removeMatch(first.getMatchUuid());
+        storage.removeMatch(second.getMatchUuid());
+
+        ScoreHistory finished = storage.getScoreHistory(first.getMatchUuid()).orElseThrow();
+        assertTrue(finished.isFinished());
+        assertEquals(List.of(0, 1), homeScores(finished));
+        assertEquals(2, storage.getArchivedCount());
+
+        storage.removeMatch(third.getMatchUuid());
+
+        assertTrue(storage.getScoreHistory(second.getMatchUuid()).isEmpty());
+        assertTrue(storage.getScoreHistory(first.getMatchUuid()).isPresent());
+        assertTrue(storage.evictArchived(first.getMatchUuid()));
+        assertTrue(storage.getScoreHistory(first.getMatchUuid()).isEmpty());
+        storage.clearArchive();
+        assertEquals(0, storage.getArchivedCount());
+    }
+
+    @Test
+    void service_ReturnsHistoryOrThrowsNotFound() {
+        ConcurrentFootballService service = new ConcurrentFootballService(new ScoreHistoryStorage(new OrderedScoreBoardStorage()));
+        UUID matchUuid = service.newMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(matchUuid, 0, 1);
+
+        assertEquals(2, service.getScoreHistory(matchUuid).size());
+        assertThrows(NotFoundException.class, () -> service.getScoreHistory(UUID.randomUUID()));
+        assertThrows(NotFoundException.class,
+                () -> new ConcurrentFootballService().getScoreHistory(matchUuid));
+    }
+
+    private static List<Long> timestamps(ScoreHistory history) {
+        Long[] timestamps = new Long[history.size()];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = history.getTimestamp(i);
+        }
+        return List.of(timestamps);
+    }
+
+    private static List<Integer> homeScores(ScoreHistory history) {
+        Integer[] scores = new Integer[history.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = history.getHomeScore(i);
+        }
+        return List.of(scores);
+    }
+}
@@ -0,0 +1,81 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotPublishingStorageTest {
+
+    private SnapshotPublishingStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new SnapshotPublishingStorage(new OrderedScoreBoardStorage());
+    }
+
+    @Test
+    void readsWithoutChangeShouldReturnSameSnapshot() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        SummarySnapshot first = storage.getSnapshot();
+
+        assertSame(first, storage.getSnapshot());
+        assertSame(first.getMatches(), storage.getAllMatches());
+    }
+
+    @Test
+    void everyChangeShouldPublishNewVersion() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        long initialVersion = storage.getVersion();
+
+        storage.addMatch(match);
+        long addedVersion = storage.getVersion();
+        storage.updateAndSort(match.withScore(1, 0));
+        long updatedVersion = storage.getVersion();
+        storage.removeMatch(match.getMatchUuid());
+        long removedVersion = storage.getVersion();
+
+        assertTrue(initialVersion < addedVersion);
+        assertTrue(addedVersion < updatedVersion);
+        assertTrue(updatedVersion < removedVersion);
+        assertTrue(storage.getAllMatches().isEmpty());
+    }
+
+    @Test
+    void failedChangesShouldKeepSnapshot() {
+        Team homeTeam = new Team("HomeTeam");
+        storage.addMatch(new Match(homeTeam, new Team("AwayTeam")));
+        SummarySnapshot before = storage.getSnapshot();
+
+        assertFalse(storage.addMatch(new Match(homeTeam, new Team("Other"))));
+        assertFalse(storage.removeMatch(UUID.randomUUID()));
+        assertFalse(storage.updateScore(UUID.randomUUID(), 1, 0));
+
+        assertSame(before, storage.getSnapshot());
+    }
+
+    @Test
+    void publishedSnapshotShouldNotChangeAfterUpdate() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        storage.addMatch(match);
+        SummarySnapshot before = storage.getSnapshot();
+
+        assertTrue(storage.updateScore(match.getMatchUuid(), 3, 0));
+
+        assertEquals(0, before.getMatches().get(0).getHomeScore());
+        assertEquals(3, storage.getSnapshot().getMatches().get(0).getHomeScore());
+    }
+
+    @Test
+    void snapshotShouldBeImmutable() {
+        storage.addMatch(new Match(new Team("HomeTeam"), new Team("AwayTeam")));
+
+        assertThrows(UnsupportedOperationException.class, () -> storage.getAllMatches().add(new Match(new Team("Team1"), new Team("Team2"))));
+    }
+}
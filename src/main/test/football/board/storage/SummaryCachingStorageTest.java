@@ -0,0 +1,94 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.ScoreUpdate;
+import football.board.entity.SummaryPage;
+import football.board.entity.SummarySnapshot;
+import football.board.entity.Team;
+import football.board.metrics.BoardMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryCachingStorageTest {
+
+    private SummaryCachingStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new SummaryCachingStorage(new OrderedScoreBoardStorage());
+    }
+
+    @Test
+    void repeatedReadsShouldReturnTheSameViews() {
+        storage.addMatch(new Match(new Team("Home1"), new Team("Away1")));
+        storage.addMatch(new Match(new Team("Home2"), new Team("Away2")));
+
+        SummarySnapshot snapshot = storage.getSnapshot();
+        List<Match> top = storage.getTopMatches(1);
+        SummaryPage page = storage.getSummaryPage(null, 1);
+
+        assertSame(snapshot, storage.getSnapshot());
+        assertSame(snapshot.getMatches(), storage.getAllMatches());
+        assertSame(top, storage.getTopMatches(1));
+        assertSame(page, storage.getSummaryPage(null, 1));
+        assertSame(storage.getSummaryPage(page.getNextCursor(), 1), storage.getSummaryPage(page.getNextCursor(), 1));
+        assertEquals(4, storage.getMisses());
+        assertEquals(5, storage.getHits());
+    }
+
+    @Test
+    void everySuccessfulChangeShouldInvalidateTheViews() {
+        Match match = new Match(new Team("HomeTeam"), new Team("AwayTeam"));
+        SummarySnapshot empty = storage.getSnapshot();
+
+        storage.addMatch(match);
+        SummarySnapshot added = storage.getSnapshot();
+        storage.updateAndSort(match.withScore(1, 0));
+        SummarySnapshot updated = storage.getSnapshot();
+        storage.updateScores(List.of(new ScoreUpdate(match.getMatchUuid(), 2, 0)));
+        List<Match> top = storage.getTopMatches(1);
+        storage.removeMatch(match.getMatchUuid());
+
+        assertNotSame(empty, added);
+        assertEquals(1, added.getMatches().size());
+        assertEquals(1, updated.getMatches().get(0).getHomeScore());
+        assertEquals(2, top.get(0).getHomeScore());
+        assertTrue(storage.getAllMatches().isEmpty());
+        assertTrue(storage.getTopMatches(1).isEmpty());
+        assertEquals(storage.getVersion(), storage.getSnapshot().getVersion());
+    }
+
+    @Test
+    void failedChangesShouldKeepTheViews() {
+        Team homeTeam = new Team("HomeTeam");
+        storage.addMatch(new Match(homeTeam, new Team("AwayTeam")));
+        SummarySnapshot before = storage.getSnapshot();
+
+        assertFalse(storage.addMatch(new Match(homeTeam, new Team("Other"))));
+        assertFalse(storage.removeMatch(UUID.randomUUID()));
+        assertFalse(storage.updateScore(UUID.randomUUID(), 1, 0));
+        storage.updateScores(List.of(new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+
+        assertSame(before, storage.getSnapshot());
+    }
+
+    @Test
+    void hitRatioShouldBeReportedThroughTheMetrics() {
+        BoardMetrics metrics = new BoardMetrics();
+        assertEquals(-1.0, metrics.getSummaryCacheHitRatio());
+        SummaryCachingStorage measured = new SummaryCachingStorage(new OrderedScoreBoardStorage(), metrics);
+        assertEquals(0.0, metrics.getSummaryCacheHitRatio());
+
+        for (int i = 0; i < 4; i++) {
+            measured.getAllMatches();
+        }
+
+        assertEquals(0.75, metrics.getSummaryCacheHitRatio());
+        assertTrue(metrics.getTextSnapshot().contains("summaryCacheHitRatio="));
+    }
+}
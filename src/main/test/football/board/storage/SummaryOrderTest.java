@@ -0,0 +1,73 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryOrder;
+import football.board.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryOrderTest {
+
+    private static final List<Supplier<Storage>> STORAGES = List.of(
+            FootballWorldScoreBoardStorage::new,
+            IndexedScoreBoardStorage::new,
+            OrderedScoreBoardStorage::new,
+            ConcurrentScoreBoardStorage::new,
+            OffHeapScoreBoardStorage::new,
+            () -> new SnapshotPublishingStorage(new OrderedScoreBoardStorage()));
+
+    @Test
+    void equalTotalsShouldBeOrderedByStartThenUuid() {
+        Match first = new Match(new Team("Team1"), new Team("Team2"));
+        Match second = new Match(new Team("Team3"), new Team("Team4"));
+        Match startedEarlier = new Match(new Team("Team5"), new Team("Team6"), SummaryOrder.OLDEST_FIRST);
+        Match startedLater = new Match(new Team("Team7"), new Team("Team8"), SummaryOrder.OLDEST_FIRST);
+
+        assertTrue(Match.getSortComparator().compare(second, first) < 0);
+        assertTrue(Match.getSortComparator().compare(second.withScore(0, 1), first.withScore(1, 0)) < 0);
+        assertTrue(Match.getSortComparator().compare(first.withScore(1, 0), second) < 0);
+        assertTrue(Match.getSortComparator().compare(startedEarlier, startedLater) < 0);
+        assertEquals(first.getOrderKey(), first.withScore(0, 0).getOrderKey());
+    }
+
+    @Test
+    void allStoragesShouldGiveSameOrder() {
+        for (SummaryOrder order : SummaryOrder.values()) {
+            List<Match> matches = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                matches.add(new Match(UUID.randomUUID(), i % 10, new Team("Home" + i), new Team("Away" + i), 0, order));
+            }
+            List<UUID> expected = null;
+            for (Supplier<Storage> supplier : STORAGES) {
+                Storage storage = filledStorage(supplier.get(), matches);
+                List<UUID> summary = uuids(storage.getAllMatches());
+                if (expected == null) {
+                    expected = summary;
+                }
+                assertEquals(expected, summary, order + " " + storage.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private Storage filledStorage(Storage storage, List<Match> matches) {
+        Random random = new Random(3);
+        for (Match match : matches) {
+            storage.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), random.nextInt(3), random.nextInt(3));
+        }
+        return storage;
+    }
+
+    private List<UUID> uuids(Collection<Match> matches) {
+        return matches.stream().map(Match::getMatchUuid).collect(Collectors.toList());
+    }
+}
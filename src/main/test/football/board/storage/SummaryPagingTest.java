@@ -0,0 +1,162 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.SummaryCursor;
+import football.board.entity.SummaryPage;
+import football.board.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryPagingTest {
+
+    private static final List<Supplier<Storage>> STORAGES = List.of(
+            FootballWorldScoreBoardStorage::new,
+            IndexedScoreBoardStorage::new,
+            OrderedScoreBoardStorage::new,
+            ConcurrentScoreBoardStorage::new,
+            () -> new SnapshotPublishingStorage(new OrderedScoreBoardStorage()),
+            () -> new SummaryCachingStorage(new OrderedScoreBoardStorage()));
+
+    @Test
+    void topMatchesShouldBePrefixOfSummary() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 57);
+            List<Match> summary = new ArrayList<>(storage.getAllMatches());
+
+            assertEquals(summary.subList(0, 10), storage.getTopMatches(10), storage.getClass().getSimpleName());
+            assertEquals(summary, storage.getTopMatches(100), storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void pagesShouldCoverSummaryInOrder() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 57);
+            List<Match> paged = new ArrayList<>();
+            SummaryPage page = storage.getSummaryPage(null, 10);
+            paged.addAll(page.getMatches());
+            while (page.hasNext()) {
+                page = storage.getSummaryPage(page.getNextCursor(), 10);
+                paged.addAll(page.getMatches());
+            }
+
+            assertEquals(new ArrayList<>(storage.getAllMatches()), paged, storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void pageShouldContinueAfterFinishedCursorMatch() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 20);
+            List<Match> summary = new ArrayList<>(storage.getAllMatches());
+            SummaryPage first = storage.getSummaryPage(null, 5);
+            SummaryCursor cursor = first.getNextCursor();
+
+            storage.removeMatch(cursor.getMatchUuid());
+
+            assertEquals(summary.subList(5, 10), storage.getSummaryPage(cursor, 5).getMatches(), storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void lastPageShouldHaveNoNextCursor() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 10);
+
+            assertFalse(storage.getSummaryPage(null, 10).hasNext(), storage.getClass().getSimpleName());
+            assertTrue(storage.getSummaryPage(null, 9).hasNext(), storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void maximalLimitShouldReturnTheRestOfTheSummary() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 10);
+            List<Match> summary = new ArrayList<>(storage.getAllMatches());
+            SummaryPage first = storage.getSummaryPage(null, 3);
+
+            assertEquals(summary, storage.getSummaryPage(null, Integer.MAX_VALUE).getMatches(), storage.getClass().getSimpleName());
+            SummaryPage rest = storage.getSummaryPage(first.getNextCursor(), Integer.MAX_VALUE);
+            assertEquals(summary.subList(3, 10), rest.getMatches(), storage.getClass().getSimpleName());
+            assertFalse(rest.hasNext(), storage.getClass().getSimpleName());
+            assertEquals(summary, storage.getTopMatches(Integer.MAX_VALUE), storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void countBeforeShouldBeTheRankOfAMatchState() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 30);
+            List<Match> summary = new ArrayList<>(storage.getAllMatches());
+            for (int i = 0; i < summary.size(); i++) {
+                Match match = summary.get(i);
+                assertEquals(i, storage.countBefore(match), storage.getClass().getSimpleName());
+
+                Match leader = match.withScore(20, 20);
+                assertEquals(0, storage.countBefore(leader), storage.getClass().getSimpleName());
+                Match last = match.withScore(0, 0);
+                int expected = 0;
+                for (Match other : summary) {
+                    if (other != match && Match.getSortComparator().compare(other, last) < 0) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, storage.countBefore(last), storage.getClass().getSimpleName());
+            }
+            Match unknown = new Match(new Team("Unknown home"), new Team("Unknown away")).withScore(1, 1);
+            assertEquals(summary.size() - countNotBefore(summary, unknown), storage.countBefore(unknown), storage.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void countBeforeShouldFollowChangesAfterTheFirstRank() {
+        for (Supplier<Storage> supplier : STORAGES) {
+            Storage storage = filledStorage(supplier, 20);
+            List<Match> matches = new ArrayList<>(storage.getAllMatches());
+            storage.countBefore(matches.get(0));
+            Random random = new Random(11);
+            for (int round = 0; round < 100; round++) {
+                Match match = matches.get(random.nextInt(matches.size()));
+                if (round % 10 == 9 && storage.removeMatch(match.getMatchUuid())) {
+                    Match replacement = new Match(new Team("Home" + round + "r"), new Team("Away" + round + "r"));
+                    matches.set(matches.indexOf(match), replacement);
+                    storage.addMatch(replacement);
+                } else {
+                    storage.updateScore(match.getMatchUuid(), random.nextInt(5), random.nextInt(5));
+                }
+
+                List<Match> summary = new ArrayList<>(storage.getAllMatches());
+                for (int i = 0; i < summary.size(); i++) {
+                    assertEquals(i, storage.countBefore(summary.get(i)), storage.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    private static int countNotBefore(List<Match> summary, Match state) {
+        int count = 0;
+        for (Match match : summary) {
+            if (Match.getSortComparator().compare(match, state) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Storage filledStorage(Supplier<Storage> supplier, int size) {
+        Storage storage = supplier.get();
+        Random random = new Random(7);
+        for (int i = 0; i < size; i++) {
+            Match match = new Match(new Team("Home" + i), new Team("Away" + i));
+            storage.addMatch(match);
+            storage.updateScore(match.getMatchUuid(), random.nextInt(4), random.nextInt(4));
+        }
+        return storage;
+    }
+}
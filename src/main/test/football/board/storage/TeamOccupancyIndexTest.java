@@ -0,0 +1,168 @@
+package football.board.storage;
+
+import football.board.entity.Match;
+import football.board.entity.Team;
+import football.board.entity.TeamRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamOccupancyIndexTest {
+
+    @Test
+    void reserveShouldOccupyBothTeams() {
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Team home = new Team("Home");
+        Team away = new Team("Away");
+
+        assertTrue(index.reserve(new Match(home, away)));
+
+        assertTrue(index.isOccupied(home.getUuid()));
+        assertTrue(index.isOccupied(away.getUuid()));
+        assertFalse(index.isOccupied(new Team("Other").getUuid()));
+        assertFalse(index.isOccupied(null));
+    }
+
+    @Test
+    void reserveShouldFailAndKeepNothingWhenOneTeamIsBusy() {
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Team busy = new Team("Busy");
+        Team free = new Team("Free");
+        assertTrue(index.reserve(new Match(new Team("Home"), busy)));
+
+        assertFalse(index.reserve(new Match(free, busy)));
+
+        assertFalse(index.isOccupied(free.getUuid()));
+    }
+
+    @Test
+    void internedTeamShouldBeBlockedByItsCopyWithoutHandle() {
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Team interned = new TeamRegistry().intern("Interned");
+        Team copy = new Team(interned.getUuid(), interned.getName());
+        Match copyMatch = new Match(copy, new Team("Away"));
+        assertTrue(index.reserve(copyMatch));
+
+        assertTrue(index.isPlaying(interned));
+        assertFalse(index.reserve(new Match(interned, new Team("Other"))));
+
+        index.release(copyMatch);
+
+        assertFalse(index.isPlaying(interned));
+        assertTrue(index.reserve(new Match(interned, new Team("Other"))));
+        assertFalse(index.reserve(new Match(copy, new Team("Third"))));
+    }
+
+    @Test
+    void internedTeamShouldBeAnsweredFromItsSlotAlone() {
+        AtomicInteger mapReads = new AtomicInteger();
+        TeamOccupancyIndex index = new TeamOccupancyIndex(new ConcurrentHashMap<>() {
+            @Override
+            public Object get(Object key) {
+                mapReads.incrementAndGet();
+                return super.get(key);
+            }
+
+            @Override
+            public Object putIfAbsent(UUID key, Object value) {
+                mapReads.incrementAndGet();
+                return super.putIfAbsent(key, value);
+            }
+        });
+        TeamRegistry registry = new TeamRegistry();
+        Team home = registry.intern("Home");
+        Team away = registry.intern("Away");
+        Team idle = registry.intern("Idle");
+        assertFalse(index.isPlaying(idle));
+        Match match = new Match(home, away);
+        assertTrue(index.reserve(match));
+        mapReads.set(0);
+
+        assertTrue(index.isPlaying(home));
+        assertFalse(index.isPlaying(idle));
+        index.release(match);
+        assertFalse(index.isPlaying(home));
+        assertTrue(index.reserve(new Match(home, idle)));
+
+        assertEquals(0, mapReads.get());
+        assertTrue(index.isOccupied(home.getUuid()));
+        assertFalse(index.reserve(new Match(new Team(home.getUuid(), "Home"), new Team("Other"))));
+    }
+
+    @Test
+    void releaseShouldFreeBothTeams() {
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Team home = new Team("Home");
+        Team away = new Team("Away");
+        Match match = new Match(home, away);
+        index.reserve(match);
+
+        index.release(match);
+
+        assertFalse(index.isOccupied(home.getUuid()));
+        assertFalse(index.isOccupied(away.getUuid()));
+        assertTrue(index.reserve(new Match(away, home)));
+    }
+
+    @Test
+    void concurrentReservationsOfSameTeamShouldHaveSingleWinner() throws InterruptedException {
+        TeamOccupancyIndex index = new TeamOccupancyIndex();
+        Team shared = new Team("Shared");
+        int numThreads = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+
+        for (int i = 0; i < numThreads; i++) {
+            Match match = i % 2 == 0 ? new Match(shared, new Team("Away" + i)) : new Match(new Team("Home" + i), shared);
+            executorService.submit(() -> {
+                startLatch.await();
+                if (index.reserve(match)) {
+                    winners.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        startLatch.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, winners.get());
+    }
+
+    @Test
+    void crossedReservationsOfSamePairShouldHaveSingleWinner() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 500; round++) {
+                TeamOccupancyIndex index = new TeamOccupancyIndex();
+                Team a = new Team("A");
+                Team b = new Team("B");
+                CountDownLatch startLatch = new CountDownLatch(1);
+                Future<Boolean> first = executorService.submit(() -> {
+                    startLatch.await();
+                    return index.reserve(new Match(a, b));
+                });
+                Future<Boolean> second = executorService.submit(() -> {
+                    startLatch.await();
+                    return index.reserve(new Match(b, a));
+                });
+
+                startLatch.countDown();
+
+                assertTrue(first.get(5, TimeUnit.SECONDS) ^ second.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}